@@ -0,0 +1,118 @@
+#!/bin/bash
+set -euo pipefail
+
+# ============================================================================
+# ⏱️ BENCHMARK DE INICIALIZAÇÃO - jar / extraído / cache AOT / CRaC
+# ============================================================================
+# Mede o tempo (wall clock) do disparo do processo até o liveness responder 200.
+#
+# Pré-requisitos:
+#   mvn package -Pinicializacao-rapida          (modos jar, extraido, aot)
+#   mvn package -Pinicializacao-rapida,crac     (modo crac, JDK com CRaC)
+#
+# Uso: scripts/benchmark-inicializacao.sh [repeticoes] [modos...]
+#   ex.: scripts/benchmark-inicializacao.sh 5 jar aot
+# Saída: target/benchmark-inicializacao.json
+# ============================================================================
+
+REPETICOES="${1:-5}"
+shift || true
+MODOS=("$@")
+if [ ${#MODOS[@]} -eq 0 ]; then
+    MODOS=(jar extraido aot crac)
+fi
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$RAIZ/target"
+EXTRAIDO="$TARGET/aplicacao"
+PORTA="${BENCHMARK_PORTA:-18087}"
+TIMEOUT_SEGUNDOS="${BENCHMARK_TIMEOUT:-120}"
+SAIDA="$TARGET/benchmark-inicializacao.json"
+JAR="$(ls "$TARGET"/*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+
+# Evita dependência do banco e de tarefas de fundo no tempo medido
+OPCOES_APP=(
+    "--server.port=$PORTA"
+    "--logging.file.name=$TARGET/benchmark-inicializacao.log"
+    "--resultados.schema.habilitado=false"
+    "--resultados.sincronizacao.habilitado=false"
+    "--resultados.aquecimento.habilitado=false"
+    "--resultados.aquecimento.inicializacao.habilitado=false"
+)
+
+comando_modo() {
+    case "$1" in
+        jar)      [ -n "$JAR" ] && echo "java -jar $JAR" ;;
+        extraido) [ -f "$EXTRAIDO/$(basename "$JAR")" ] && echo "java -jar $EXTRAIDO/$(basename "$JAR")" ;;
+        aot)      [ -f "$EXTRAIDO/app.aot" ] && echo "java -XX:AOTCache=$EXTRAIDO/app.aot -jar $EXTRAIDO/$(basename "$JAR")" ;;
+        crac)     [ -d "$TARGET/crac" ] && echo "java -XX:CRaCRestoreFrom=$TARGET/crac" ;;
+    esac
+}
+
+medir() {
+    local comando="$1"
+    local inicio fim pid
+    inicio=$(date +%s%N)
+    if [[ "$comando" == *CRaCRestoreFrom* ]]; then
+        # A imagem restaurada mantém os argumentos do checkpoint
+        $comando > /dev/null 2>&1 &
+    else
+        (cd "$EXTRAIDO" 2>/dev/null || cd "$RAIZ"; exec $comando "${OPCOES_APP[@]}") > /dev/null 2>&1 &
+    fi
+    pid=$!
+
+    local limite=$(( $(date +%s) + TIMEOUT_SEGUNDOS ))
+    until curl -sf "http://localhost:$PORTA/actuator/health/liveness" > /dev/null 2>&1; do
+        if ! kill -0 "$pid" 2>/dev/null || [ "$(date +%s)" -ge "$limite" ]; then
+            kill "$pid" 2>/dev/null || true
+            echo "-1"
+            return
+        fi
+        sleep 0.05
+    done
+    fim=$(date +%s%N)
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    echo $(( (fim - inicio) / 1000000 ))
+}
+
+mkdir -p "$TARGET"
+echo "⏱️ Benchmark de inicialização ($REPETICOES repetições, porta $PORTA)"
+
+resultados=()
+for modo in "${MODOS[@]}"; do
+    comando="$(comando_modo "$modo" || true)"
+    if [ -z "$comando" ]; then
+        echo "⏭️  $modo: artefato não encontrado - ignorado"
+        continue
+    fi
+
+    tempos=()
+    for ((i = 1; i <= REPETICOES; i++)); do
+        ms=$(medir "$comando")
+        echo "   $modo #$i: ${ms} ms"
+        [ "$ms" -ge 0 ] && tempos+=("$ms")
+    done
+    if [ ${#tempos[@]} -eq 0 ]; then
+        echo "❌ $modo: nenhuma inicialização concluída"
+        continue
+    fi
+
+    ordenados=($(printf '%s\n' "${tempos[@]}" | sort -n))
+    n=${#ordenados[@]}
+    mediana=${ordenados[$(( n / 2 ))]}
+    resultados+=("{\"modo\":\"$modo\",\"amostras\":$n,\"minMs\":${ordenados[0]},\"medianaMs\":$mediana,\"maxMs\":${ordenados[$(( n - 1 ))]},\"temposMs\":[$(IFS=,; echo "${tempos[*]}")]}")
+    echo "✅ $modo: mediana ${mediana} ms"
+done
+
+{
+    echo "{"
+    echo "  \"data\": \"$(date -u +%Y-%m-%dT%H:%M:%SZ)\","
+    echo "  \"java\": \"$(java -version 2>&1 | head -n 1 | sed 's/"/\\"/g')\","
+    echo "  \"repeticoes\": $REPETICOES,"
+    echo "  \"modos\": [$(IFS=,; echo "${resultados[*]}")]"
+    echo "}"
+} > "$SAIDA"
+
+echo "📄 Resultado: $SAIDA"
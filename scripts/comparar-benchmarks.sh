@@ -0,0 +1,59 @@
+#!/bin/bash
+set -euo pipefail
+
+# ============================================================================
+# 📈 COMPARAÇÃO DE RESULTADOS JMH ENTRE COMMITS
+# ============================================================================
+# Uso: scripts/comparar-benchmarks.sh <base.json> <atual.json> [tolerancia_%]
+#   base.json / atual.json: saída de mvn -Pbenchmark (target/jmh-resultados.json)
+#   tolerancia_%: variação aceita antes de acusar regressão (padrão 10)
+#
+# Modos de tempo (avgt, sample, ss): maior é pior. Throughput (thrpt): menor é pior.
+# Retorna 1 quando algum benchmark regride além da tolerância (para uso no CI).
+# ============================================================================
+
+if [ $# -lt 2 ]; then
+    echo "Uso: $0 <base.json> <atual.json> [tolerancia_%]"
+    exit 2
+fi
+
+BASE="$1"
+ATUAL="$2"
+TOLERANCIA="${3:-10}"
+
+if ! command -v jq > /dev/null 2>&1; then
+    echo "❌ jq não encontrado"
+    exit 2
+fi
+
+# Chave: nome do benchmark + parâmetros (@Param)
+CHAVES='map({
+    chave: (.benchmark + (if .params then " " + (.params | to_entries | map(.key + "=" + .value) | join(",")) else "" end)),
+    modo: .mode,
+    score: .primaryMetric.score,
+    unidade: .primaryMetric.scoreUnit
+})'
+
+RELATORIO=$(jq -n -r --slurpfile base "$BASE" --slurpfile atual "$ATUAL" --argjson tolerancia "$TOLERANCIA" "
+    (\$base[0] | $CHAVES | map({(.chave): .}) | add) as \$b
+    | (\$atual[0] | $CHAVES) as \$a
+    | \$a[]
+    | . as \$x
+    | \$b[\$x.chave] as \$y
+    | if \$y == null then
+        \"NOVO      \(\$x.chave): \(\$x.score) \(\$x.unidade)\"
+      else
+        ((\$x.score - \$y.score) / \$y.score * 100) as \$delta
+        | (if \$x.modo == \"thrpt\" then -\$delta else \$delta end) as \$piora
+        | (if \$piora > \$tolerancia then \"REGRESSAO\" elif \$piora < -\$tolerancia then \"MELHORA  \" else \"ESTAVEL  \" end)
+          + \" \(\$x.chave): \(\$y.score * 1000 | round / 1000) -> \(\$x.score * 1000 | round / 1000) \(\$x.unidade) (\(\$delta * 10 | round / 10)%)\"
+      end
+")
+
+echo "$RELATORIO"
+if grep -q "^REGRESSAO" <<< "$RELATORIO"; then
+    echo "❌ Regressão acima de ${TOLERANCIA}%"
+    exit 1
+fi
+
+echo "✅ Nenhuma regressão acima de ${TOLERANCIA}%"
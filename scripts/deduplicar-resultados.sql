@@ -0,0 +1,21 @@
+-- Deduplicação de resultados por (horario, data_resultado)
+-- Execução MANUAL e revisada: apaga linhas. Não faz parte de db/migration.
+--
+-- Necessária apenas quando a V1_1 falha com 1062 (entrada duplicada) ao criar
+-- uk_horario_data. Mantém, para cada horário e data, a linha de maior id.
+-- Antes de executar: backup da tabela e conferência da contagem abaixo.
+
+-- 1. Conferir o que será removido
+SELECT r1.id, r1.horario, r1.data_resultado
+FROM resultados r1
+INNER JOIN resultados r2
+  ON r1.horario = r2.horario
+ AND r1.data_resultado = r2.data_resultado
+ AND r1.id < r2.id;
+
+-- 2. Remover (executar somente após revisar o resultado do passo 1)
+-- DELETE r1 FROM resultados r1
+-- INNER JOIN resultados r2
+--   ON r1.horario = r2.horario
+--  AND r1.data_resultado = r2.data_resultado
+--  AND r1.id < r2.id;
@@ -0,0 +1,62 @@
+package br.tec.facilitaservicos.resultados;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * Massa de dados determinística compartilhada pelos benchmarks JMH
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public final class DadosBenchmark {
+
+    private static final String[] HORARIOS = {"09:00", "11:00", "14:00", "16:00", "18:00", "21:00"};
+
+    private DadosBenchmark() {
+    }
+
+    /**
+     * Gera resultados completos (7 números de 2 dígitos, soma e auditoria preenchidas)
+     * @param quantidade Quantidade de resultados
+     * @param semente Semente do gerador
+     * @return Lista de entidades
+     */
+    public static List<ResultadoR2dbc> resultados(int quantidade, long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        LocalDate hoje = LocalDate.of(2024, 6, 1);
+        LocalDateTime auditoria = hoje.atTime(12, 0);
+        List<ResultadoR2dbc> resultados = new ArrayList<>(quantidade);
+
+        for (int i = 0; i < quantidade; i++) {
+            String[] n = new String[7];
+            for (int j = 0; j < 7; j++) {
+                n[j] = String.format("%02d", random.nextInt(100));
+            }
+            ResultadoR2dbc resultado = new ResultadoR2dbc(HORARIOS[i % HORARIOS.length],
+                n[0], n[1], n[2], n[3], n[4], n[5], n[6], hoje.minusDays(i / HORARIOS.length));
+            resultado.setId((long) i + 1);
+            resultado.setCriadoEm(auditoria);
+            resultado.setAtualizadoEm(auditoria);
+            resultados.add(resultado);
+        }
+        return resultados;
+    }
+
+    /**
+     * Linhas no formato de {@code findEstatisticasFrequenciaNumeros}: [numero, frequencia]
+     */
+    public static List<Object[]> linhasFrequencia(int quantidade) {
+        List<Object[]> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            linhas.add(new Object[] {String.format("%02d", i % 100), (long) (10_000 - i * 7)});
+        }
+        return linhas;
+    }
+}
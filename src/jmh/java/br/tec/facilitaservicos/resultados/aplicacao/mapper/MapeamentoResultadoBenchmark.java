@@ -0,0 +1,57 @@
+package br.tec.facilitaservicos.resultados.aplicacao.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * Mapeamento entidade → DTO e métodos de negócio da entidade no caminho quente
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapeamentoResultadoBenchmark {
+
+    private final ResultadoMapper mapper = new ResultadoMapper();
+    private List<ResultadoR2dbc> resultados;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        resultados = DadosBenchmark.resultados(1024, 42L);
+    }
+
+    private ResultadoR2dbc proximo() {
+        indice = (indice + 1) & 1023;
+        return resultados.get(indice);
+    }
+
+    @Benchmark
+    public ResultadoDto paraDto() {
+        return mapper.paraDto(proximo());
+    }
+
+    @Benchmark
+    public List<String> obterNumeros() {
+        return proximo().obterNumeros();
+    }
+
+    @Benchmark
+    public void calcularSoma(Blackhole blackhole) {
+        ResultadoR2dbc resultado = proximo();
+        resultado.calcularSoma();
+        blackhole.consume(resultado.getSoma());
+    }
+}
@@ -0,0 +1,44 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+
+/**
+ * Consultas analíticas do {@link ArmazemColunarResultados} sobre {@value #SORTEIOS}
+ * resultados: histograma de somas e busca por número (frequências do ranking
+ * em {@link ConferenciaBenchmark})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArmazemColunarBenchmark {
+
+    private static final int SORTEIOS = 1_000_000;
+
+    private ArmazemColunarResultados armazem;
+
+    @Setup
+    public void preparar() {
+        armazem = new ArmazemColunarResultados();
+        armazem.aplicar(DadosBenchmark.resultados(SORTEIOS, 42L));
+    }
+
+    @Benchmark
+    public long[] histogramaSomas() {
+        return armazem.histogramaSomas(null, null);
+    }
+
+    @Benchmark
+    public ArmazemColunarResultados.PaginaBusca buscaPorNumero() {
+        return armazem.buscarPorNumero(42, 0, 20);
+    }
+}
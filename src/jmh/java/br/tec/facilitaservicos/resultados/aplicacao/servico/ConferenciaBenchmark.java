@@ -0,0 +1,71 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * Conferência de uma aposta e frequências do ranking sobre {@value #SORTEIOS}
+ * sorteios em memória. {@link OperationsPerInvocation} reporta a vazão em
+ * sorteios processados/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConferenciaBenchmark {
+
+    private static final int SORTEIOS = 100_000;
+
+    private static final int[] APOSTA_SENA = {4, 17, 23, 38, 51, 60};
+    private static final int[] APOSTA_LARGA = {1, 9, 14, 22, 27, 33, 45, 58, 63, 64, 70, 77, 81, 86, 90, 99};
+
+    private static final LocalDate FIM = LocalDate.of(2024, 6, 1);
+    private static final LocalDate INICIO = FIM.minusDays(90);
+
+    private ConferenciaResultados conferencia;
+
+    @Setup
+    public void preparar() {
+        List<ResultadoR2dbc> resultados = DadosBenchmark.resultados(SORTEIOS, 42L);
+        ArmazemColunarResultados armazem = new ArmazemColunarResultados();
+        armazem.aplicar(resultados);
+        conferencia = new ConferenciaResultados(armazem, KernelsContagem.selecionar("auto"));
+        conferencia.aplicar(resultados);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public ConferenciaDto apostaSeisNumeros() {
+        return conferencia.conferir(APOSTA_SENA, 3, 50);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public ConferenciaDto apostaDezesseisNumeros() {
+        return conferencia.conferir(APOSTA_LARGA, 5, 50);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public long[] frequenciasHistoricoCompleto() {
+        return conferencia.frequencias(null, null);
+    }
+
+    @Benchmark
+    public long[] frequenciasNoventaDias() {
+        return conferencia.frequencias(INICIO, FIM);
+    }
+}
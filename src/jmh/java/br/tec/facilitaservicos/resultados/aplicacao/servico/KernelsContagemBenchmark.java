@@ -0,0 +1,84 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * Kernels escalares x Vector API sobre {@value #SORTEIOS} sorteios.
+ * {@link OperationsPerInvocation} reporta a vazão em sorteios/s; a razão
+ * entre os parâmetros "vetorial" e "escalar" é o ganho do SIMD nesta máquina.
+ * O perfil benchmark já passa {@code --add-modules jdk.incubator.vector}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KernelsContagemBenchmark {
+
+    private static final int SORTEIOS = 100_000;
+
+    @Param({"escalar", "vetorial"})
+    public String modo;
+
+    private KernelsContagem kernels;
+    private final long[] baixas = new long[SORTEIOS];
+    private final long[] altas = new long[SORTEIOS];
+    private final int[] acertos = new int[SORTEIOS];
+    private final int[] porAcertos = new int[8];
+    private final long[] frequencias = new long[100];
+
+    // Aposta de 16 números espalhada nas duas metades da bitmask
+    private final long apostaBaixa = (1L << 1) | (1L << 9) | (1L << 14) | (1L << 22) | (1L << 27)
+        | (1L << 33) | (1L << 45) | (1L << 58) | (1L << 63);
+    private final long apostaAlta = 1L | (1L << 6) | (1L << 13) | (1L << 17) | (1L << 22) | (1L << 26) | (1L << 35);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        kernels = KernelsContagem.selecionar(modo);
+        if (!kernels.getClass().getSimpleName().toLowerCase(Locale.ROOT).endsWith(modo)) {
+            throw new IllegalStateException("Kernels " + modo + " indisponíveis nesta JVM");
+        }
+        List<ResultadoR2dbc> resultados = DadosBenchmark.resultados(SORTEIOS, 42L);
+        for (int i = 0; i < SORTEIOS; i++) {
+            ConferenciaResultados.preencherMascara(resultados.get(i).obterNumeros(), baixas, altas, i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public int[] acertosPorSorteio() {
+        kernels.acertosPorSorteio(baixas, altas, 0, SORTEIOS, apostaBaixa, apostaAlta, acertos);
+        return acertos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public int[] histogramaAcertos() {
+        Arrays.fill(porAcertos, 0);
+        kernels.histogramaAcertos(baixas, altas, 0, SORTEIOS, apostaBaixa, apostaAlta, porAcertos);
+        return porAcertos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SORTEIOS)
+    public long[] frequencias() {
+        Arrays.fill(frequencias, 0);
+        kernels.frequencias(baixas, altas, 0, SORTEIOS, frequencias);
+        return frequencias;
+    }
+}
@@ -0,0 +1,92 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.RankingDto;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.infraestrutura.ConsultaProjecaoResultados;
+import reactor.core.publisher.Flux;
+
+/**
+ * Montagem do ranking em {@link ResultadoService#buscarRanking(Integer, Integer)}
+ * sobre um repositório em memória: sem cache (conversão das linhas) e com cache quente
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingBenchmark {
+
+    private static final int LIMITE = 50;
+
+    private ResultadoService semCache;
+    private ResultadoService comCache;
+
+    @Setup
+    public void preparar() {
+        List<Object[]> linhas = DadosBenchmark.linhasFrequencia(LIMITE);
+        RepositorioResultadoR2dbc repositorio = (RepositorioResultadoR2dbc) Proxy.newProxyInstance(
+            RepositorioResultadoR2dbc.class.getClassLoader(),
+            new Class<?>[] {RepositorioResultadoR2dbc.class},
+            (proxy, metodo, args) -> {
+                if (metodo.getName().equals("findEstatisticasFrequenciaNumeros")) {
+                    return Flux.fromIterable(linhas);
+                }
+                throw new UnsupportedOperationException(metodo.getName());
+            });
+
+        semCache = criarServico(repositorio, new CacheConsultasResultados(vazio(), vazio(), vazio()));
+
+        StaticListableBeanFactory fabrica = new StaticListableBeanFactory();
+        fabrica.addBean("cacheRanking", Caffeine.newBuilder().maximumSize(100).build());
+        comCache = criarServico(repositorio, new CacheConsultasResultados(vazio(), provedor(fabrica), vazio()));
+    }
+
+    @Benchmark
+    public List<RankingDto> rankingSemCache() {
+        return semCache.buscarRanking(null, LIMITE).collectList().block();
+    }
+
+    @Benchmark
+    public List<RankingDto> rankingComCacheQuente() {
+        return comCache.buscarRanking(null, LIMITE).collectList().block();
+    }
+
+    private static ResultadoService criarServico(RepositorioResultadoR2dbc repositorio, CacheConsultasResultados cache) {
+        ResultadoMapper mapper = new ResultadoMapper();
+        ArmazemColunarResultados armazem = new ArmazemColunarResultados();
+        // Ranking não usa a projeção; conferência não carregada mantém o caminho SQL
+        return new ResultadoService(repositorio, mapper,
+            new IndiceUltimoResultadoPorHorario(repositorio, mapper),
+            new ConsultaProjecaoResultados(null), cache,
+            armazem,
+            new ConferenciaResultados(armazem, KernelsContagem.selecionar("escalar")),
+            new ServicoDataHoraAtual(), WebClient.builder());
+    }
+
+    private static <T> ObjectProvider<T> vazio() {
+        return provedor(new StaticListableBeanFactory());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ObjectProvider<T> provedor(StaticListableBeanFactory fabrica) {
+        return (ObjectProvider) fabrica.getBeanProvider(Cache.class);
+    }
+}
@@ -0,0 +1,66 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Validação de listas de números: fachada reativa ({@code ServicoValidacaoLoteria})
+ * direta e via manager/factory, como nos endpoints de loteria, e o motor
+ * síncrono sobre {@code int[]} (caminho de validação em lote)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidacaoNumerosBenchmark {
+
+    private final List<Integer> megaSena = List.of(42, 7, 13, 58, 1, 33);
+    private final List<Integer> lotofacil = List.of(1, 3, 5, 7, 9, 11, 13, 15, 17, 19, 21, 23, 25, 2, 4);
+    private final List<Integer> invalida = List.of(1, 2, 3, 4, 5, 5);
+    private final int[] megaSenaPrimitivo = {42, 7, 13, 58, 1, 33};
+    private final int[] quinaPrimitivo = {80, 64, 3, 79, 12, 41, 66};
+
+    private ServicoValidacaoMegaSena validadorMegaSena;
+    private ServicoValidacaoLoteriaManager manager;
+
+    @Setup
+    public void preparar() {
+        validadorMegaSena = new ServicoValidacaoMegaSena();
+        manager = new ServicoValidacaoLoteriaManager(new ValidadorLoteriaFactory(List.of(
+            validadorMegaSena, new ServicoValidacaoQuina(), new ServicoValidacaoLotofacil())));
+    }
+
+    @Benchmark
+    public String megaSenaDireto() {
+        return validadorMegaSena.validarListaNumeros(megaSena).block();
+    }
+
+    @Benchmark
+    public String lotofacilViaManager() {
+        return manager.validarNumerosParaModalidade("lotofacil", lotofacil).block();
+    }
+
+    @Benchmark
+    public String megaSenaDuplicados() {
+        return validadorMegaSena.validarListaNumeros(invalida)
+            .onErrorReturn("")
+            .block();
+    }
+
+    @Benchmark
+    public int megaSenaMotorVerificar() {
+        return MotorValidacaoLoteria.verificar(MotorValidacaoLoteria.MEGA_SENA, megaSenaPrimitivo, megaSenaPrimitivo.length);
+    }
+
+    @Benchmark
+    public String quinaMotorValidar() {
+        return MotorValidacaoLoteria.validar(MotorValidacaoLoteria.QUINA, quinaPrimitivo, quinaPrimitivo.length);
+    }
+}
@@ -0,0 +1,57 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+
+/**
+ * Serialização JSON de {@code PaginacaoDto<ResultadoDto>} com a mesma
+ * configuração Jackson do application.yml (datas ISO, sem nulos)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoPaginacaoBenchmark {
+
+    @Param({"20", "100"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private PaginacaoDto<ResultadoDto> pagina;
+
+    @Setup
+    public void preparar() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        ResultadoMapper mapper = new ResultadoMapper();
+        List<ResultadoDto> conteudo = DadosBenchmark.resultados(tamanhoPagina, 7L).stream()
+            .map(mapper::paraDto)
+            .toList();
+        pagina = PaginacaoDto.criar(conteudo, 0, tamanhoPagina, 10_000L);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+}
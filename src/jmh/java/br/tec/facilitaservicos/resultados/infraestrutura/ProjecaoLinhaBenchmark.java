@@ -0,0 +1,163 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import br.tec.facilitaservicos.resultados.DadosBenchmark;
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+
+/**
+ * Linha R2DBC → ResultadoDto: conversor reflexivo do Spring Data + mapper
+ * (caminho do repositório) contra a projeção escrita à mão
+ * ({@link ConsultaProjecaoResultados#paraDto}). Rodar com -prof gc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjecaoLinhaBenchmark {
+
+    private static final String[] COLUNAS = ConsultaProjecaoResultados.COLUNAS.split(",\\s*");
+
+    private final MappingR2dbcConverter conversor = new MappingR2dbcConverter(new R2dbcMappingContext());
+    private final ResultadoMapper mapper = new ResultadoMapper();
+    private final MetadadosEmMemoria metadados = new MetadadosEmMemoria();
+    private List<LinhaEmMemoria> linhas;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        linhas = new ArrayList<>(1024);
+        for (ResultadoR2dbc r : DadosBenchmark.resultados(1024, 42L)) {
+            linhas.add(new LinhaEmMemoria(metadados, new Object[] {
+                r.getId(), r.getHorario(), r.getPrimeiro(), r.getSegundo(), r.getTerceiro(), r.getQuarto(),
+                r.getQuinto(), r.getSexto(), r.getSetimo(), r.getSoma(), r.getDataResultado(),
+                r.getCriadoEm(), r.getAtualizadoEm()
+            }));
+        }
+    }
+
+    private LinhaEmMemoria proxima() {
+        indice = (indice + 1) & 1023;
+        return linhas.get(indice);
+    }
+
+    @Benchmark
+    public ResultadoDto entidadeMaisMapper() {
+        LinhaEmMemoria linha = proxima();
+        return mapper.paraDto(conversor.read(ResultadoR2dbc.class, linha, metadados));
+    }
+
+    @Benchmark
+    public ResultadoDto projecaoDireta() {
+        return ConsultaProjecaoResultados.paraDto(proxima());
+    }
+
+    // ========================================================================
+    // Linha e metadados em memória (mesmos tipos Java do driver MySQL)
+    // ========================================================================
+
+    private record LinhaEmMemoria(RowMetadata metadados, Object[] valores) implements Row {
+
+        @Override
+        public RowMetadata getMetadata() {
+            return metadados;
+        }
+
+        @Override
+        public <T> T get(int indice, Class<T> tipo) {
+            return tipo.cast(valores[indice]);
+        }
+
+        @Override
+        public <T> T get(String nome, Class<T> tipo) {
+            for (int i = 0; i < COLUNAS.length; i++) {
+                if (COLUNAS[i].equalsIgnoreCase(nome)) {
+                    return get(i, tipo);
+                }
+            }
+            throw new NoSuchElementException(nome);
+        }
+    }
+
+    private static final class MetadadosEmMemoria implements RowMetadata {
+
+        private final List<ColumnMetadata> colunas = new ArrayList<>();
+
+        MetadadosEmMemoria() {
+            for (int i = 0; i < COLUNAS.length; i++) {
+                colunas.add(new Coluna(COLUNAS[i], tipo(i)));
+            }
+        }
+
+        private static Type tipo(int indice) {
+            return switch (indice) {
+                case 0 -> R2dbcType.BIGINT;
+                case 10 -> R2dbcType.DATE;
+                case 11, 12 -> R2dbcType.TIMESTAMP;
+                default -> R2dbcType.VARCHAR;
+            };
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int indice) {
+            return colunas.get(indice);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String nome) {
+            for (ColumnMetadata coluna : colunas) {
+                if (coluna.getName().equalsIgnoreCase(nome)) {
+                    return coluna;
+                }
+            }
+            throw new NoSuchElementException(nome);
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return colunas;
+        }
+
+        @Override
+        public boolean contains(String nome) {
+            for (ColumnMetadata coluna : colunas) {
+                if (coluna.getName().equalsIgnoreCase(nome)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Coluna(String nome, Type tipo) implements ColumnMetadata {
+
+        @Override
+        public String getName() {
+            return nome;
+        }
+
+        @Override
+        public Type getType() {
+            return tipo;
+        }
+    }
+}
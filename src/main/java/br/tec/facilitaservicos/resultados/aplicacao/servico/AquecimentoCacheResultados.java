@@ -0,0 +1,201 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * ============================================================================
+ * 🔥 AQUECIMENTO DE CACHE EM TORNO DOS HORÁRIOS DE SORTEIO
+ * ============================================================================
+ *
+ * O tráfego dispara logo após cada horário de sorteio; sem aquecimento, a
+ * primeira onda de requisições encontra o cache vazio e vai toda ao MySQL.
+ *
+ * - Agenda disparos em {@code horario + atraso} para os horários ativos do dia
+ *   ({@code findHorariosPorData}) e os recentes da sincronização incremental
+ * - Em cada disparo: sincroniza o delta, invalida e recarrega as entradas
+ *   principais (último por horário, /hoje, /estatisticas e ranking padrão)
+ * - Deltas fora do agendamento também disparam o reaquecimento; solicitações
+ *   acumuladas durante um aquecimento são coalescidas em uma única execução
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Service
+public class AquecimentoCacheResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(AquecimentoCacheResultados.class);
+    private static final int SEGUNDOS_DIA = 24 * 60 * 60;
+    private static final Duration REVISAO_SEM_HORARIOS = Duration.ofHours(1);
+
+    private final ResultadoService resultadoService;
+    private final CacheConsultasResultados cache;
+    private final SincronizacaoIncrementalResultados sincronizacao;
+    private final ServicoDataHoraAtual dataHoraAtual;
+
+    private final Sinks.Many<Boolean> solicitacoes = Sinks.many().unicast().onBackpressureBuffer();
+
+    @Value("${resultados.aquecimento.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${resultados.aquecimento.atrasos:15,60,300}")
+    private int[] atrasosSegundos = {15, 60, 300};
+
+    @Value("${resultados.aquecimento.tamanho-pagina:20}")
+    private int tamanhoPagina = 20;
+
+    @Value("${resultados.aquecimento.limite-ranking:50}")
+    private int limiteRanking = 50;
+
+    @Value("${resultados.aquecimento.timeout:30}")
+    private int timeoutSegundos = 30;
+
+    private Disposable ciclo;
+    private Disposable reaquecimento;
+
+    public AquecimentoCacheResultados(ResultadoService resultadoService,
+                                      CacheConsultasResultados cache,
+                                      SincronizacaoIncrementalResultados sincronizacao,
+                                      ServicoDataHoraAtual dataHoraAtual) {
+        this.resultadoService = resultadoService;
+        this.cache = cache;
+        this.sincronizacao = sincronizacao;
+        this.dataHoraAtual = dataHoraAtual;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado) {
+            logger.info("🔥 Aquecimento de cache desabilitado");
+            return;
+        }
+
+        reaquecimento = Flux.merge(cache.invalidacoes().map(total -> Boolean.TRUE), solicitacoes.asFlux())
+            .onBackpressureLatest()
+            .concatMap(solicitacao -> aquecer()
+                .onErrorResume(e -> {
+                    logger.warn("⚠️ Falha no aquecimento de cache: {}", e.getMessage());
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+
+        ciclo = sincronizacao.aguardarCargaInicial()
+            .then(Mono.fromRunnable(this::solicitarAquecimento))
+            .thenMany(Mono.defer(this::proximoDisparo)
+                .flatMap(Mono::delay)
+                .then(sincronizacao.sincronizar().onErrorReturn(0))
+                .doOnNext(total -> {
+                    // Com delta, a invalidação já disparou o reaquecimento
+                    if (total == 0) {
+                        cache.invalidarTudo();
+                        solicitarAquecimento();
+                    }
+                })
+                .onErrorResume(e -> {
+                    logger.warn("⚠️ Falha no agendamento do aquecimento: {}", e.getMessage());
+                    return Mono.delay(REVISAO_SEM_HORARIOS).thenReturn(0);
+                })
+                .repeat())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (ciclo != null) {
+            ciclo.dispose();
+        }
+        if (reaquecimento != null) {
+            reaquecimento.dispose();
+        }
+    }
+
+    /**
+     * Agenda um reaquecimento (coalescido com solicitações pendentes)
+     */
+    public void solicitarAquecimento() {
+        solicitacoes.emitNext(Boolean.TRUE, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    /**
+     * Carrega as entradas principais no cache.
+     * O último resultado por horário normalmente já vem do índice em memória;
+     * a chamada cobre o período em que o índice ainda não está carregado.
+     * @return Mono concluído quando todas as entradas estiverem em cache
+     */
+    public Mono<Void> aquecer() {
+        long inicio = System.nanoTime();
+        Mono<Void> ultimos = horariosAtivos()
+            .flatMapMany(Flux::fromIterable)
+            .flatMap(horario -> resultadoService.buscarUltimoPorHorario(horario.toString()))
+            .then();
+
+        return Mono.when(
+                ultimos,
+                resultadoService.buscarResultadosHoje(0, tamanhoPagina),
+                resultadoService.buscarEstatisticas(),
+                resultadoService.buscarRanking(null, limiteRanking).then())
+            .timeout(Duration.ofSeconds(timeoutSegundos))
+            .doOnSuccess(v -> logger.debug("🔥 Cache aquecido em {} ms",
+                Duration.ofNanos(System.nanoTime() - inicio).toMillis()));
+    }
+
+    private Mono<Set<LocalTime>> horariosAtivos() {
+        return resultadoService.buscarHorariosPorData(dataHoraAtual.dataHoje())
+            .collectList()
+            .map(doDia -> {
+                Set<LocalTime> horarios = new HashSet<>(sincronizacao.getHorariosConhecidos());
+                for (String horario : doDia) {
+                    if (horario == null) {
+                        continue;
+                    }
+                    try {
+                        horarios.add(LocalTime.parse(horario));
+                    } catch (DateTimeParseException e) {
+                        logger.debug("Horário fora do formato HH:mm ignorado: {}", horario);
+                    }
+                }
+                return horarios;
+            });
+    }
+
+    private Mono<Duration> proximoDisparo() {
+        return horariosAtivos()
+            .map(horarios -> calcularProximoDisparo(dataHoraAtual.agora().toLocalTime(), horarios, atrasosSegundos))
+            .doOnNext(espera -> logger.debug("🔥 Próximo aquecimento em {}", espera));
+    }
+
+    /**
+     * Menor espera até {@code horario + atraso} para qualquer horário e atraso, com
+     * volta à meia-noite; sem horários conhecidos, revisa a agenda a cada hora.
+     */
+    static Duration calcularProximoDisparo(LocalTime agora, Collection<LocalTime> horarios, int[] atrasosSegundos) {
+        long agoraSeg = agora.toSecondOfDay();
+        long menor = Long.MAX_VALUE;
+
+        for (LocalTime horario : horarios) {
+            for (int atraso : atrasosSegundos) {
+                long espera = Math.floorMod(horario.toSecondOfDay() + atraso - agoraSeg, SEGUNDOS_DIA);
+                menor = Math.min(menor, espera == 0 ? SEGUNDOS_DIA : espera);
+            }
+        }
+        return menor == Long.MAX_VALUE ? REVISAO_SEM_HORARIOS : Duration.ofSeconds(menor);
+    }
+}
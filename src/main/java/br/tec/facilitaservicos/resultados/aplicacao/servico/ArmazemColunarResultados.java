@@ -0,0 +1,464 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.NumerosSorteados;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * ============================================================================
+ * 🧱 ARMAZÉM COLUNAR DE RESULTADOS (ANALÍTICO)
+ * ============================================================================
+ *
+ * Todos os resultados em colunas primitivas, ordenadas por id:
+ * - {@code long[]} id, {@code int[]} data (epoch day), {@code byte[]} código do horário
+ * - sete {@code byte[]} de números (0–99, -1 quando ausente/inválido)
+ * - {@code short[]} soma
+ *
+ * ~23 bytes por resultado: alguns milhões cabem em dezenas de MB. Resumo das
+ * estatísticas, histograma de somas e busca por número são varreduras
+ * sequenciais sobre as colunas, sem ir ao banco; as frequências do ranking
+ * vêm dos {@link KernelsContagem} da {@link ConferenciaResultados}.
+ *
+ * Escrita única (sincronizada) e leitura sem lock: cada consulta usa o
+ * instantâneo {@link Colunas} publicado em campo volatile. Novos ids são
+ * anexados ao fim (caminho normal, ids crescentes), além do tamanho que os
+ * leitores enxergam. Linhas já publicadas nunca são regravadas: um lote com
+ * correção (raro) copia as colunas uma vez e publica o novo instantâneo, então
+ * uma varredura concorrente vê a linha antiga ou a nova, inteira. Id fora de
+ * ordem (raro) também copia as colunas, com a linha inserida.
+ *
+ * Primeiro consumidor dos deltas: a {@link ConferenciaResultados} monta aqui,
+ * pelo id ({@link #buscarPorId}), os resultados que devolve.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ArmazemColunarResultados implements ConsumidorAtualizacaoResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArmazemColunarResultados.class);
+
+    static final int QUANTIDADE_NUMEROS = 7;
+    static final int NUMERO_MAXIMO = 99;
+    static final int SOMA_MAXIMA = QUANTIDADE_NUMEROS * NUMERO_MAXIMO;
+
+    private static final byte AUSENTE = -1;
+    private static final short SOMA_INVALIDA = -1;
+    private static final int SEM_DATA = Integer.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1 << 12;
+    private static final int HORARIOS_MAXIMOS = Byte.MAX_VALUE + 1;
+
+    /** Linha ocupa 24 bits da chave de ordenação da busca */
+    static final int LINHAS_MAXIMAS = 1 << 24;
+
+    private static final String[] DOIS_DIGITOS = new String[NUMERO_MAXIMO + 1];
+
+    static {
+        for (int i = 0; i <= NUMERO_MAXIMO; i++) {
+            DOIS_DIGITOS[i] = i < 10 ? "0" + i : Integer.toString(i);
+        }
+    }
+
+    /** Código de cada horário (acesso só do escritor) */
+    private final Map<String, Byte> codigosHorario = new HashMap<>();
+
+    /** Nome de cada código; gravado antes de o código aparecer em uma linha publicada */
+    private final String[] nomesHorario = new String[HORARIOS_MAXIMOS];
+
+    private volatile Colunas colunas = Colunas.vazias(CAPACIDADE_INICIAL);
+    private volatile boolean carregado;
+
+    @Override
+    public boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        // Histórico em ordem de id: a carga inteira segue pelo caminho de anexação
+        aplicar(historico);
+        carregado = true;
+        Colunas atual = colunas;
+        logger.info("🧱 Armazém colunar carregado: {} resultados, ~{} KB",
+            atual.tamanho, atual.bytesOcupados() / 1024);
+        return true;
+    }
+
+    @Override
+    public synchronized void aplicar(List<ResultadoR2dbc> delta) {
+        Colunas atual = colunas;
+        int tamanho = atual.tamanho;
+        // Linhas [0, publicadas) podem estar em leitura: só são gravadas em uma cópia
+        int publicadas = atual.tamanho;
+        boolean copiadas = false;
+        List<ResultadoR2dbc> foraDeOrdem = null;
+
+        for (ResultadoR2dbc entidade : delta) {
+            Long id = entidade.getId();
+            if (id == null) {
+                continue;
+            }
+            int posicao = Arrays.binarySearch(atual.ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                if (!copiadas && posicao < publicadas) {
+                    atual = atual.copiar(atual.ids.length, tamanho, tamanho, tamanho);
+                    copiadas = true;
+                }
+                gravar(atual, posicao, entidade);
+            } else if (-posicao - 1 == tamanho) {
+                if (tamanho == LINHAS_MAXIMAS) {
+                    throw new IllegalStateException("Armazém colunar excede " + LINHAS_MAXIMAS + " resultados");
+                }
+                if (tamanho == atual.ids.length) {
+                    atual = atual.copiar(Math.max(CAPACIDADE_INICIAL, tamanho * 2), tamanho, tamanho, tamanho);
+                    copiadas = true;
+                }
+                gravar(atual, tamanho++, entidade);
+            } else {
+                if (foraDeOrdem == null) {
+                    foraDeOrdem = new ArrayList<>();
+                }
+                foraDeOrdem.add(entidade);
+            }
+        }
+        atual = atual.comTamanho(tamanho);
+
+        if (foraDeOrdem != null) {
+            for (ResultadoR2dbc entidade : foraDeOrdem) {
+                int posicao = Arrays.binarySearch(atual.ids, 0, atual.tamanho, entidade.getId());
+                if (posicao >= 0) {
+                    if (!copiadas && posicao < publicadas) {
+                        atual = atual.copiar(atual.ids.length, atual.tamanho, atual.tamanho, atual.tamanho);
+                        copiadas = true;
+                    }
+                    gravar(atual, posicao, entidade);
+                    continue;
+                }
+                if (atual.tamanho == LINHAS_MAXIMAS) {
+                    throw new IllegalStateException("Armazém colunar excede " + LINHAS_MAXIMAS + " resultados");
+                }
+                int insercao = -posicao - 1;
+                // Cópia com lacuna: leitores do instantâneo anterior não veem o deslocamento
+                Colunas copia = atual.copiar(Math.max(atual.ids.length, atual.tamanho + 1),
+                    atual.tamanho, insercao, insercao + 1);
+                gravar(copia, insercao, entidade);
+                atual = copia.comTamanho(atual.tamanho + 1);
+                copiadas = true;
+            }
+        }
+        colunas = atual;
+    }
+
+    /**
+     * Verifica se a carga inicial foi concluída
+     */
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    /**
+     * Resumo para as estatísticas gerais em uma única varredura
+     * @param hoje Data de referência dos horários ativos
+     * @param diasRecentes Janela de fallback dos horários quando não há resultado hoje
+     */
+    public Resumo resumir(LocalDate hoje, int diasRecentes) {
+        Colunas c = colunas;
+        int n = c.tamanho;
+        int diaHoje = (int) hoje.toEpochDay();
+        int diaRecente = diaHoje - diasRecentes;
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        long horariosHoje0 = 0L;
+        long horariosHoje1 = 0L;
+        long horariosRecentes0 = 0L;
+        long horariosRecentes1 = 0L;
+
+        for (int i = 0; i < n; i++) {
+            int dia = c.dias[i];
+            if (dia == SEM_DATA) {
+                continue;
+            }
+            minimo = Math.min(minimo, dia);
+            maximo = Math.max(maximo, dia);
+            if (dia >= diaRecente) {
+                int codigo = c.horarios[i];
+                long bit = 1L << (codigo & 63);
+                if (codigo < 64) {
+                    horariosRecentes0 |= bit;
+                    horariosHoje0 |= dia == diaHoje ? bit : 0L;
+                } else {
+                    horariosRecentes1 |= bit;
+                    horariosHoje1 |= dia == diaHoje ? bit : 0L;
+                }
+            }
+        }
+
+        List<String> horariosAtivos = (horariosHoje0 | horariosHoje1) != 0
+            ? horariosDosBits(horariosHoje0, horariosHoje1)
+            : horariosDosBits(horariosRecentes0, horariosRecentes1);
+        return new Resumo(n,
+            minimo == Integer.MAX_VALUE ? null : LocalDate.ofEpochDay(minimo),
+            maximo == Integer.MIN_VALUE ? null : LocalDate.ofEpochDay(maximo),
+            horariosAtivos);
+    }
+
+    /**
+     * Quantidade de resultados por soma (índice 0–{@value #SOMA_MAXIMA}) no período
+     * @param inicio Data inicial (null = sem limite)
+     * @param fim Data final (null = sem limite)
+     */
+    public long[] histogramaSomas(LocalDate inicio, LocalDate fim) {
+        Colunas c = colunas;
+        int n = c.tamanho;
+        int de = diaInicial(inicio, fim);
+        int ate = diaFinal(fim);
+        // Última posição recebe as somas inválidas e é descartada
+        long[] histograma = new long[SOMA_MAXIMA + 2];
+        int[] dias = c.dias;
+        short[] somas = c.somas;
+        for (int i = 0; i < n; i++) {
+            int dia = dias[i];
+            if (dia >= de && dia <= ate) {
+                int soma = somas[i];
+                histograma[soma < 0 ? SOMA_MAXIMA + 1 : soma]++;
+            }
+        }
+        return Arrays.copyOf(histograma, SOMA_MAXIMA + 1);
+    }
+
+    /**
+     * Resultados com o número em qualquer posição, do mais recente ao mais antigo
+     * @param numero Número buscado (0–99)
+     * @param deslocamento Resultados a pular
+     * @param limite Máximo de resultados
+     */
+    public PaginaBusca buscarPorNumero(int numero, long deslocamento, int limite) {
+        if (numero < 0 || numero > NUMERO_MAXIMO) {
+            throw new IllegalArgumentException("Número deve estar entre 0 e " + NUMERO_MAXIMO);
+        }
+        Colunas c = colunas;
+        int n = c.tamanho;
+        byte alvo = (byte) numero;
+        int[] postoHorario = postosHorario();
+
+        long[] chaves = new long[Math.max(16, n / 8)];
+        int encontrados = 0;
+        byte[][] col = c.numeros;
+        for (int i = 0; i < n; i++) {
+            if (col[0][i] == alvo || col[1][i] == alvo || col[2][i] == alvo || col[3][i] == alvo
+                    || col[4][i] == alvo || col[5][i] == alvo || col[6][i] == alvo) {
+                if (encontrados == chaves.length) {
+                    chaves = Arrays.copyOf(chaves, chaves.length * 2);
+                }
+                // data | posto do horário | linha (id crescente desempata)
+                chaves[encontrados++] = ((long) c.dias[i] << 32) | ((long) postoHorario[c.horarios[i]] << 24) | i;
+            }
+        }
+        Arrays.sort(chaves, 0, encontrados);
+
+        List<ResultadoDto> pagina = new ArrayList<>((int) Math.max(0, Math.min(limite, encontrados - deslocamento)));
+        for (long k = encontrados - 1 - deslocamento; k >= 0 && pagina.size() < limite; k--) {
+            pagina.add(paraDto(c, (int) (chaves[(int) k] & (LINHAS_MAXIMAS - 1))));
+        }
+        return new PaginaBusca(pagina, encontrados);
+    }
+
+    /**
+     * Sem filtro inclui resultados sem data; com qualquer filtro, só os datados
+     */
+    private static int diaInicial(LocalDate inicio, LocalDate fim) {
+        if (inicio != null) {
+            return (int) inicio.toEpochDay();
+        }
+        return fim == null ? SEM_DATA : SEM_DATA + 1;
+    }
+
+    private static int diaFinal(LocalDate fim) {
+        return fim != null ? (int) fim.toEpochDay() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Resultado montado das colunas pelo id
+     * @return null se o id não estiver no armazém
+     */
+    public ResultadoDto buscarPorId(long id) {
+        Colunas c = colunas;
+        int linha = Arrays.binarySearch(c.ids, 0, c.tamanho, id);
+        return linha >= 0 ? paraDto(c, linha) : null;
+    }
+
+    private ResultadoDto paraDto(Colunas c, int linha) {
+        byte[][] col = c.numeros;
+        int soma = c.somas[linha];
+        int dia = c.dias[linha];
+        return ResultadoDto.completo(
+            c.ids[linha],
+            nomesHorario[c.horarios[linha]],
+            NumerosSorteados.de(texto(col[0][linha]), texto(col[1][linha]), texto(col[2][linha]),
+                texto(col[3][linha]), texto(col[4][linha]), texto(col[5][linha]), texto(col[6][linha])),
+            soma < 0 ? null : Integer.toString(soma),
+            dia == SEM_DATA ? null : LocalDate.ofEpochDay(dia),
+            null,
+            null);
+    }
+
+    private static String texto(byte numero) {
+        return numero < 0 ? null : DOIS_DIGITOS[numero];
+    }
+
+    /**
+     * Número com dois dígitos ("07"), como gravado nas colunas do banco
+     */
+    public static String formatarNumero(int numero) {
+        return DOIS_DIGITOS[numero];
+    }
+
+    private void gravar(Colunas c, int linha, ResultadoR2dbc entidade) {
+        c.ids[linha] = entidade.getId();
+        c.dias[linha] = entidade.getDataResultado() != null ? (int) entidade.getDataResultado().toEpochDay() : SEM_DATA;
+        c.horarios[linha] = codigoHorario(entidade.getHorario());
+
+        List<String> numeros = entidade.obterNumeros();
+        int soma = 0;
+        for (int j = 0; j < QUANTIDADE_NUMEROS; j++) {
+            int valor = j < numeros.size() ? NumerosSorteados.converter(numeros.get(j)) : -1;
+            byte codigo = valor >= 0 && valor <= NUMERO_MAXIMO ? (byte) valor : AUSENTE;
+            c.numeros[j][linha] = codigo;
+            soma = codigo == AUSENTE || soma < 0 ? -1 : soma + codigo;
+        }
+        c.somas[linha] = soma < 0 ? SOMA_INVALIDA : (short) soma;
+    }
+
+    private byte codigoHorario(String horario) {
+        // Horário nulo também ganha código (nome null)
+        String chave = horario == null ? "" : horario;
+        Byte codigo = codigosHorario.get(chave);
+        if (codigo == null) {
+            if (codigosHorario.size() == HORARIOS_MAXIMOS) {
+                throw new IllegalStateException("Mais de " + HORARIOS_MAXIMOS + " horários distintos no armazém colunar");
+            }
+            codigo = (byte) codigosHorario.size();
+            nomesHorario[codigo] = horario;
+            codigosHorario.put(chave, codigo);
+        }
+        return codigo;
+    }
+
+    /**
+     * Posto de cada código na ordem alfabética dos horários ("09:00" < "14:00"), nulos por último
+     */
+    private int[] postosHorario() {
+        String[] nomes = nomesHorario.clone();
+        Integer[] codigos = new Integer[HORARIOS_MAXIMOS];
+        for (int i = 0; i < codigos.length; i++) {
+            codigos[i] = i;
+        }
+        Arrays.sort(codigos, Comparator.comparing((Integer codigo) -> nomes[codigo],
+            Comparator.nullsLast(Comparator.naturalOrder())));
+        int[] postos = new int[HORARIOS_MAXIMOS];
+        for (int posto = 0; posto < codigos.length; posto++) {
+            postos[codigos[posto]] = posto;
+        }
+        return postos;
+    }
+
+    private List<String> horariosDosBits(long bits0, long bits1) {
+        List<String> nomes = new ArrayList<>(Long.bitCount(bits0) + Long.bitCount(bits1));
+        for (; bits0 != 0; bits0 &= bits0 - 1) {
+            nomes.add(nomesHorario[Long.numberOfTrailingZeros(bits0)]);
+        }
+        for (; bits1 != 0; bits1 &= bits1 - 1) {
+            nomes.add(nomesHorario[64 + Long.numberOfTrailingZeros(bits1)]);
+        }
+        nomes.removeIf(Objects::isNull);
+        nomes.sort(null);
+        return nomes;
+    }
+
+    /**
+     * Totais para as estatísticas gerais
+     * @param totalResultados Resultados no armazém
+     * @param periodoInicio Data mais antiga
+     * @param periodoFim Data mais recente
+     * @param horariosAtivos Horários de hoje ou, sem resultados hoje, dos dias recentes
+     */
+    public record Resumo(long totalResultados, LocalDate periodoInicio, LocalDate periodoFim,
+                         List<String> horariosAtivos) {
+    }
+
+    /**
+     * Página da busca por número com o total encontrado
+     */
+    public record PaginaBusca(List<ResultadoDto> conteudo, long total) {
+    }
+
+    /**
+     * Colunas com capacidade e quantidade de linhas válidas; os arrays podem
+     * ser compartilhados entre instantâneos (o escritor só grava além de
+     * {@link #tamanho} ou em uma cópia ainda não publicada)
+     */
+    private static final class Colunas {
+
+        final long[] ids;
+        final int[] dias;
+        final byte[] horarios;
+        final byte[][] numeros;
+        final short[] somas;
+        final int tamanho;
+
+        private Colunas(long[] ids, int[] dias, byte[] horarios, byte[][] numeros, short[] somas, int tamanho) {
+            this.ids = ids;
+            this.dias = dias;
+            this.horarios = horarios;
+            this.numeros = numeros;
+            this.somas = somas;
+            this.tamanho = tamanho;
+        }
+
+        static Colunas vazias(int capacidade) {
+            return new Colunas(new long[capacidade], new int[capacidade], new byte[capacidade],
+                new byte[QUANTIDADE_NUMEROS][capacidade], new short[capacidade], 0);
+        }
+
+        Colunas comTamanho(int novoTamanho) {
+            return new Colunas(ids, dias, horarios, numeros, somas, novoTamanho);
+        }
+
+        /**
+         * Novas colunas com as linhas [0, quantidade); as linhas a partir de
+         * {@code origem} vão para {@code destino} (destino > origem abre uma lacuna)
+         */
+        Colunas copiar(int capacidade, int quantidade, int origem, int destino) {
+            Colunas nova = vazias(capacidade);
+            copiarColuna(ids, nova.ids, quantidade, origem, destino);
+            copiarColuna(dias, nova.dias, quantidade, origem, destino);
+            copiarColuna(horarios, nova.horarios, quantidade, origem, destino);
+            copiarColuna(somas, nova.somas, quantidade, origem, destino);
+            for (int j = 0; j < QUANTIDADE_NUMEROS; j++) {
+                copiarColuna(numeros[j], nova.numeros[j], quantidade, origem, destino);
+            }
+            return nova.comTamanho(quantidade);
+        }
+
+        private static void copiarColuna(Object de, Object para, int quantidade, int origem, int destino) {
+            System.arraycopy(de, 0, para, 0, origem);
+            System.arraycopy(de, origem, para, destino, quantidade - origem);
+        }
+
+        long bytesOcupados() {
+            return (long) ids.length * (Long.BYTES + Integer.BYTES + 1 + QUANTIDADE_NUMEROS + Short.BYTES);
+        }
+    }
+}
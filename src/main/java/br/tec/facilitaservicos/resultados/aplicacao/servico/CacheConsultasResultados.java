@@ -0,0 +1,152 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
+
+/**
+ * Cache reativo das consultas quentes sobre os caches locais (Caffeine) do {@code CacheConfig}.
+ *
+ * - Single-flight por chave: requisições concorrentes em cache frio compartilham
+ *   a mesma consulta ao banco (sem thundering herd)
+ * - Falhas e resultados vazios não são armazenados
+ * - Invalidação total a cada delta da sincronização incremental, depois que
+ *   as estruturas em memória (armazém colunar, conferência) o aplicaram; as
+ *   entradas principais são reaquecidas por {@link AquecimentoCacheResultados}
+ * - Sem os beans de cache ({@code features.statistics-cache=false}) apenas repassa a consulta
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class CacheConsultasResultados implements ConsumidorAtualizacaoResultados {
+
+    /**
+     * Regiões de cache, cada uma com TTL próprio
+     */
+    public enum Regiao { RESULTADOS, RANKING, ESTATISTICAS }
+
+    /**
+     * Desfecho da consulta ao cache, informado a quem assina com {@link #observarDesfecho}
+     */
+    public enum Desfecho { ACERTO, AUSENCIA, COMPARTILHADO }
+
+    private static final String CHAVE_DESFECHO = CacheConsultasResultados.class.getName() + ".desfecho";
+
+    private final Cache<String, Object> cacheResultados;
+    private final Cache<String, Object> cacheRanking;
+    private final Cache<String, Object> cacheEstatisticas;
+    private final Sinks.Many<Integer> invalidacoes = Sinks.many().multicast().directBestEffort();
+
+    public CacheConsultasResultados(@Qualifier("cacheResultados") ObjectProvider<Cache<String, Object>> cacheResultados,
+                                    @Qualifier("cacheRanking") ObjectProvider<Cache<String, Object>> cacheRanking,
+                                    @Qualifier("cacheEstatisticas") ObjectProvider<Cache<String, Object>> cacheEstatisticas) {
+        this.cacheResultados = cacheResultados.getIfAvailable();
+        this.cacheRanking = cacheRanking.getIfAvailable();
+        this.cacheEstatisticas = cacheEstatisticas.getIfAvailable();
+    }
+
+    /**
+     * Obtém o valor em cache ou carrega uma única vez para todos os solicitantes concorrentes
+     * @param regiao Região do cache
+     * @param chave Chave da consulta
+     * @param carregar Consulta executada em caso de ausência
+     * @return Mono com o valor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> obter(Regiao regiao, String chave, Supplier<Mono<T>> carregar) {
+        Cache<String, Object> cache = cache(regiao);
+        if (cache == null) {
+            return carregar.get();
+        }
+        return Mono.deferContextual(contexto -> {
+            CompletableFuture<T> novo = new CompletableFuture<>();
+            CompletableFuture<T> existente = (CompletableFuture<T>) cache.asMap().putIfAbsent(chave, novo);
+            if (existente != null) {
+                informar(contexto, existente.isDone() ? Desfecho.ACERTO : Desfecho.COMPARTILHADO);
+                return Mono.fromFuture(existente, true);
+            }
+            informar(contexto, Desfecho.AUSENCIA);
+            // Carga fora do lock do mapa; falhas e vazios saem do cache antes de notificar
+            Mono.defer(carregar).toFuture().whenComplete((valor, erro) -> {
+                if (erro != null || valor == null) {
+                    cache.asMap().remove(chave, novo);
+                }
+                if (erro != null) {
+                    novo.completeExceptionally(erro);
+                } else {
+                    novo.complete(valor);
+                }
+            });
+            return Mono.fromFuture(novo, true);
+        });
+    }
+
+    /**
+     * Anota no contexto do pipeline onde guardar o desfecho das consultas ao cache
+     * feitas por ele (a última prevalece); sem consulta ao cache fica nulo
+     */
+    public static <T> Mono<T> observarDesfecho(Mono<T> pipeline, AtomicReference<Desfecho> desfecho) {
+        return pipeline.contextWrite(contexto -> contexto.put(CHAVE_DESFECHO, desfecho));
+    }
+
+    public static <T> Flux<T> observarDesfecho(Flux<T> pipeline, AtomicReference<Desfecho> desfecho) {
+        return pipeline.contextWrite(contexto -> contexto.put(CHAVE_DESFECHO, desfecho));
+    }
+
+    /**
+     * Invalida todas as regiões
+     */
+    public void invalidarTudo() {
+        for (Regiao regiao : Regiao.values()) {
+            Cache<String, Object> cache = cache(regiao);
+            if (cache != null) {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * Fluxo de invalidações provocadas por deltas (quantidade de resultados alterados)
+     */
+    public Flux<Integer> invalidacoes() {
+        return invalidacoes.asFlux();
+    }
+
+    @Override
+    public void aplicar(List<ResultadoR2dbc> delta) {
+        // Invalidação em aposAplicar: ranking e estatísticas leem das estruturas em memória
+    }
+
+    @Override
+    public void aposAplicar(List<ResultadoR2dbc> delta) {
+        invalidarTudo();
+        invalidacoes.tryEmitNext(delta.size());
+    }
+
+    private static void informar(ContextView contexto, Desfecho desfecho) {
+        contexto.<AtomicReference<Desfecho>>getOrEmpty(CHAVE_DESFECHO).ifPresent(destino -> destino.set(desfecho));
+    }
+
+    private Cache<String, Object> cache(Regiao regiao) {
+        return switch (regiao) {
+            case RESULTADOS -> cacheResultados;
+            case RANKING -> cacheRanking;
+            case ESTATISTICAS -> cacheEstatisticas;
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteBilhete;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteStatusDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteVeredito;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🧾 CONFERÊNCIA DE BILHETES EM LOTE (NDJSON)
+ * ============================================================================
+ *
+ * Confere arquivos grandes de bilhetes contra uma janela de datas das
+ * bitmasks mantidas por {@link ConferenciaResultados}, para relatórios de
+ * apuração.
+ *
+ * - Janela fixada no início do job: todos os bilhetes veem os mesmos sorteios
+ * - Bilhetes agrupados em blocos; cada bloco é dividido entre os núcleos
+ *   de um ForkJoinPool dedicado (work-stealing, sem lock compartilhado)
+ * - Laço interno AND + popcount dos {@link KernelsContagem} sobre arrays contíguos
+ * - Saída NDJSON na ordem de entrada, com backpressure: um bloco em cálculo
+ *   e um em leitura
+ * - Andamento consultável pelo id do job enquanto durar a retenção
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Service
+public class ConferenciaLoteResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConferenciaLoteResultados.class);
+
+    /** Um sorteio tem no máximo 7 números: acertos de 0 a 7 */
+    static final int FAIXAS_ACERTO = 8;
+
+    /** Bilhetes por tarefa folha do fork-join */
+    private static final int LIMIAR_DIVISAO = 64;
+
+    private final ConferenciaResultados conferencia;
+    private final ServicoDataHoraAtual dataHoraAtual;
+    private final ObjectReader leitorBilhete;
+    private final Cache<String, ProgressoLote> jobs = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+
+    @Value("${resultados.conferencia-lote.tamanho-bloco:4096}")
+    private int tamanhoBloco = 4096;
+
+    @Value("${resultados.conferencia-lote.paralelismo:0}")
+    private int paralelismo;
+
+    private ForkJoinPool pool;
+
+    ConferenciaLoteResultados(ConferenciaResultados conferencia, ServicoDataHoraAtual dataHoraAtual,
+                              ObjectMapper objectMapper) {
+        this.conferencia = conferencia;
+        this.dataHoraAtual = dataHoraAtual;
+        this.leitorBilhete = objectMapper.readerFor(ConferenciaLoteBilhete.class);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        int nucleos = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(nucleos, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("conferencia-lote-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        logger.info("🧾 Conferência em lote com {} núcleos, blocos de {} bilhetes", nucleos, tamanhoBloco);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Confere cada linha NDJSON contra os sorteios entre as datas e emite um resultado por linha não vazia
+     * @param idJob Identificador para consulta do andamento
+     * @param linhas Linhas do corpo (sem delimitador)
+     * @param inicio Data inicial da janela (null = sem limite)
+     * @param fim Data final da janela (null = sem limite)
+     * @param minimoAcertos Acertos mínimos para um sorteio contar como premiado
+     * @return Resultados numerados pela linha de origem (1-based), na ordem de entrada
+     */
+    public Flux<ConferenciaLoteVeredito> conferir(String idJob, Flux<String> linhas,
+                                                  LocalDate inicio, LocalDate fim, int minimoAcertos) {
+        return Flux.defer(() -> {
+            ConferenciaResultados.Janela janela = conferencia.janela(inicio, fim);
+            int minimo = Math.clamp(minimoAcertos, 1, FAIXAS_ACERTO - 1);
+            ProgressoLote progresso = new ProgressoLote(idJob, inicio, fim, janela.tamanho(),
+                dataHoraAtual.agora());
+            jobs.put(idJob, progresso);
+            logger.info("🧾 Conferência em lote {} iniciada: {} sorteios entre {} e {}",
+                idJob, janela.tamanho(), inicio, fim);
+
+            return linhas
+                .index((indice, linha) -> new LinhaNumerada(indice + 1, linha))
+                .filter(linha -> !linha.conteudo().isBlank())
+                .bufferTimeout(Math.max(1, tamanhoBloco), Duration.ofMillis(50), true)
+                // Cada bloco já ocupa todos os núcleos: blocos em sequência, o próximo lido durante o cálculo
+                .concatMap(lote -> Mono.fromFuture(() -> CompletableFuture.supplyAsync(
+                    () -> conferirBloco(lote, janela, minimo), pool)), 1)
+                .doOnNext(vereditos -> {
+                    progresso.registrar(vereditos);
+                    jobs.put(idJob, progresso);
+                })
+                .flatMapIterable(Arrays::asList)
+                .doOnComplete(() -> {
+                    progresso.finalizar("CONCLUIDO", dataHoraAtual.agora());
+                    logger.info("✅ Conferência em lote {} concluída: {} bilhetes ({} inválidos), {}/s",
+                        idJob, progresso.processados.get(), progresso.invalidos.get(),
+                        Math.round(progresso.bilhetesPorSegundo()));
+                })
+                .doOnError(e -> {
+                    progresso.finalizar("FALHOU", dataHoraAtual.agora());
+                    logger.warn("⚠️ Conferência em lote {} interrompida: {}", idJob, e.getMessage());
+                })
+                .doOnCancel(() -> progresso.finalizar("CANCELADO", dataHoraAtual.agora()));
+        });
+    }
+
+    /**
+     * Andamento de um job, se ainda estiver retido
+     */
+    public Mono<ConferenciaLoteStatusDto> status(String idJob) {
+        return Mono.justOrEmpty(jobs.getIfPresent(idJob)).map(ProgressoLote::paraDto);
+    }
+
+    private ConferenciaLoteVeredito[] conferirBloco(List<LinhaNumerada> lote,
+                                                    ConferenciaResultados.Janela janela, int minimo) {
+        ConferenciaLoteVeredito[] vereditos = new ConferenciaLoteVeredito[lote.size()];
+        // Executado em uma thread do pool: invoke() divide o bloco no próprio pool
+        new TarefaConferencia(lote, vereditos, janela, minimo, 0, lote.size()).invoke();
+        return vereditos;
+    }
+
+    /**
+     * Confere uma linha NDJSON de forma síncrona
+     */
+    ConferenciaLoteVeredito conferirBilhete(long numero, String json, ConferenciaResultados.Janela janela, int minimo) {
+        ConferenciaLoteBilhete bilhete;
+        try {
+            bilhete = leitorBilhete.readValue(json);
+        } catch (JsonProcessingException e) {
+            return ConferenciaLoteVeredito.invalido(numero, null, "JSON inválido");
+        }
+        if (bilhete == null) {
+            return ConferenciaLoteVeredito.invalido(numero, null, "JSON inválido");
+        }
+
+        long[] mascara;
+        try {
+            mascara = ConferenciaResultados.mascararAposta(bilhete.numeros());
+        } catch (IllegalArgumentException e) {
+            return ConferenciaLoteVeredito.invalido(numero, bilhete.id(), e.getMessage());
+        }
+
+        int[] porAcertos = new int[FAIXAS_ACERTO];
+        conferencia.histogramaAcertos(janela, mascara, porAcertos);
+
+        int maiorAcerto = 0;
+        int premiados = 0;
+        for (int acertos = 0; acertos < FAIXAS_ACERTO; acertos++) {
+            if (porAcertos[acertos] > 0) {
+                maiorAcerto = acertos;
+            }
+            if (acertos >= minimo) {
+                premiados += porAcertos[acertos];
+            }
+        }
+        return ConferenciaLoteVeredito.conferido(numero, bilhete.id(), premiados, maiorAcerto, porAcertos);
+    }
+
+    /**
+     * Divide o bloco ao meio até {@link #LIMIAR_DIVISAO} bilhetes por folha
+     */
+    private final class TarefaConferencia extends RecursiveAction {
+
+        private final List<LinhaNumerada> lote;
+        private final ConferenciaLoteVeredito[] vereditos;
+        private final ConferenciaResultados.Janela janela;
+        private final int minimo;
+        private final int de;
+        private final int ate;
+
+        TarefaConferencia(List<LinhaNumerada> lote, ConferenciaLoteVeredito[] vereditos,
+                          ConferenciaResultados.Janela janela, int minimo, int de, int ate) {
+            this.lote = lote;
+            this.vereditos = vereditos;
+            this.janela = janela;
+            this.minimo = minimo;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de <= LIMIAR_DIVISAO) {
+                for (int i = de; i < ate; i++) {
+                    LinhaNumerada linha = lote.get(i);
+                    vereditos[i] = conferirBilhete(linha.numero(), linha.conteudo(), janela, minimo);
+                }
+                return;
+            }
+            int meio = (de + ate) >>> 1;
+            invokeAll(new TarefaConferencia(lote, vereditos, janela, minimo, de, meio),
+                new TarefaConferencia(lote, vereditos, janela, minimo, meio, ate));
+        }
+    }
+
+    /**
+     * Contadores de um job, atualizados a cada bloco concluído
+     */
+    private static final class ProgressoLote {
+
+        private final String id;
+        private final LocalDate inicio;
+        private final LocalDate fim;
+        private final int sorteios;
+        private final LocalDateTime iniciadoEm;
+        private final long iniciadoNanos = System.nanoTime();
+        private final AtomicLong processados = new AtomicLong();
+        private final AtomicLong invalidos = new AtomicLong();
+        private final AtomicLong premiados = new AtomicLong();
+        private volatile String estado = "EM_ANDAMENTO";
+        private volatile LocalDateTime concluidoEm;
+        private volatile long concluidoNanos;
+
+        ProgressoLote(String id, LocalDate inicio, LocalDate fim, int sorteios, LocalDateTime iniciadoEm) {
+            this.id = id;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.sorteios = sorteios;
+            this.iniciadoEm = iniciadoEm;
+        }
+
+        void registrar(ConferenciaLoteVeredito[] vereditos) {
+            long invalidosBloco = 0;
+            long premiadosBloco = 0;
+            for (ConferenciaLoteVeredito veredito : vereditos) {
+                if (veredito.erro() != null) {
+                    invalidosBloco++;
+                } else if (veredito.premiados() > 0) {
+                    premiadosBloco++;
+                }
+            }
+            processados.addAndGet(vereditos.length);
+            invalidos.addAndGet(invalidosBloco);
+            premiados.addAndGet(premiadosBloco);
+        }
+
+        synchronized void finalizar(String estadoFinal, LocalDateTime agora) {
+            if (concluidoEm == null) {
+                concluidoNanos = System.nanoTime();
+                concluidoEm = agora;
+                estado = estadoFinal;
+            }
+        }
+
+        double bilhetesPorSegundo() {
+            long ate = concluidoEm != null ? concluidoNanos : System.nanoTime();
+            double segundos = Math.max(1, ate - iniciadoNanos) / 1e9;
+            return processados.get() / segundos;
+        }
+
+        ConferenciaLoteStatusDto paraDto() {
+            return new ConferenciaLoteStatusDto(id, estado, inicio, fim, sorteios,
+                processados.get(), invalidos.get(), premiados.get(),
+                bilhetesPorSegundo(), iniciadoEm, concluidoEm);
+        }
+    }
+
+    private record LinhaNumerada(long numero, String conteudo) {
+    }
+}
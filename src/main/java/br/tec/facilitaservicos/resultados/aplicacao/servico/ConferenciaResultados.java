@@ -0,0 +1,547 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.NumerosSorteados;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * ============================================================================
+ * 🎯 CONFERÊNCIA DE APOSTAS CONTRA TODO O HISTÓRICO
+ * ============================================================================
+ *
+ * Mantém todos os resultados em memória como bitmasks compactas: dois
+ * {@code long[]} contíguos e paralelos (números 0–63 e 64–99, um elemento
+ * por sorteio). Conferir uma aposta é um AND + popcount por sorteio, sem
+ * acesso ao banco e sem alocação por sorteio comparado. Os laços ficam em
+ * {@link KernelsContagem} (escalar ou Vector API, escolhido na inicialização).
+ *
+ * - Colunas em ordem de data/horário/id crescentes (sem data no início): a
+ *   conferência varre cada faixa de acertos do fim para o início, já na ordem
+ *   "mais recente primeiro", e um período é uma faixa contígua (busca binária)
+ * - Só id, data, horário e bitmasks por sorteio: os resultados devolvidos
+ *   são montados do {@link ArmazemColunarResultados} pelo id
+ * - Escrita como no armazém: sorteio novo é anexado além do tamanho publicado;
+ *   correção com a mesma data/horário é regravada em cópia das bitmasks; só
+ *   data alterada ou id fora de ordem (raros) refazem as colunas, em uma
+ *   intercalação linear
+ * - Números repetidos em um mesmo sorteio contam uma vez na conferência; as
+ *   repetições ficam anotadas à parte para as frequências do ranking
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class ConferenciaResultados implements ConsumidorAtualizacaoResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConferenciaResultados.class);
+
+    static final int NUMERO_MAXIMO = 99;
+    static final int TAMANHO_MAXIMO_APOSTA = 20;
+
+    private static final int SEM_DATA = Integer.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1 << 12;
+    private static final int[] SEM_REPETIDOS = new int[0];
+
+    private static final Comparator<String> POR_HORARIO = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private static final Comparator<ResultadoR2dbc> POR_CHAVE = Comparator
+        .comparingInt(ConferenciaResultados::dia)
+        .thenComparing(ResultadoR2dbc::getHorario, POR_HORARIO)
+        .thenComparing(ResultadoR2dbc::getId);
+
+    private final ArmazemColunarResultados armazem;
+    private final KernelsContagem kernels;
+
+    /** Uma instância por horário distinto (acesso só do escritor) */
+    private final Map<String, String> horarios = new HashMap<>();
+
+    /** Maior id já aplicado (acesso só do escritor) */
+    private long maiorId = Long.MIN_VALUE;
+
+    private volatile Colunas colunas = Colunas.vazias(CAPACIDADE_INICIAL);
+    private volatile boolean carregado;
+
+    public ConferenciaResultados(ArmazemColunarResultados armazem, KernelsContagem kernels) {
+        this.armazem = armazem;
+        this.kernels = kernels;
+    }
+
+    @Override
+    public boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        aplicar(historico);
+        carregado = true;
+        logger.info("🎯 Conferência carregada com {} resultados", colunas.tamanho);
+        return true;
+    }
+
+    @Override
+    public synchronized void aplicar(List<ResultadoR2dbc> delta) {
+        Colunas atual = colunas;
+        int tamanho = atual.tamanho;
+        long[] repeticoes = atual.repeticoes;
+        int totalRepeticoes = atual.totalRepeticoes;
+        // Linhas [0, publicadas) podem estar em leitura: só são gravadas em uma cópia
+        int publicadas = atual.tamanho;
+        boolean copiadas = false;
+        Map<Long, ResultadoR2dbc> pendentes = null;
+
+        for (ResultadoR2dbc entidade : delta) {
+            Long id = entidade.getId();
+            if (id == null) {
+                continue;
+            }
+            int dia = dia(entidade);
+            String horario = entidade.getHorario();
+            if (id > maiorId && (tamanho == 0 || comparar(atual, tamanho - 1, dia, horario, id) < 0)) {
+                if (tamanho == atual.ids.length) {
+                    atual = atual.copiar(Math.max(CAPACIDADE_INICIAL, tamanho * 2), tamanho);
+                    copiadas = true;
+                }
+                for (int numero : gravar(atual, tamanho, entidade)) {
+                    repeticoes = anexar(repeticoes, totalRepeticoes++, ((long) tamanho << 8) | numero);
+                }
+                tamanho++;
+                maiorId = id;
+                continue;
+            }
+            int posicao = pendentes != null && pendentes.containsKey(id)
+                ? -1 : buscar(atual, tamanho, dia, horario, id);
+            if (posicao >= 0 && !temRepeticoes(repeticoes, totalRepeticoes, posicao)
+                    && repetidos(entidade.obterNumeros()).length == 0) {
+                if (!copiadas && posicao < publicadas) {
+                    atual = atual.copiar(atual.ids.length, tamanho);
+                    copiadas = true;
+                }
+                gravar(atual, posicao, entidade);
+                continue;
+            }
+            // Data/horário alterados, id fora de ordem ou repetições mudando: intercalação
+            if (pendentes == null) {
+                pendentes = new LinkedHashMap<>();
+            }
+            pendentes.put(id, entidade);
+            maiorId = Math.max(maiorId, id);
+        }
+        atual = atual.comTamanho(tamanho, repeticoes, totalRepeticoes);
+
+        if (pendentes != null) {
+            atual = intercalar(atual, pendentes.values());
+        }
+        colunas = atual;
+    }
+
+    /**
+     * Novas colunas com as linhas atuais (menos as de ids pendentes) e os
+     * pendentes na posição da chave: uma passada linear, sem reordenar tudo
+     */
+    private Colunas intercalar(Colunas atual, Collection<ResultadoR2dbc> pendentes) {
+        ResultadoR2dbc[] novos = pendentes.toArray(ResultadoR2dbc[]::new);
+        Arrays.sort(novos, POR_CHAVE);
+        long[] substituidos = new long[novos.length];
+        for (int j = 0; j < novos.length; j++) {
+            substituidos[j] = novos[j].getId();
+        }
+        Arrays.sort(substituidos);
+
+        Colunas nova = Colunas.vazias(Math.max(atual.ids.length, atual.tamanho + novos.length));
+        long[] repeticoes = new long[Math.max(16, atual.totalRepeticoes)];
+        int totalRepeticoes = 0;
+        int i = 0;
+        int j = 0;
+        int r = 0;
+        int p = 0;
+        while (i < atual.tamanho || j < novos.length) {
+            if (i < atual.tamanho && Arrays.binarySearch(substituidos, atual.ids[i]) >= 0) {
+                i++;
+                continue;
+            }
+            if (j == novos.length || i < atual.tamanho
+                    && comparar(atual, i, dia(novos[j]), novos[j].getHorario(), novos[j].getId()) < 0) {
+                nova.ids[p] = atual.ids[i];
+                nova.dias[p] = atual.dias[i];
+                nova.horarios[p] = atual.horarios[i];
+                nova.baixas[p] = atual.baixas[i];
+                nova.altas[p] = atual.altas[i];
+                // Repetições em ordem de posição: o ponteiro só avança (linhas descartadas ficam para trás)
+                for (; r < atual.totalRepeticoes && (atual.repeticoes[r] >>> 8) <= i; r++) {
+                    if ((atual.repeticoes[r] >>> 8) == i) {
+                        repeticoes = anexar(repeticoes, totalRepeticoes++,
+                            ((long) p << 8) | (atual.repeticoes[r] & 0xFF));
+                    }
+                }
+                i++;
+            } else {
+                for (int numero : gravar(nova, p, novos[j])) {
+                    repeticoes = anexar(repeticoes, totalRepeticoes++, ((long) p << 8) | numero);
+                }
+                j++;
+            }
+            p++;
+        }
+        return nova.comTamanho(p, repeticoes, totalRepeticoes);
+    }
+
+    /**
+     * Verifica se a carga inicial foi concluída
+     */
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    /**
+     * Confere a aposta contra todos os resultados em memória
+     * @param aposta Números apostados (0–99, repetidos contam uma vez)
+     * @param minimoAcertos Acertos mínimos (limitado a [1, números distintos])
+     * @param limite Máximo de resultados retornados
+     * @return Resultados com acertos suficientes: mais acertos primeiro, depois mais recentes
+     * @throws IllegalArgumentException se a aposta for vazia, grande demais ou fora da faixa
+     */
+    public ConferenciaDto conferir(int[] aposta, int minimoAcertos, int limite) {
+        long[] mascara = mascararAposta(aposta);
+        long baixo = mascara[0];
+        long alto = mascara[1];
+        int distintos = Long.bitCount(baixo) + Long.bitCount(alto);
+        int minimo = Math.clamp(minimoAcertos, 1, distintos);
+
+        Colunas atual = colunas;
+        int tamanho = atual.tamanho;
+        int[] acertos = new int[tamanho];
+        kernels.acertosPorSorteio(atual.baixas, atual.altas, 0, tamanho, baixo, alto, acertos);
+
+        int[] porFaixa = new int[distintos + 1];
+        for (int a : acertos) {
+            porFaixa[a]++;
+        }
+
+        int encontrados = 0;
+        for (int a = minimo; a <= distintos; a++) {
+            encontrados += porFaixa[a];
+        }
+
+        // Colunas do mais antigo ao mais recente: cada faixa é varrida do fim e
+        // só os resultados devolvidos são montados (do armazém colunar, pelo id)
+        List<ConferenciaDto.Acerto> selecionados = new ArrayList<>(Math.max(0, Math.min(limite, encontrados)));
+        for (int a = distintos; a >= minimo && selecionados.size() < limite; a--) {
+            if (porFaixa[a] == 0) {
+                continue;
+            }
+            for (int i = tamanho - 1; i >= 0 && selecionados.size() < limite; i--) {
+                if (acertos[i] == a) {
+                    ResultadoDto resultado = armazem.buscarPorId(atual.ids[i]);
+                    if (resultado != null) {
+                        selecionados.add(new ConferenciaDto.Acerto(resultado, a));
+                    }
+                }
+            }
+        }
+
+        return new ConferenciaDto(numerosOrdenados(baixo, alto), minimo, tamanho, encontrados, selecionados);
+    }
+
+    /**
+     * Janela contígua das colunas com os resultados entre as datas (inclusive)
+     * @param inicio Data inicial (null = sem limite)
+     * @param fim Data final (null = sem limite)
+     */
+    Janela janela(LocalDate inicio, LocalDate fim) {
+        return janela(colunas, inicio, fim);
+    }
+
+    private static Janela janela(Colunas atual, LocalDate inicio, LocalDate fim) {
+        // Colunas em ordem crescente de data (sem data no início): a janela é contígua
+        int de = primeiraPosicao(atual, inicio != null ? (int) inicio.toEpochDay() : SEM_DATA + 1);
+        int ate = fim != null ? primeiraPosicao(atual, (int) fim.toEpochDay() + 1) : atual.tamanho;
+        return new Janela(atual.baixas, atual.altas, de, Math.max(de, ate));
+    }
+
+    /**
+     * Primeira posição com data >= dia (busca binária)
+     */
+    private static int primeiraPosicao(Colunas atual, int dia) {
+        int baixo = 0;
+        int alto = atual.tamanho;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (atual.dias[meio] < dia) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    /**
+     * Soma em {@code porAcertos[k]} os sorteios da janela com k acertos da aposta
+     * @param mascara Bitmask da aposta ({@link #mascararAposta})
+     */
+    void histogramaAcertos(Janela janela, long[] mascara, int[] porAcertos) {
+        kernels.histogramaAcertos(janela.baixas(), janela.altas(), janela.de(), janela.ate(),
+            mascara[0], mascara[1], porAcertos);
+    }
+
+    /**
+     * Quantidade de sorteios da janela em que cada número (índice 0–99) saiu
+     */
+    long[] frequencias(Janela janela) {
+        long[] frequencias = new long[NUMERO_MAXIMO + 1];
+        kernels.frequencias(janela.baixas(), janela.altas(), janela.de(), janela.ate(), frequencias);
+        return frequencias;
+    }
+
+    /**
+     * Ocorrências de cada número (índice 0–99) entre as datas, como no GROUP BY
+     * do banco: presença por sorteio pelos kernels mais as repetições anotadas
+     * @param inicio Data inicial (null = sem limite)
+     * @param fim Data final (null = sem limite)
+     */
+    public long[] frequencias(LocalDate inicio, LocalDate fim) {
+        Colunas atual = colunas;
+        // Sem filtro inclui também os resultados sem data, como o SQL
+        Janela janela = inicio == null && fim == null
+            ? new Janela(atual.baixas, atual.altas, 0, atual.tamanho)
+            : janela(atual, inicio, fim);
+        long[] frequencias = frequencias(janela);
+        long[] repeticoes = atual.repeticoes;
+        int k = primeiraRepeticao(repeticoes, atual.totalRepeticoes, janela.de());
+        for (; k < atual.totalRepeticoes && (repeticoes[k] >>> 8) < janela.ate(); k++) {
+            frequencias[(int) (repeticoes[k] & 0xFF)]++;
+        }
+        return frequencias;
+    }
+
+    /**
+     * Bitmask [0–63, 64–99] de uma aposta
+     * @throws IllegalArgumentException se a aposta for vazia, grande demais ou fora da faixa
+     */
+    static long[] mascararAposta(int[] aposta) {
+        if (aposta == null || aposta.length == 0 || aposta.length > TAMANHO_MAXIMO_APOSTA) {
+            throw new IllegalArgumentException("Aposta deve ter entre 1 e " + TAMANHO_MAXIMO_APOSTA + " números");
+        }
+        long baixo = 0L;
+        long alto = 0L;
+        for (int numero : aposta) {
+            if (numero < 0 || numero > NUMERO_MAXIMO) {
+                throw new IllegalArgumentException("Números devem estar entre 0 e " + NUMERO_MAXIMO);
+            }
+            if (numero < 64) {
+                baixo |= 1L << numero;
+            } else {
+                alto |= 1L << (numero - 64);
+            }
+        }
+        return new long[] {baixo, alto};
+    }
+
+    private static List<Integer> numerosOrdenados(long baixo, long alto) {
+        List<Integer> numeros = new ArrayList<>(Long.bitCount(baixo) + Long.bitCount(alto));
+        for (; baixo != 0; baixo &= baixo - 1) {
+            numeros.add(Long.numberOfTrailingZeros(baixo));
+        }
+        for (; alto != 0; alto &= alto - 1) {
+            numeros.add(64 + Long.numberOfTrailingZeros(alto));
+        }
+        return numeros;
+    }
+
+    /**
+     * Bitmask [0–63, 64–99] dos números de um resultado (valores inválidos ignorados)
+     * @return Quantidade de números válidos, repetidos inclusive
+     */
+    static int preencherMascara(List<String> numeros, long[] baixas, long[] altas, int posicao) {
+        long baixo = 0L;
+        long alto = 0L;
+        int validos = 0;
+        for (int i = 0; i < numeros.size(); i++) {
+            String texto = numeros.get(i);
+            int numero = texto == null ? -1 : NumerosSorteados.converter(texto);
+            if (numero < 0 || numero > NUMERO_MAXIMO) {
+                continue;
+            }
+            validos++;
+            if (numero < 64) {
+                baixo |= 1L << numero;
+            } else {
+                alto |= 1L << (numero - 64);
+            }
+        }
+        baixas[posicao] = baixo;
+        altas[posicao] = alto;
+        return validos;
+    }
+
+    /**
+     * Números com ocorrência além da primeira no sorteio (um por ocorrência extra)
+     */
+    private static int[] repetidos(List<String> numeros) {
+        int[] repetidos = SEM_REPETIDOS;
+        long baixo = 0L;
+        long alto = 0L;
+        for (String texto : numeros) {
+            int numero = texto == null ? -1 : NumerosSorteados.converter(texto);
+            if (numero < 0 || numero > NUMERO_MAXIMO) {
+                continue;
+            }
+            long bit = 1L << (numero & 63);
+            if (numero < 64 ? (baixo & bit) != 0 : (alto & bit) != 0) {
+                repetidos = Arrays.copyOf(repetidos, repetidos.length + 1);
+                repetidos[repetidos.length - 1] = numero;
+            } else if (numero < 64) {
+                baixo |= bit;
+            } else {
+                alto |= bit;
+            }
+        }
+        return repetidos;
+    }
+
+    /**
+     * Grava id, data, horário e bitmasks na linha
+     * @return Números repetidos do sorteio, para as anotações de repetição
+     */
+    private int[] gravar(Colunas c, int linha, ResultadoR2dbc entidade) {
+        c.ids[linha] = entidade.getId();
+        c.dias[linha] = dia(entidade);
+        String horario = entidade.getHorario();
+        c.horarios[linha] = horario == null ? null : horarios.computeIfAbsent(horario, Function.identity());
+        List<String> numeros = entidade.obterNumeros();
+        int validos = preencherMascara(numeros, c.baixas, c.altas, linha);
+        return validos > Long.bitCount(c.baixas[linha]) + Long.bitCount(c.altas[linha])
+            ? repetidos(numeros) : SEM_REPETIDOS;
+    }
+
+    private static int dia(ResultadoR2dbc entidade) {
+        return entidade.getDataResultado() != null ? (int) entidade.getDataResultado().toEpochDay() : SEM_DATA;
+    }
+
+    /**
+     * Ordem da linha em relação à chave (data, horário, id)
+     */
+    private static int comparar(Colunas c, int linha, int dia, String horario, long id) {
+        int porDia = Integer.compare(c.dias[linha], dia);
+        if (porDia != 0) {
+            return porDia;
+        }
+        int porHorario = POR_HORARIO.compare(c.horarios[linha], horario);
+        return porHorario != 0 ? porHorario : Long.compare(c.ids[linha], id);
+    }
+
+    /**
+     * Posição da linha com a chave em [0, tamanho), ou -1
+     */
+    private static int buscar(Colunas c, int tamanho, int dia, String horario, long id) {
+        int baixo = 0;
+        int alto = tamanho - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            int ordem = comparar(c, meio, dia, horario, id);
+            if (ordem < 0) {
+                baixo = meio + 1;
+            } else if (ordem > 0) {
+                alto = meio - 1;
+            } else {
+                return meio;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Índice da primeira anotação de repetição da posição (ou seguinte)
+     */
+    private static int primeiraRepeticao(long[] repeticoes, int total, int posicao) {
+        // Chave abaixo de qualquer entrada da posição: sempre o ponto de inserção
+        return -Arrays.binarySearch(repeticoes, 0, total, ((long) posicao << 8) - 1) - 1;
+    }
+
+    private static boolean temRepeticoes(long[] repeticoes, int total, int posicao) {
+        int k = primeiraRepeticao(repeticoes, total, posicao);
+        return k < total && (repeticoes[k] >>> 8) == posicao;
+    }
+
+    /**
+     * Grava a anotação além do total publicado, crescendo o array quando cheio
+     */
+    private static long[] anexar(long[] repeticoes, int indice, long anotacao) {
+        if (indice == repeticoes.length) {
+            repeticoes = Arrays.copyOf(repeticoes, Math.max(16, repeticoes.length * 2));
+        }
+        repeticoes[indice] = anotacao;
+        return repeticoes;
+    }
+
+    /**
+     * Faixa [de, ate) de sorteios sobre as bitmasks de um instantâneo (sem cópia)
+     */
+    record Janela(long[] baixas, long[] altas, int de, int ate) {
+
+        int tamanho() {
+            return ate - de;
+        }
+    }
+
+    /**
+     * Colunas com capacidade e quantidade de linhas válidas; os arrays podem
+     * ser compartilhados entre instantâneos (o escritor só grava além de
+     * {@link #tamanho} / {@link #totalRepeticoes} ou em uma cópia ainda não
+     * publicada). {@code repeticoes} em ordem de posição, {@code posicao << 8 | numero}
+     */
+    private static final class Colunas {
+
+        final long[] ids;
+        final int[] dias;
+        final String[] horarios;
+        final long[] baixas;
+        final long[] altas;
+        final int tamanho;
+        final long[] repeticoes;
+        final int totalRepeticoes;
+
+        private Colunas(long[] ids, int[] dias, String[] horarios, long[] baixas, long[] altas, int tamanho,
+                        long[] repeticoes, int totalRepeticoes) {
+            this.ids = ids;
+            this.dias = dias;
+            this.horarios = horarios;
+            this.baixas = baixas;
+            this.altas = altas;
+            this.tamanho = tamanho;
+            this.repeticoes = repeticoes;
+            this.totalRepeticoes = totalRepeticoes;
+        }
+
+        static Colunas vazias(int capacidade) {
+            return new Colunas(new long[capacidade], new int[capacidade], new String[capacidade],
+                new long[capacidade], new long[capacidade], 0, new long[0], 0);
+        }
+
+        Colunas comTamanho(int novoTamanho, long[] novasRepeticoes, int novoTotalRepeticoes) {
+            return new Colunas(ids, dias, horarios, baixas, altas, novoTamanho, novasRepeticoes, novoTotalRepeticoes);
+        }
+
+        /**
+         * Novas colunas com as linhas [0, quantidade) (as repetições seguem compartilhadas)
+         */
+        Colunas copiar(int capacidade, int quantidade) {
+            return new Colunas(Arrays.copyOf(ids, capacidade), Arrays.copyOf(dias, capacidade),
+                Arrays.copyOf(horarios, capacidade), Arrays.copyOf(baixas, capacidade),
+                Arrays.copyOf(altas, capacidade), quantidade, repeticoes, totalRepeticoes);
+        }
+    }
+}
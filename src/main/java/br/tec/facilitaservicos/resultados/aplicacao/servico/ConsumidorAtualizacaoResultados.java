@@ -0,0 +1,57 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.core.publisher.Mono;
+
+/**
+ * Estrutura em memória alimentada pela sincronização incremental de resultados.
+ *
+ * A sincronização fixa a marca d'água antes da carga inicial, portanto qualquer
+ * alteração concorrente a ela é reentregue em {@link #aplicar(List)}. As
+ * implementações devem ser idempotentes (upsert por id).
+ *
+ * Estruturas derivadas das demais (caches de consultas e respostas) invalidam
+ * em {@link #aposAplicar(List)}, chamado só depois que todos os consumidores
+ * aplicaram o lote: uma consulta recalculada entre as duas fases não fica
+ * guardada com os dados antigos.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public interface ConsumidorAtualizacaoResultados {
+
+    /**
+     * Carga inicial própria do consumidor, quando {@link #carregarDoHistorico(List)} não a atende.
+     * @return Mono concluído quando a estrutura estiver pronta para receber deltas
+     */
+    default Mono<Void> carregarInicial() {
+        return Mono.empty();
+    }
+
+    /**
+     * Carga inicial a partir do histórico completo, lido uma única vez pela
+     * sincronização (instantâneo local ou banco) e compartilhado entre os
+     * consumidores; o delta posterior chega por {@link #aplicar(List)}.
+     * @param historico Todos os resultados, em ordem de id
+     * @return true se a estrutura ficou pronta; false para usar {@link #carregarInicial()}
+     */
+    default boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        return false;
+    }
+
+    /**
+     * Aplica um lote de resultados criados ou corrigidos, em ordem de atualização.
+     * @param delta Resultados alterados desde a última marca d'água
+     */
+    void aplicar(List<ResultadoR2dbc> delta);
+
+    /**
+     * Chamado depois que todos os consumidores aplicaram o lote.
+     * @param delta O mesmo lote entregue em {@link #aplicar(List)}
+     */
+    default void aposAplicar(List<ResultadoR2dbc> delta) {
+    }
+}
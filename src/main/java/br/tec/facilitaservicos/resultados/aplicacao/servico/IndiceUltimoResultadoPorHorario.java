@@ -0,0 +1,115 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import reactor.core.publisher.Mono;
+
+/**
+ * Índice em memória do último resultado de cada horário.
+ *
+ * Carregado com uma única consulta e mantido pelos deltas da sincronização
+ * incremental. Enquanto não estiver carregado, ou quando o horário não for
+ * conhecido, a consulta cai para o banco.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class IndiceUltimoResultadoPorHorario implements ConsumidorAtualizacaoResultados {
+
+    private final RepositorioResultadoR2dbc repositorio;
+    private final ResultadoMapper mapper;
+    private final ConcurrentHashMap<String, ResultadoDto> porHorario = new ConcurrentHashMap<>();
+
+    private volatile boolean carregado;
+
+    public IndiceUltimoResultadoPorHorario(RepositorioResultadoR2dbc repositorio, ResultadoMapper mapper) {
+        this.repositorio = repositorio;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<Void> carregarInicial() {
+        return repositorio.findUltimosPorHorario()
+            .doOnNext(this::registrar)
+            .then()
+            .doOnSuccess(v -> carregado = true);
+    }
+
+    @Override
+    public boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        aplicar(historico);
+        carregado = true;
+        return true;
+    }
+
+    @Override
+    public void aplicar(List<ResultadoR2dbc> delta) {
+        for (ResultadoR2dbc resultado : delta) {
+            registrar(resultado);
+        }
+    }
+
+    /**
+     * Obtém o último resultado conhecido do horário
+     * @param horario Horário do resultado
+     * @return Resultado, ou vazio quando o índice não puder responder
+     */
+    public Optional<ResultadoDto> obter(String horario) {
+        if (!carregado || horario == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(porHorario.get(horario));
+    }
+
+    /**
+     * Verifica se a carga inicial foi concluída
+     */
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    private void registrar(ResultadoR2dbc entidade) {
+        if (entidade.getHorario() == null || entidade.getDataResultado() == null) {
+            return;
+        }
+        ResultadoDto novo = mapper.paraDto(entidade);
+
+        // Correção que moveu o resultado de horário: a entrada antiga deixa de ser confiável
+        porHorario.entrySet().removeIf(e ->
+            !e.getKey().equals(novo.horario()) && Objects.equals(e.getValue().id(), novo.id()));
+
+        porHorario.compute(novo.horario(), (horario, atual) -> maisRecente(atual, novo));
+    }
+
+    private static ResultadoDto maisRecente(ResultadoDto atual, ResultadoDto novo) {
+        if (atual == null) {
+            return novo;
+        }
+        if (Objects.equals(atual.id(), novo.id())) {
+            // Correção recuando a data: outro resultado pode ser o último, delega ao banco
+            return novo.dataResultado().isBefore(atual.dataResultado()) ? null : novo;
+        }
+        int comparacao = novo.dataResultado().compareTo(atual.dataResultado());
+        if (comparacao != 0) {
+            return comparacao > 0 ? novo : atual;
+        }
+        return idMaior(novo, atual) ? novo : atual;
+    }
+
+    private static boolean idMaior(ResultadoDto a, ResultadoDto b) {
+        long idA = a.id() != null ? a.id() : Long.MIN_VALUE;
+        long idB = b.id() != null ? b.id() : Long.MIN_VALUE;
+        return idA > idB;
+    }
+}
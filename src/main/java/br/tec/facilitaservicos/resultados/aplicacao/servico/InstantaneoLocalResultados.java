@@ -0,0 +1,243 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.infraestrutura.FormatoInstantaneoResultados;
+
+/**
+ * ============================================================================
+ * 💾 INSTANTÂNEO LOCAL DO HISTÓRICO (REINÍCIO SEM CARGA COMPLETA)
+ * ============================================================================
+ *
+ * Mantém a imagem do arquivo em memória (registros de largura fixa de
+ * {@link FormatoInstantaneoResultados}, ordenados por id) alimentada pelos
+ * deltas da sincronização, e a grava periodicamente em disco local com a
+ * marca d'água da sincronização.
+ *
+ * No início, {@link SincronizacaoIncrementalResultados} lê o arquivo: se
+ * válido, os consumidores são carregados a partir dele e só o delta posterior
+ * à marca vem do banco. A carga completa segue como antes quando o arquivo:
+ * - está ausente ou inválido (checksum, versão, tamanho)
+ * - foi gravado a partir de outro banco (origem do cabeçalho)
+ * - é mais antigo que {@code resultados.instantaneo.idade-maxima}
+ * - não confere com o banco (quantidade e maior id), o que revela exclusões
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class InstantaneoLocalResultados implements ConsumidorAtualizacaoResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstantaneoLocalResultados.class);
+
+    private static final int REGISTRO = FormatoInstantaneoResultados.TAMANHO_REGISTRO;
+    private static final int CAPACIDADE_INICIAL = 1 << 12;
+
+    @Value("${resultados.instantaneo.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${resultados.instantaneo.arquivo:data/resultados.snap}")
+    private String arquivo = "data/resultados.snap";
+
+    @Value("${resultados.instantaneo.intervalo:15}")
+    private int intervaloMinutos = 15;
+
+    @Value("${resultados.instantaneo.idade-maxima:24h}")
+    private Duration idadeMaxima = Duration.ofHours(24);
+
+    private final Environment ambiente;
+
+    // Imagem do arquivo: acesso sempre sincronizado
+    private long[] ids = new long[CAPACIDADE_INICIAL];
+    private byte[] registros = new byte[CAPACIDADE_INICIAL * REGISTRO];
+    private int quantidade;
+    private long alteracoes;
+    private long alteracoesGravadas;
+    private long ultimaGravacao;
+    private boolean incompativel;
+
+    public InstantaneoLocalResultados(Environment ambiente) {
+        this.ambiente = ambiente;
+    }
+
+    @Override
+    public boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        aplicar(historico);
+        return true;
+    }
+
+    /**
+     * Imagem carregada do próprio arquivo: nada a regravar até o próximo delta
+     */
+    synchronized void registrarConteudoDoArquivo() {
+        alteracoesGravadas = alteracoes;
+        ultimaGravacao = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void aplicar(List<ResultadoR2dbc> delta) {
+        if (!habilitado || incompativel) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(registros);
+        for (ResultadoR2dbc resultado : delta) {
+            Long id = resultado.getId();
+            if (id == null) {
+                continue;
+            }
+            int posicao = Arrays.binarySearch(ids, 0, quantidade, id);
+            if (posicao < 0) {
+                posicao = -posicao - 1;
+                if (quantidade == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    registros = Arrays.copyOf(registros, ids.length * REGISTRO);
+                    buffer = ByteBuffer.wrap(registros);
+                }
+                // Caminho normal (id crescente) não desloca nada
+                System.arraycopy(ids, posicao, ids, posicao + 1, quantidade - posicao);
+                System.arraycopy(registros, posicao * REGISTRO, registros, (posicao + 1) * REGISTRO,
+                    (quantidade - posicao) * REGISTRO);
+                ids[posicao] = id;
+                quantidade++;
+            }
+            try {
+                FormatoInstantaneoResultados.codificar(resultado, buffer, posicao * REGISTRO);
+            } catch (IllegalArgumentException e) {
+                // Registro fora do formato: o arquivo deixaria de refletir o banco
+                incompativel = true;
+                logger.warn("⚠️ Resultado {} fora do formato do instantâneo, gravação desativada: {}",
+                    id, e.getMessage());
+                return;
+            }
+        }
+        alteracoes++;
+    }
+
+    /**
+     * Lê o instantâneo do disco
+     * @return Conteúdo validado, ou vazio se desabilitado, ausente, inválido, de outro banco ou antigo demais
+     */
+    public Optional<FormatoInstantaneoResultados.Conteudo> ler() {
+        if (!habilitado) {
+            return Optional.empty();
+        }
+        Path caminho = Path.of(arquivo);
+        if (!Files.exists(caminho)) {
+            logger.info("💾 Nenhum instantâneo local em {}, carga completa do banco", caminho.toAbsolutePath());
+            return Optional.empty();
+        }
+        long inicio = System.nanoTime();
+        try {
+            FormatoInstantaneoResultados.Conteudo conteudo = FormatoInstantaneoResultados.ler(caminho);
+            if (conteudo.origem() != origemAtual()) {
+                logger.info("💾 Instantâneo local {} gravado a partir de outro banco, carga completa", caminho);
+                return Optional.empty();
+            }
+            Duration idade = Duration.between(conteudo.gravadoEm(), Instant.now());
+            if (idade.compareTo(idadeMaxima) > 0) {
+                logger.info("💾 Instantâneo local {} com {} min (máximo {}), carga completa",
+                    caminho, idade.toMinutes(), idadeMaxima);
+                return Optional.empty();
+            }
+            logger.info("💾 Instantâneo local lido: {} resultados em {} ms (gravado em {}, marca {})",
+                conteudo.resultados().size(), Duration.ofNanos(System.nanoTime() - inicio).toMillis(),
+                conteudo.gravadoEm(), conteudo.marcaAtualizadoEm());
+            return Optional.of(conteudo);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("⚠️ Instantâneo local inválido ({}), carga completa do banco: {}", caminho, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Grava o instantâneo se houve alteração e o intervalo configurado passou
+     * @param marcaAtualizadoEm Marca d'água já refletida na imagem
+     * @param marcaId Id da marca d'água
+     */
+    public void gravarPeriodico(LocalDateTime marcaAtualizadoEm, long marcaId) {
+        gravar(marcaAtualizadoEm, marcaId, Duration.ofMinutes(intervaloMinutos));
+    }
+
+    /**
+     * Grava o instantâneo se houve alteração, sem esperar o intervalo (encerramento)
+     */
+    public void gravarFinal(LocalDateTime marcaAtualizadoEm, long marcaId) {
+        gravar(marcaAtualizadoEm, marcaId, Duration.ZERO);
+    }
+
+    private synchronized void gravar(LocalDateTime marcaAtualizadoEm, long marcaId, Duration intervaloMinimo) {
+        if (!habilitado || incompativel || marcaAtualizadoEm == null || alteracoes == alteracoesGravadas) {
+            return;
+        }
+        if (ultimaGravacao != 0 && System.nanoTime() - ultimaGravacao < intervaloMinimo.toNanos()) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            // Sob o lock: nenhum delta entra entre a marca e os registros gravados
+            FormatoInstantaneoResultados.gravar(Path.of(arquivo), registros, quantidade,
+                marcaAtualizadoEm, marcaId, origemAtual());
+            alteracoesGravadas = alteracoes;
+            logger.info("💾 Instantâneo local gravado: {} resultados em {} ms",
+                quantidade, Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+        } catch (IOException e) {
+            logger.warn("⚠️ Falha ao gravar instantâneo local {}: {}", arquivo, e.getMessage());
+        } finally {
+            ultimaGravacao = System.nanoTime();
+        }
+    }
+
+    /**
+     * Origem pela URL efetiva, relida a cada uso (a restauração CRaC pode trocá-la)
+     */
+    private long origemAtual() {
+        return FormatoInstantaneoResultados.identificarOrigem(ambiente.getProperty("spring.r2dbc.url"));
+    }
+
+    /**
+     * Verifica se o instantâneo mais o delta posterior reproduzem o banco: uma
+     * exclusão (ou linha que nunca chegou ao arquivo) muda a quantidade
+     * esperada ou o maior id
+     * @param instantaneo Resultados do arquivo, em ordem de id
+     * @param delta Resultados alterados após a marca d'água do arquivo
+     * @param totalBanco Quantidade de resultados no banco
+     * @param maiorIdBanco Maior id no banco (0 se vazio)
+     */
+    static boolean confereComBanco(List<ResultadoR2dbc> instantaneo, List<ResultadoR2dbc> delta,
+                                   long totalBanco, long maiorIdBanco) {
+        long[] ids = new long[instantaneo.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = instantaneo.get(i).getId();
+        }
+        long esperados = ids.length;
+        long maiorId = ids.length > 0 ? ids[ids.length - 1] : 0L;
+        Set<Long> novos = new HashSet<>();
+        for (ResultadoR2dbc resultado : delta) {
+            long id = resultado.getId();
+            if (Arrays.binarySearch(ids, id) < 0 && novos.add(id)) {
+                esperados++;
+            }
+            maiorId = Math.max(maiorId, id);
+        }
+        return esperados == totalBanco && maiorId == maiorIdBanco;
+    }
+}
@@ -0,0 +1,67 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.Locale;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Laços de contagem sobre as bitmasks dos sorteios em memória
+ *
+ * Cada sorteio é um par de {@code long} em arrays paralelos: {@code baixas[i]}
+ * com os números 0–63 e {@code altas[i]} com 64–99. As implementações só
+ * diferem no uso de SIMD: {@link KernelsContagemEscalar} (popcount escalar,
+ * sempre disponível) e {@link KernelsContagemVetorial} (Vector API, exige
+ * {@code --add-modules jdk.incubator.vector} em tempo de execução).
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public interface KernelsContagem {
+
+    /**
+     * Grava em {@code acertos[i - de]} os acertos da aposta [baixo, alto] no sorteio i, para i em [de, ate)
+     */
+    void acertosPorSorteio(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] acertos);
+
+    /**
+     * Soma em {@code porAcertos[k]} os sorteios de [de, ate) com k acertos da aposta [baixo, alto]
+     */
+    void histogramaAcertos(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] porAcertos);
+
+    /**
+     * Soma em {@code frequencias[n]} os sorteios de [de, ate) que contêm o número n
+     */
+    void frequencias(long[] baixas, long[] altas, int de, int ate, long[] frequencias);
+
+    /**
+     * Sorteios processados por instrução (1 = escalar)
+     */
+    int largura();
+
+    /**
+     * Escolhe a implementação
+     * @param modo "escalar", "vetorial" ou "auto" (Vector API quando o módulo está
+     *             presente e o hardware processa ao menos 4 sorteios por instrução)
+     */
+    static KernelsContagem selecionar(String modo) {
+        String escolhido = modo == null ? "auto" : modo.trim().toLowerCase(Locale.ROOT);
+        if (!escolhido.equals("escalar")
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Por reflexão: sem o módulo, a classe vetorial nunca é carregada
+                KernelsContagem vetorial = (KernelsContagem) Class
+                    .forName(KernelsContagem.class.getPackageName() + ".KernelsContagemVetorial")
+                    .getDeclaredConstructor()
+                    .newInstance();
+                if (escolhido.equals("vetorial") || vetorial.largura() >= 4) {
+                    return vetorial;
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LoggerFactory.getLogger(KernelsContagem.class)
+                    .warn("⚠️ Vector API indisponível, usando kernels escalares: {}", e.toString());
+            }
+        }
+        return new KernelsContagemEscalar();
+    }
+}
@@ -0,0 +1,42 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+/**
+ * Kernels de contagem escalares: {@link Long#bitCount} vira uma instrução
+ * POPCNT no JIT. Referência de corretude e fallback da versão vetorial.
+ */
+class KernelsContagemEscalar implements KernelsContagem {
+
+    @Override
+    public void acertosPorSorteio(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] acertos) {
+        for (int i = de; i < ate; i++) {
+            acertos[i - de] = Long.bitCount(baixas[i] & baixo) + Long.bitCount(altas[i] & alto);
+        }
+    }
+
+    @Override
+    public void histogramaAcertos(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] porAcertos) {
+        for (int i = de; i < ate; i++) {
+            porAcertos[Long.bitCount(baixas[i] & baixo) + Long.bitCount(altas[i] & alto)]++;
+        }
+    }
+
+    /**
+     * Percorre só os bits ligados (7 por sorteio): mais barato que testar os 100 números
+     */
+    @Override
+    public void frequencias(long[] baixas, long[] altas, int de, int ate, long[] frequencias) {
+        for (int i = de; i < ate; i++) {
+            for (long bits = baixas[i]; bits != 0; bits &= bits - 1) {
+                frequencias[Long.numberOfTrailingZeros(bits)]++;
+            }
+            for (long bits = altas[i]; bits != 0; bits &= bits - 1) {
+                frequencias[64 + Long.numberOfTrailingZeros(bits)]++;
+            }
+        }
+    }
+
+    @Override
+    public int largura() {
+        return 1;
+    }
+}
@@ -0,0 +1,77 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels de acertos com a Vector API (incubadora): AND + BIT_COUNT em
+ * {@link LongVector#SPECIES_PREFERRED} sorteios por instrução (4 com AVX2,
+ * 8 com AVX-512), resto escalar.
+ *
+ * A frequência por número continua escalar (herdada): ela percorre só os 7
+ * bits ligados de cada sorteio, e a contagem posicional em SIMD custa ~100
+ * operações por sorteio divididas pela largura, o que não compensa antes de
+ * 16 sorteios por instrução.
+ *
+ * Só é carregada por {@link KernelsContagem#selecionar(String)}, e apenas
+ * com o módulo {@code jdk.incubator.vector} presente.
+ */
+final class KernelsContagemVetorial extends KernelsContagemEscalar {
+
+    private static final VectorSpecies<Long> ESPECIE = LongVector.SPECIES_PREFERRED;
+
+    /** Mesma quantidade de lanes em int, para gravar os acertos sem passar por long[] */
+    private static final VectorSpecies<Integer> ESPECIE_INT =
+        VectorSpecies.of(int.class, VectorShape.forBitSize(ESPECIE.length() * Integer.SIZE));
+
+    @Override
+    public void acertosPorSorteio(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] acertos) {
+        LongVector apostaBaixa = LongVector.broadcast(ESPECIE, baixo);
+        LongVector apostaAlta = LongVector.broadcast(ESPECIE, alto);
+        int i = de;
+        for (int limite = de + ESPECIE.loopBound(ate - de); i < limite; i += ESPECIE.length()) {
+            acertos(baixas, altas, i, apostaBaixa, apostaAlta)
+                .convertShape(VectorOperators.L2I, ESPECIE_INT, 0)
+                .reinterpretAsInts()
+                .intoArray(acertos, i - de);
+        }
+        for (; i < ate; i++) {
+            acertos[i - de] = Long.bitCount(baixas[i] & baixo) + Long.bitCount(altas[i] & alto);
+        }
+    }
+
+    @Override
+    public void histogramaAcertos(long[] baixas, long[] altas, int de, int ate, long baixo, long alto, int[] porAcertos) {
+        LongVector apostaBaixa = LongVector.broadcast(ESPECIE, baixo);
+        LongVector apostaAlta = LongVector.broadcast(ESPECIE, alto);
+        int faixas = porAcertos.length;
+        int comAcerto = 0;
+        int i = de;
+        int limite = de + ESPECIE.loopBound(ate - de);
+        for (; i < limite; i += ESPECIE.length()) {
+            LongVector acertos = acertos(baixas, altas, i, apostaBaixa, apostaAlta);
+            // Uma comparação por faixa: sem scatter, o histograma vira contagem de máscaras
+            for (int k = 1; k < faixas; k++) {
+                int quantidade = acertos.compare(VectorOperators.EQ, k).trueCount();
+                porAcertos[k] += quantidade;
+                comAcerto += quantidade;
+            }
+        }
+        porAcertos[0] += (limite - de) - comAcerto;
+        for (; i < ate; i++) {
+            porAcertos[Long.bitCount(baixas[i] & baixo) + Long.bitCount(altas[i] & alto)]++;
+        }
+    }
+
+    @Override
+    public int largura() {
+        return ESPECIE.length();
+    }
+
+    private static LongVector acertos(long[] baixas, long[] altas, int i, LongVector apostaBaixa, LongVector apostaAlta) {
+        return LongVector.fromArray(ESPECIE, baixas, i).and(apostaBaixa).lanewise(VectorOperators.BIT_COUNT)
+            .add(LongVector.fromArray(ESPECIE, altas, i).and(apostaAlta).lanewise(VectorOperators.BIT_COUNT));
+    }
+}
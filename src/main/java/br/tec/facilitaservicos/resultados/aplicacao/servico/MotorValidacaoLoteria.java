@@ -0,0 +1,154 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Motor síncrono de validação de números, guiado por tabela de regras.
+ *
+ * Verifica um {@code int[]} em uma única passada: faixa, quantidade e
+ * duplicados (bitmask de 128 bits em dois {@code long}). A saída ordenada
+ * sai da própria bitmask, sem ordenação nem boxing. A fachada reativa fica
+ * em {@link ServicoValidacaoLoteriaBase}; o motor não conhece Reactor.
+ *
+ * Precedência dos erros (mesma da cadeia reativa anterior):
+ * faixa → quantidade → duplicados.
+ */
+final class MotorValidacaoLoteria {
+
+    static final int VALIDO = 0;
+    static final int FORA_DA_FAIXA = 1;
+    static final int QUANTIDADE_INVALIDA = 2;
+    static final int DUPLICADOS = 3;
+
+    /**
+     * Regra de uma modalidade: faixa de números e quantidade aceita por aposta
+     */
+    record RegraModalidade(String modalidade, int quantidadeMinima, int quantidadeMaxima,
+                           int numeroMinimo, int numeroMaximo) {
+
+        RegraModalidade {
+            if (numeroMinimo < 0 || numeroMaximo > 127 || numeroMinimo > numeroMaximo) {
+                throw new IllegalArgumentException("Faixa fora da bitmask de 128 bits: " + modalidade);
+            }
+        }
+    }
+
+    static final RegraModalidade MEGA_SENA = new RegraModalidade("MEGA_SENA", 6, 15, 1, 60);
+    static final RegraModalidade QUINA = new RegraModalidade("QUINA", 5, 15, 1, 80);
+    static final RegraModalidade LOTOFACIL = new RegraModalidade("LOTOFACIL", 15, 18, 1, 25);
+
+    private static final Map<String, RegraModalidade> REGRAS = Map.of(
+        MEGA_SENA.modalidade(), MEGA_SENA,
+        QUINA.modalidade(), QUINA,
+        LOTOFACIL.modalidade(), LOTOFACIL
+    );
+
+    private MotorValidacaoLoteria() {
+    }
+
+    /**
+     * Regra da modalidade (sem diferenciar maiúsculas), ou null se não suportada
+     */
+    static RegraModalidade regra(String modalidade) {
+        return modalidade == null ? null : REGRAS.get(modalidade.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Verifica os {@code tamanho} primeiros números em uma passada
+     * @return {@link #VALIDO}, {@link #FORA_DA_FAIXA}, {@link #QUANTIDADE_INVALIDA} ou {@link #DUPLICADOS}
+     */
+    static int verificar(RegraModalidade regra, int[] numeros, int tamanho) {
+        long baixo = 0L;
+        long alto = 0L;
+        boolean duplicado = false;
+        int minimo = regra.numeroMinimo();
+        int maximo = regra.numeroMaximo();
+
+        for (int i = 0; i < tamanho; i++) {
+            int numero = numeros[i];
+            if (numero < minimo || numero > maximo) {
+                return FORA_DA_FAIXA;
+            }
+            if (numero < 64) {
+                long bit = 1L << numero;
+                duplicado |= (baixo & bit) != 0;
+                baixo |= bit;
+            } else {
+                long bit = 1L << (numero - 64);
+                duplicado |= (alto & bit) != 0;
+                alto |= bit;
+            }
+        }
+
+        if (tamanho < regra.quantidadeMinima() || tamanho > regra.quantidadeMaxima()) {
+            return QUANTIDADE_INVALIDA;
+        }
+        return duplicado ? DUPLICADOS : VALIDO;
+    }
+
+    /**
+     * Valida e devolve os números ordenados no formato "1-7-13"
+     * @throws IllegalArgumentException com a mensagem do primeiro erro encontrado
+     */
+    static String validar(RegraModalidade regra, int[] numeros, int tamanho) {
+        int codigo = verificar(regra, numeros, tamanho);
+        if (codigo != VALIDO) {
+            throw new IllegalArgumentException(mensagem(regra, codigo));
+        }
+        return formatarOrdenado(numeros, tamanho);
+    }
+
+    /**
+     * Mensagem de erro de um código de {@link #verificar}
+     */
+    static String mensagem(RegraModalidade regra, int codigo) {
+        return switch (codigo) {
+            case FORA_DA_FAIXA -> "Alguns números estão fora da faixa válida para " + regra.modalidade();
+            case QUANTIDADE_INVALIDA -> "Quantidade de números inválida para " + regra.modalidade();
+            case DUPLICADOS -> "Números duplicados não são permitidos";
+            default -> null;
+        };
+    }
+
+    /**
+     * Números já validados (0..127, sem duplicados) em ordem crescente, separados por "-"
+     */
+    static String formatarOrdenado(int[] numeros, int tamanho) {
+        long baixo = 0L;
+        long alto = 0L;
+        for (int i = 0; i < tamanho; i++) {
+            int numero = numeros[i];
+            if (numero < 64) {
+                baixo |= 1L << numero;
+            } else {
+                alto |= 1L << (numero - 64);
+            }
+        }
+
+        StringBuilder saida = new StringBuilder(tamanho * 3);
+        for (; baixo != 0; baixo &= baixo - 1) {
+            separar(saida).append(Long.numberOfTrailingZeros(baixo));
+        }
+        for (; alto != 0; alto &= alto - 1) {
+            separar(saida).append(64 + Long.numberOfTrailingZeros(alto));
+        }
+        return saida.toString();
+    }
+
+    /**
+     * Cópia primitiva de uma lista (null em qualquer posição lança NPE, como no unboxing)
+     */
+    static int[] paraArray(List<Integer> numeros) {
+        int[] valores = new int[numeros.size()];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = numeros.get(i);
+        }
+        return valores;
+    }
+
+    private static StringBuilder separar(StringBuilder saida) {
+        return saida.isEmpty() ? saida : saida.append('-');
+    }
+}
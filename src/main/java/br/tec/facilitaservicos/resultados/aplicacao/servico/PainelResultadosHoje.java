@@ -0,0 +1,232 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.PainelHojeEventoDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * ============================================================================
+ * 📺 PAINEL AO VIVO DOS RESULTADOS DE HOJE
+ * ============================================================================
+ *
+ * Mantém o quadro do dia (último resultado de cada horário) alimentado pelos
+ * deltas da sincronização incremental e o distribui aos assinantes do
+ * WebSocket: snapshot na conexão, depois só os eventos (novo / correção).
+ *
+ * - Cada mensagem é serializada uma única vez e o mesmo byte[] vai para
+ *   todas as sessões
+ * - Cada assinante tem fila limitada; quem a enche é desconectado (e recebe
+ *   um snapshot novo ao reconectar) em vez de crescer a memória sem limite
+ * - Na virada do dia (agendada para a meia-noite de America/Sao_Paulo, sem
+ *   depender de um novo resultado) o quadro é zerado e um snapshot vazio vai
+ *   para todos
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class PainelResultadosHoje implements ConsumidorAtualizacaoResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(PainelResultadosHoje.class);
+
+    private static final int HORARIOS_MAXIMOS = 1_000;
+
+    private final RepositorioResultadoR2dbc repositorio;
+    private final ResultadoMapper mapper;
+    private final ServicoDataHoraAtual dataHoraAtual;
+    private final ObjectMapper objectMapper;
+
+    @Value("${resultados.painel-hoje.fila-por-sessao:64}")
+    private int filaPorSessao = 64;
+
+    // Estado do painel e assinantes: acesso sempre sincronizado
+    private final TreeMap<String, ResultadoDto> porHorario = new TreeMap<>();
+    private final Set<Sinks.Many<byte[]>> assinantes = new HashSet<>();
+    private LocalDate dia;
+    private long versao;
+    private byte[] snapshot;
+    private Disposable viradaDia;
+
+    public PainelResultadosHoje(RepositorioResultadoR2dbc repositorio, ResultadoMapper mapper,
+                                ServicoDataHoraAtual dataHoraAtual, ObjectMapper objectMapper) {
+        this.repositorio = repositorio;
+        this.mapper = mapper;
+        this.dataHoraAtual = dataHoraAtual;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> carregarInicial() {
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        return repositorio.findByDataResultadoOrderByHorario(hoje, PageRequest.of(0, HORARIOS_MAXIMOS))
+            .collectList()
+            .doOnNext(this::aplicar)
+            .then();
+    }
+
+    /**
+     * Agenda a virada do dia para cada meia-noite
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void agendarViradaDoDia() {
+        viradaDia = Mono.defer(() -> Mono.delay(ateProximoDia(dataHoraAtual.agoraZoned())))
+            .then(Mono.fromRunnable(this::verificarViradaDoDia))
+            .onErrorResume(e -> {
+                logger.warn("⚠️ Falha na virada do dia do painel: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .repeat()
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (viradaDia != null) {
+            viradaDia.dispose();
+        }
+    }
+
+    /**
+     * Zera o quadro e envia o snapshot vazio se o dia mudou desde o último acesso
+     */
+    synchronized void verificarViradaDoDia() {
+        virarDiaSeNecessario();
+    }
+
+    /**
+     * Espera até a próxima meia-noite no fuso de {@code agora}, com margem para
+     * {@link ServicoDataHoraAtual#dataHoje()} já devolver o novo dia
+     */
+    static Duration ateProximoDia(ZonedDateTime agora) {
+        ZonedDateTime meiaNoite = agora.toLocalDate().plusDays(1).atStartOfDay(agora.getZone());
+        return Duration.between(agora, meiaNoite).plusSeconds(1);
+    }
+
+    @Override
+    public boolean carregarDoHistorico(List<ResultadoR2dbc> historico) {
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        aplicar(historico.stream().filter(resultado -> hoje.equals(resultado.getDataResultado())).toList());
+        return true;
+    }
+
+    @Override
+    public synchronized void aplicar(List<ResultadoR2dbc> delta) {
+        virarDiaSeNecessario();
+        for (ResultadoR2dbc resultado : delta) {
+            if (resultado.getHorario() == null || !dia.equals(resultado.getDataResultado())) {
+                continue;
+            }
+            ResultadoDto dto = mapper.paraDto(resultado);
+            ResultadoDto anterior = porHorario.put(dto.horario(), dto);
+            versao++;
+            snapshot = null;
+            if (!assinantes.isEmpty()) {
+                String tipo = anterior == null ? PainelHojeEventoDto.NOVO : PainelHojeEventoDto.CORRECAO;
+                difundir(serializar(new PainelHojeEventoDto(tipo, versao, dia, null, dto)));
+            }
+        }
+    }
+
+    /**
+     * Assina o painel: primeiro o snapshot atual, depois os eventos, já serializados em JSON.
+     * Termina com erro se o assinante não acompanhar (fila cheia).
+     */
+    public Flux<byte[]> assinar() {
+        return Flux.defer(() -> {
+            Sinks.Many<byte[]> fila = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(filaPorSessao));
+            synchronized (this) {
+                virarDiaSeNecessario();
+                // Snapshot e registro sob o mesmo lock: nenhum evento fica entre os dois
+                fila.tryEmitNext(snapshotAtual());
+                assinantes.add(fila);
+            }
+            return fila.asFlux().doFinally(sinal -> remover(fila));
+        });
+    }
+
+    /**
+     * Quantidade de sessões assinando o painel
+     */
+    public synchronized int assinantes() {
+        return assinantes.size();
+    }
+
+    private synchronized void remover(Sinks.Many<byte[]> fila) {
+        assinantes.remove(fila);
+    }
+
+    private void virarDiaSeNecessario() {
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        if (hoje.equals(dia)) {
+            return;
+        }
+        boolean virada = dia != null;
+        dia = hoje;
+        porHorario.clear();
+        versao++;
+        snapshot = null;
+        if (virada && !assinantes.isEmpty()) {
+            difundir(snapshotAtual());
+        }
+    }
+
+    private byte[] snapshotAtual() {
+        if (snapshot == null) {
+            snapshot = serializar(new PainelHojeEventoDto(PainelHojeEventoDto.SNAPSHOT, versao, dia,
+                new ArrayList<>(porHorario.values()), null));
+        }
+        return snapshot;
+    }
+
+    private void difundir(byte[] quadro) {
+        var iterador = assinantes.iterator();
+        while (iterador.hasNext()) {
+            Sinks.Many<byte[]> fila = iterador.next();
+            Sinks.EmitResult resultado = fila.tryEmitNext(quadro);
+            if (resultado.isFailure()) {
+                iterador.remove();
+                if (resultado == Sinks.EmitResult.FAIL_OVERFLOW) {
+                    logger.info("📺 Sessão do painel não acompanhou {} mensagens, desconectada", filaPorSessao);
+                    fila.tryEmitError(new IllegalStateException("Assinante lento do painel de hoje"));
+                }
+            }
+        }
+    }
+
+    private byte[] serializar(PainelHojeEventoDto evento) {
+        try {
+            return objectMapper.writeValueAsBytes(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento do painel", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Publica os resultados novos ou alterados de cada delta da sincronização
+ * incremental para os assinantes de streaming (RSocket, WebSocket).
+ *
+ * - Sem replay: o assinante recebe só o que chegar depois da assinatura
+ * - Cada assinante tem buffer próprio; se não consumir, os mais antigos são
+ *   descartados, sem segurar a sincronização nem os demais assinantes
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class PublicadorNovosResultados implements ConsumidorAtualizacaoResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicadorNovosResultados.class);
+
+    static final int BUFFER_POR_ASSINANTE = 256;
+
+    private final ResultadoMapper mapper;
+    private final Sinks.Many<ResultadoDto> novos = Sinks.many().multicast().directBestEffort();
+
+    public PublicadorNovosResultados(ResultadoMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Fluxo infinito dos resultados publicados a partir da assinatura
+     */
+    public Flux<ResultadoDto> novos() {
+        return novos.asFlux()
+            .onBackpressureBuffer(BUFFER_POR_ASSINANTE,
+                descartado -> logger.debug("📡 Assinante lento, resultado {} descartado", descartado.id()),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    @Override
+    public void aplicar(List<ResultadoR2dbc> delta) {
+        if (novos.currentSubscriberCount() == 0) {
+            return;
+        }
+        for (ResultadoR2dbc resultado : delta) {
+            novos.tryEmitNext(mapper.paraDto(resultado));
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package br.tec.facilitaservicos.resultados.aplicacao.servico;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.CacheConsultasResultados.Regiao;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.EstatisticasDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.HistogramaSomasDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.PaginacaoDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.RankingDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
 import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.infraestrutura.ConsultaProjecaoResultados;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
@@ -37,9 +42,16 @@ public class ResultadoService {
     private static final int TAMANHO_MINIMO = 1;
     private static final int TAMANHO_MAXIMO_DEFAULT = 100;
     private static final int LIMITE_MAXIMO_RANKING = 50;
+    private static final int DIAS_HORARIOS_RECENTES = 7;
 
     private final RepositorioResultadoR2dbc repositorio;
     private final ResultadoMapper mapper;
+    private final IndiceUltimoResultadoPorHorario indiceUltimoPorHorario;
+    private final ConsultaProjecaoResultados projecao;
+    private final CacheConsultasResultados cache;
+    private final ArmazemColunarResultados armazem;
+    private final ConferenciaResultados conferencia;
+    private final ServicoDataHoraAtual dataHoraAtual;
     private final WebClient webClient;
 
     @Value("${pagination.default-size:20}")
@@ -50,9 +62,21 @@ public class ResultadoService {
 
     public ResultadoService(RepositorioResultadoR2dbc repositorio,
                            ResultadoMapper mapper,
+                           IndiceUltimoResultadoPorHorario indiceUltimoPorHorario,
+                           ConsultaProjecaoResultados projecao,
+                           CacheConsultasResultados cache,
+                           ArmazemColunarResultados armazem,
+                           ConferenciaResultados conferencia,
+                           ServicoDataHoraAtual dataHoraAtual,
                            WebClient.Builder webClientBuilder) {
         this.repositorio = repositorio;
         this.mapper = mapper;
+        this.indiceUltimoPorHorario = indiceUltimoPorHorario;
+        this.projecao = projecao;
+        this.cache = cache;
+        this.armazem = armazem;
+        this.conferencia = conferencia;
+        this.dataHoraAtual = dataHoraAtual;
         this.webClient = webClientBuilder.baseUrl("http://localhost:8084").build(); // Scheduler
     }
 
@@ -69,22 +93,19 @@ public class ResultadoService {
         final int paginaFinal = Math.max(pagina, PAGINA_MINIMA);
         final int tamanhoFinal = Math.clamp(tamanho, TAMANHO_MINIMO, Math.max(tamanhoMaximo, TAMANHO_MINIMO));
 
-        Sort sort = criarOrdenacao(ordenacao);
-        Pageable pageable = PageRequest.of(paginaFinal, tamanhoFinal, sort);
+        long deslocamento = (long) paginaFinal * tamanhoFinal;
 
         Flux<ResultadoDto> resultados;
         Mono<Long> totalElements;
 
         if (periodo != null && periodo > 0) {
-            LocalDate dataInicio = LocalDate.now().minusDays(periodo);
-            LocalDate dataFim = LocalDate.now();
+            LocalDate dataFim = dataHoraAtual.dataHoje();
+            LocalDate dataInicio = dataFim.minusDays(periodo);
 
-            resultados = repositorio.findByPeriodo(dataInicio, dataFim, pageable)
-                .map(mapper::paraDto);
+            resultados = projecao.listarPorPeriodo(dataInicio, dataFim, ordenacao, tamanhoFinal, deslocamento);
             totalElements = repositorio.countByPeriodo(dataInicio, dataFim);
         } else {
-            resultados = repositorio.findAllPaginado(pageable)
-                .map(mapper::paraDto);
+            resultados = projecao.listar(ordenacao, tamanhoFinal, deslocamento);
             totalElements = repositorio.countTotal();
         }
 
@@ -98,8 +119,7 @@ public class ResultadoService {
      * @return Resultado encontrado
      */
     public Mono<ResultadoDto> buscarPorId(Long id) {
-        return repositorio.findById(id)
-            .map(mapper::paraDto);
+        return projecao.buscarPorId(id);
     }
 
     /**
@@ -110,13 +130,27 @@ public class ResultadoService {
      */
     public Flux<RankingDto> buscarRanking(Integer temporada, Integer limite) {
         final int limiteRanking = Math.clamp(limite != null ? limite : TAMANHO_MINIMO, TAMANHO_MINIMO, LIMITE_MAXIMO_RANKING);
+        final Integer temporadaFinal = temporada != null && temporada > 0 ? temporada : null;
+        String chave = "ranking:" + temporadaFinal + ":" + limiteRanking + ":" + dataHoraAtual.dataHoje();
+
+        return cache.obter(Regiao.RANKING, chave, () -> carregarRanking(temporadaFinal, limiteRanking).collectList())
+            .flatMapMany(Flux::fromIterable);
+    }
+
+    private Flux<RankingDto> carregarRanking(Integer temporada, int limiteRanking) {
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        if (conferencia.isCarregado()) {
+            // Mesma contagem do SQL (ocorrências nas sete colunas), pelos kernels sobre as bitmasks
+            long[] frequencias = temporada != null
+                ? conferencia.frequencias(hoje.minusDays(temporada), hoje)
+                : conferencia.frequencias(null, null);
+            return Flux.fromIterable(rankingDasFrequencias(frequencias, limiteRanking, true));
+        }
 
         Flux<Object[]> estatisticas;
 
-        if (temporada != null && temporada > 0) {
-            LocalDate dataInicio = LocalDate.now().minusDays(temporada);
-            LocalDate dataFim = LocalDate.now();
-            estatisticas = repositorio.findNumerosMaisSorteadosNoPeriodo(dataInicio, dataFim, limiteRanking);
+        if (temporada != null) {
+            estatisticas = repositorio.findNumerosMaisSorteadosNoPeriodo(hoje.minusDays(temporada), hoje, limiteRanking);
         } else {
             estatisticas = repositorio.findEstatisticasFrequenciaNumeros(limiteRanking);
         }
@@ -137,6 +171,21 @@ public class ResultadoService {
      * @return Estatísticas completas
      */
     public Mono<EstatisticasDto> buscarEstatisticas() {
+        return cache.obter(Regiao.ESTATISTICAS, "estatisticas:" + dataHoraAtual.dataHoje(), this::carregarEstatisticas);
+    }
+
+    private Mono<EstatisticasDto> carregarEstatisticas() {
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        if (armazem.isCarregado() && conferencia.isCarregado()) {
+            return Mono.fromCallable(() -> {
+                ArmazemColunarResultados.Resumo resumo = armazem.resumir(hoje, DIAS_HORARIOS_RECENTES);
+                long total = resumo.totalResultados();
+                return EstatisticasDto.completas(
+                    total, total * 7, resumo.periodoInicio(), resumo.periodoFim(),
+                    rankingDasFrequencias(conferencia.frequencias(null, null), 10, false), null, resumo.horariosAtivos());
+            });
+        }
+
         Mono<Long> totalResultados = repositorio.countTotal();
         Mono<Long> totalSorteios = totalResultados.map(total -> total * 7); // 7 números por resultado
 
@@ -148,7 +197,7 @@ public class ResultadoService {
         Flux<RankingDto> numerosMaisFrequentes = repositorio.findEstatisticasFrequenciaNumeros(10)
             .map(row -> RankingDto.criar((String) row[0], ((Number) row[1]).longValue()));
 
-        Flux<String> horariosAtivos = repositorio.findHorariosPorData(LocalDate.now())
+        Flux<String> horariosAtivos = repositorio.findHorariosPorData(hoje)
             .switchIfEmpty(buscarHorariosRecentes());
 
         return Mono.zip(totalResultados, totalSorteios, periodo)
@@ -180,12 +229,13 @@ public class ResultadoService {
         final int paginaFinal = Math.max(pagina, PAGINA_MINIMA);
         final int tamanhoFinal = Math.clamp(tamanho, TAMANHO_MINIMO, Math.max(tamanhoMaximo, TAMANHO_MINIMO));
 
-        Pageable pageable = PageRequest.of(paginaFinal, tamanhoFinal);
+        LocalDate hoje = dataHoraAtual.dataHoje();
+        String chave = "hoje:" + hoje + ":" + paginaFinal + ":" + tamanhoFinal;
 
-        return Mono.zip(
-            repositorio.findResultadosDeHoje(pageable).map(mapper::paraDto).collectList(),
-            repositorio.countByDataResultado(LocalDate.now())
-        ).map(tuple -> PaginacaoDto.criar(tuple.getT1(), paginaFinal, tamanhoFinal, tuple.getT2()));
+        return cache.obter(Regiao.RESULTADOS, chave, () -> Mono.zip(
+            projecao.listarPorData(hoje, tamanhoFinal, (long) paginaFinal * tamanhoFinal).collectList(),
+            repositorio.countByDataResultado(hoje)
+        ).map(tuple -> PaginacaoDto.criar(tuple.getT1(), paginaFinal, tamanhoFinal, tuple.getT2())));
     }
 
     /**
@@ -197,22 +247,76 @@ public class ResultadoService {
         return repositorio.findHorariosPorData(data);
     }
 
-    // Métodos auxiliares
+    /**
+     * Verifica se as consultas analíticas em memória estão disponíveis
+     */
+    public boolean isArmazemColunarCarregado() {
+        return armazem.isCarregado();
+    }
 
-    private Sort criarOrdenacao(String ordenacao) {
-        if (ordenacao == null || ordenacao.trim().isEmpty()) {
-            return Sort.by(Sort.Direction.DESC, "dataResultado", "horario");
-        }
+    /**
+     * Busca resultados que contêm o número, do mais recente ao mais antigo
+     * @param numero Número buscado (0-99)
+     * @param pagina Página (0-based)
+     * @param tamanho Tamanho da página
+     * @return Resultados paginados
+     */
+    public Mono<PaginacaoDto<ResultadoDto>> buscarPorNumero(int numero, int pagina, int tamanho) {
+        final int paginaFinal = Math.max(pagina, PAGINA_MINIMA);
+        final int tamanhoFinal = Math.clamp(tamanho, TAMANHO_MINIMO, Math.max(tamanhoMaximo, TAMANHO_MINIMO));
 
-        String[] partes = ordenacao.split(",");
-        String campo = partes[0].trim();
-        String direcao = partes.length > 1 ? partes[1].trim() : "desc";
+        return Mono.fromCallable(() -> {
+            ArmazemColunarResultados.PaginaBusca busca =
+                armazem.buscarPorNumero(numero, (long) paginaFinal * tamanhoFinal, tamanhoFinal);
+            return PaginacaoDto.criar(busca.conteudo(), paginaFinal, tamanhoFinal, busca.total());
+        });
+    }
 
-        Sort.Direction direction = "asc".equalsIgnoreCase(direcao)
-            ? Sort.Direction.ASC
-            : Sort.Direction.DESC;
+    /**
+     * Histograma das somas dos resultados no período
+     * @param inicio Data inicial (opcional)
+     * @param fim Data final (opcional)
+     * @return Quantidade por soma e soma média
+     */
+    public Mono<HistogramaSomasDto> buscarHistogramaSomas(LocalDate inicio, LocalDate fim) {
+        return Mono.fromCallable(() -> {
+            long[] histograma = armazem.histogramaSomas(inicio, fim);
+            List<HistogramaSomasDto.Faixa> faixas = new ArrayList<>();
+            long sorteios = 0;
+            long somaTotal = 0;
+            for (int soma = 0; soma < histograma.length; soma++) {
+                long quantidade = histograma[soma];
+                if (quantidade > 0) {
+                    faixas.add(new HistogramaSomasDto.Faixa(soma, quantidade));
+                    sorteios += quantidade;
+                    somaTotal += soma * quantidade;
+                }
+            }
+            Double media = sorteios > 0 ? Math.round(100.0 * somaTotal / sorteios) / 100.0 : null;
+            return new HistogramaSomasDto(inicio, fim, sorteios, media, faixas);
+        });
+    }
+
+    // Métodos auxiliares
+
+    /**
+     * Ranking a partir das frequências em memória: maior frequência
+     * primeiro, empate pelo menor número; números que não saíram ficam de fora
+     */
+    private static List<RankingDto> rankingDasFrequencias(long[] frequencias, int limite, boolean comPosicao) {
+        Integer[] numeros = new Integer[frequencias.length];
+        for (int i = 0; i < numeros.length; i++) {
+            numeros[i] = i;
+        }
+        // Ordenação estável: empates mantêm o menor número primeiro
+        Arrays.sort(numeros, (a, b) -> Long.compare(frequencias[b], frequencias[a]));
 
-        return Sort.by(direction, campo);
+        List<RankingDto> ranking = new ArrayList<>(limite);
+        for (int i = 0; i < numeros.length && ranking.size() < limite && frequencias[numeros[i]] > 0; i++) {
+            RankingDto item = RankingDto.criar(ArmazemColunarResultados.formatarNumero(numeros[i]), frequencias[numeros[i]]);
+            ranking.add(comPosicao ? item.comPosicao(ranking.size() + 1) : item);
+        }
+        return ranking;
     }
 
     private Flux<String> buscarHorariosRecentes() {
@@ -268,8 +372,7 @@ public class ResultadoService {
      * Busca resultado por horário e data.
      */
     public Mono<ResultadoDto> buscarPorHorarioData(String horario, LocalDate data) {
-        return repositorio.findByHorarioAndDataResultado(horario, data)
-            .map(mapper::paraDto);
+        return projecao.buscarPorHorarioEData(horario, data);
     }
 
     /**
@@ -310,25 +413,26 @@ public class ResultadoService {
 
     /**
      * Último resultado por horário.
+     * Servido pelo índice em memória quando carregado; senão consulta o banco (em cache).
      */
     public Mono<ResultadoDto> buscarUltimoPorHorario(String horario) {
-        return repositorio.findUltimoResultadoPorHorario(horario)
-            .map(mapper::paraDto);
+        return indiceUltimoPorHorario.obter(horario)
+            .map(Mono::just)
+            .orElseGet(() -> cache.obter(Regiao.RESULTADOS, "ultimo:" + horario,
+                () -> projecao.buscarUltimoPorHorario(horario)));
     }
 
     /**
      * Resultado por horário e data específica.
      */
     public Mono<ResultadoDto> buscarPorHorarioEData(String horario, LocalDate data) {
-        return repositorio.findByHorarioAndDataResultado(horario, data)
-            .map(mapper::paraDto);
+        return projecao.buscarPorHorarioEData(horario, data);
     }
 
     /**
      * Resultados por período específico.
      */
     public Flux<ResultadoDto> buscarPorPeriodo(LocalDate de, LocalDate ate) {
-        return repositorio.findByPeriodo(de, ate, Pageable.unpaged())
-            .map(mapper::paraDto);
+        return projecao.listarPorPeriodo(de, ate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ValidacaoLoteLinha;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ValidacaoLoteVeredito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ============================================================================
+ * 📦 VALIDAÇÃO EM LOTE (NDJSON)
+ * ============================================================================
+ *
+ * Valida um fluxo de linhas NDJSON contra as regras das modalidades do
+ * {@link ValidadorLoteriaFactory}, usando o motor síncrono
+ * ({@link MotorValidacaoLoteria}) em vez da cadeia reativa por número.
+ *
+ * - Linhas agrupadas em blocos (tamanho ou 50 ms) processados em paralelo (Schedulers.parallel)
+ * - Ordem de saída igual à de entrada (flatMapSequential)
+ * - Backpressure ponta a ponta: no máximo paralelismo × bloco linhas em memória
+ * - Linha inválida (JSON, modalidade, números) gera veredito, não erro do fluxo
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Service
+public class ServicoValidacaoLote {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServicoValidacaoLote.class);
+
+    private final ValidadorLoteriaFactory validadorFactory;
+    private final ObjectReader leitorLinha;
+
+    @Value("${resultados.validacao-lote.tamanho-bloco:256}")
+    private int tamanhoBloco = 256;
+
+    @Value("${resultados.validacao-lote.paralelismo:0}")
+    private int paralelismo;
+
+    ServicoValidacaoLote(ValidadorLoteriaFactory validadorFactory, ObjectMapper objectMapper) {
+        this.validadorFactory = validadorFactory;
+        this.leitorLinha = objectMapper.readerFor(ValidacaoLoteLinha.class);
+    }
+
+    /**
+     * Valida cada linha NDJSON e emite um veredito por linha não vazia, na ordem de entrada
+     * @param linhas Linhas do corpo (sem delimitador)
+     * @return Vereditos numerados pela linha de origem (1-based)
+     */
+    public Flux<ValidacaoLoteVeredito> validar(Flux<String> linhas) {
+        int concorrencia = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        int bloco = Math.max(1, tamanhoBloco);
+
+        return linhas
+            .index((indice, linha) -> new LinhaNumerada(indice + 1, linha))
+            .filter(linha -> !linha.conteudo().isBlank())
+            // Bloco fecha por tamanho ou tempo: clientes lentos não seguram vereditos prontos
+            .bufferTimeout(bloco, Duration.ofMillis(50), true)
+            .flatMapSequential(lote -> Mono.fromCallable(() -> validarBloco(lote))
+                .subscribeOn(Schedulers.parallel()), concorrencia, 1)
+            .flatMapIterable(vereditos -> vereditos)
+            .doOnError(e -> logger.warn("⚠️ Validação em lote interrompida: {}", e.getMessage()));
+    }
+
+    private List<ValidacaoLoteVeredito> validarBloco(List<LinhaNumerada> lote) {
+        List<ValidacaoLoteVeredito> vereditos = new ArrayList<>(lote.size());
+        for (LinhaNumerada linha : lote) {
+            vereditos.add(validarLinha(linha.numero(), linha.conteudo()));
+        }
+        return vereditos;
+    }
+
+    /**
+     * Valida uma linha NDJSON de forma síncrona
+     */
+    ValidacaoLoteVeredito validarLinha(long numero, String json) {
+        ValidacaoLoteLinha linha;
+        try {
+            linha = leitorLinha.readValue(json);
+        } catch (JsonProcessingException e) {
+            return ValidacaoLoteVeredito.invalido(numero, null, null, "JSON inválido");
+        }
+        if (linha == null) {
+            return ValidacaoLoteVeredito.invalido(numero, null, null, "JSON inválido");
+        }
+
+        MotorValidacaoLoteria.RegraModalidade regra = validadorFactory.getRegra(linha.modalidade());
+        if (regra == null) {
+            return ValidacaoLoteVeredito.invalido(numero, linha.id(), linha.resultadoId(), "Modalidade não suportada: " + linha.modalidade());
+        }
+        if (linha.numeros() == null) {
+            return ValidacaoLoteVeredito.invalido(numero, linha.id(), linha.resultadoId(), "Números são obrigatórios");
+        }
+        if (linha.resultadoId() != null && linha.resultadoId() <= 0) {
+            return ValidacaoLoteVeredito.invalido(numero, linha.id(), linha.resultadoId(), "Resultado inválido");
+        }
+
+        int[] numeros = linha.numeros();
+        int codigo = MotorValidacaoLoteria.verificar(regra, numeros, numeros.length);
+        return codigo == MotorValidacaoLoteria.VALIDO
+            ? ValidacaoLoteVeredito.valido(numero, linha.id(), linha.resultadoId(),
+                MotorValidacaoLoteria.formatarOrdenado(numeros, numeros.length))
+            : ValidacaoLoteVeredito.invalido(numero, linha.id(), linha.resultadoId(),
+                MotorValidacaoLoteria.mensagem(regra, codigo));
+    }
+
+    private record LinhaNumerada(long numero, String conteudo) {
+    }
+}
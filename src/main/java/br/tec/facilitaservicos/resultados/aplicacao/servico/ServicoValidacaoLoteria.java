@@ -3,11 +3,11 @@ package br.tec.facilitaservicos.resultados.aplicacao.servico;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -79,38 +79,36 @@ abstract class ServicoValidacaoLoteriaBase implements ServicoValidacaoLoteria {
         });
     }
 
+    /**
+     * Regra (faixa e quantidade) da modalidade atendida
+     */
+    protected abstract MotorValidacaoLoteria.RegraModalidade getRegra();
+
+    @Override
+    public String getModalidade() {
+        return getRegra().modalidade();
+    }
+
+    /**
+     * Fachada reativa sobre o motor síncrono (uma passada, sem boxing)
+     */
     @Override
     public Mono<String> validarListaNumeros(List<Integer> numeros) {
-        return Flux.fromIterable(numeros)
-                .flatMap(this::isNumeroValido)
-                .all(valido -> valido)
-                .flatMap(todosValidos -> {
-                    if (!todosValidos) {
-                        return Mono.error(new IllegalArgumentException(
-                            "Alguns números estão fora da faixa válida para " + getModalidade()));
-                    }
-                    
-                    return validarQuantidadeNumeros(numeros)
-                            .flatMap(quantidadeOk -> {
-                                if (!quantidadeOk) {
-                                    return Mono.error(new IllegalArgumentException(
-                                        "Quantidade de números inválida para " + getModalidade()));
-                                }
-                                
-                                return temNumerosDuplicados(numeros)
-                                        .flatMap(temDuplicados -> {
-                                            if (temDuplicados) {
-                                                return Mono.error(new IllegalArgumentException(
-                                                    "Números duplicados não são permitidos"));
-                                            }
-                                            
-                                            return Mono.just(numeros.stream()
-                                                    .sorted()
-                                                    .map(String::valueOf)
-                                                    .collect(Collectors.joining("-")));
-                                        });
-                            });
-                });
+        return Mono.fromCallable(() -> {
+            int[] valores = MotorValidacaoLoteria.paraArray(numeros);
+            return MotorValidacaoLoteria.validar(getRegra(), valores, valores.length);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> isNumeroValido(int numero) {
+        return Mono.just(numero >= getRegra().numeroMinimo() && numero <= getRegra().numeroMaximo());
+    }
+
+    @Override
+    public Mono<Boolean> validarQuantidadeNumeros(List<Integer> numeros) {
+        return Mono.just(numeros.size() >= getRegra().quantidadeMinima()
+                && numeros.size() <= getRegra().quantidadeMaxima());
     }
 
     @Override
@@ -140,14 +138,9 @@ abstract class ServicoValidacaoLoteriaBase implements ServicoValidacaoLoteria {
 @Component("megaSenaValidacao")
 class ServicoValidacaoMegaSena extends ServicoValidacaoLoteriaBase {
 
-    private static final int QUANTIDADE_NUMEROS_MINIMA = 6;
-    private static final int QUANTIDADE_NUMEROS_MAXIMA = 15;
-    private static final int NUMERO_MINIMO = 1;
-    private static final int NUMERO_MAXIMO = 60;
-
     @Override
-    public String getModalidade() {
-        return "MEGA_SENA";
+    protected MotorValidacaoLoteria.RegraModalidade getRegra() {
+        return MotorValidacaoLoteria.MEGA_SENA;
     }
 
     @Override
@@ -161,17 +154,6 @@ class ServicoValidacaoMegaSena extends ServicoValidacaoLoteriaBase {
             return true;
         });
     }
-
-    @Override
-    public Mono<Boolean> isNumeroValido(int numero) {
-        return Mono.just(numero >= NUMERO_MINIMO && numero <= NUMERO_MAXIMO);
-    }
-
-    @Override
-    public Mono<Boolean> validarQuantidadeNumeros(List<Integer> numeros) {
-        return Mono.just(numeros.size() >= QUANTIDADE_NUMEROS_MINIMA && 
-                        numeros.size() <= QUANTIDADE_NUMEROS_MAXIMA);
-    }
 }
 
 /**
@@ -180,14 +162,9 @@ class ServicoValidacaoMegaSena extends ServicoValidacaoLoteriaBase {
 @Component("quinaValidacao")
 class ServicoValidacaoQuina extends ServicoValidacaoLoteriaBase {
 
-    private static final int QUANTIDADE_NUMEROS_MINIMA = 5;
-    private static final int QUANTIDADE_NUMEROS_MAXIMA = 15;
-    private static final int NUMERO_MINIMO = 1;
-    private static final int NUMERO_MAXIMO = 80;
-
     @Override
-    public String getModalidade() {
-        return "QUINA";
+    protected MotorValidacaoLoteria.RegraModalidade getRegra() {
+        return MotorValidacaoLoteria.QUINA;
     }
 
     @Override
@@ -201,17 +178,6 @@ class ServicoValidacaoQuina extends ServicoValidacaoLoteriaBase {
             return true;
         });
     }
-
-    @Override
-    public Mono<Boolean> isNumeroValido(int numero) {
-        return Mono.just(numero >= NUMERO_MINIMO && numero <= NUMERO_MAXIMO);
-    }
-
-    @Override
-    public Mono<Boolean> validarQuantidadeNumeros(List<Integer> numeros) {
-        return Mono.just(numeros.size() >= QUANTIDADE_NUMEROS_MINIMA && 
-                        numeros.size() <= QUANTIDADE_NUMEROS_MAXIMA);
-    }
 }
 
 /**
@@ -220,14 +186,9 @@ class ServicoValidacaoQuina extends ServicoValidacaoLoteriaBase {
 @Component("lotofacilValidacao")
 class ServicoValidacaoLotofacil extends ServicoValidacaoLoteriaBase {
 
-    private static final int QUANTIDADE_NUMEROS_MINIMA = 15;
-    private static final int QUANTIDADE_NUMEROS_MAXIMA = 18;
-    private static final int NUMERO_MINIMO = 1;
-    private static final int NUMERO_MAXIMO = 25;
-
     @Override
-    public String getModalidade() {
-        return "LOTOFACIL";
+    protected MotorValidacaoLoteria.RegraModalidade getRegra() {
+        return MotorValidacaoLoteria.LOTOFACIL;
     }
 
     @Override
@@ -241,17 +202,6 @@ class ServicoValidacaoLotofacil extends ServicoValidacaoLoteriaBase {
             return true;
         });
     }
-
-    @Override
-    public Mono<Boolean> isNumeroValido(int numero) {
-        return Mono.just(numero >= NUMERO_MINIMO && numero <= NUMERO_MAXIMO);
-    }
-
-    @Override
-    public Mono<Boolean> validarQuantidadeNumeros(List<Integer> numeros) {
-        return Mono.just(numeros.size() >= QUANTIDADE_NUMEROS_MINIMA && 
-                        numeros.size() <= QUANTIDADE_NUMEROS_MAXIMA);
-    }
 }
 
 /**
@@ -261,6 +211,7 @@ class ServicoValidacaoLotofacil extends ServicoValidacaoLoteriaBase {
 class ValidadorLoteriaFactory {
 
     private final Map<String, ServicoValidacaoLoteria> validadores;
+    private final Map<String, MotorValidacaoLoteria.RegraModalidade> regras;
 
     public ValidadorLoteriaFactory(List<ServicoValidacaoLoteria> validadores) {
         this.validadores = validadores.stream()
@@ -268,6 +219,18 @@ class ValidadorLoteriaFactory {
                     ServicoValidacaoLoteria::getModalidade,
                     v -> v
                 ));
+        this.regras = validadores.stream()
+                .filter(ServicoValidacaoLoteriaBase.class::isInstance)
+                .map(v -> ((ServicoValidacaoLoteriaBase) v).getRegra())
+                .collect(Collectors.toMap(MotorValidacaoLoteria.RegraModalidade::modalidade, r -> r));
+    }
+
+    /**
+     * Regra síncrona da modalidade para o motor (caminho em lote)
+     * @return regra, ou null se a modalidade não for suportada
+     */
+    MotorValidacaoLoteria.RegraModalidade getRegra(String modalidade) {
+        return modalidade == null ? null : regras.get(modalidade.toUpperCase(Locale.ROOT));
     }
 
     public Mono<ServicoValidacaoLoteria> getValidador(String modalidade) {
@@ -331,13 +294,12 @@ class ServicoValidacaoLoteriaManager {
     public Mono<ModalidadeInfo> getInformacoesModalidade(String modalidade) {
         return validadorFactory.getValidador(modalidade)
                 .map(validador -> {
-                    // Informações específicas baseadas na modalidade
-                    return switch (modalidade.toUpperCase()) {
-                        case "MEGA_SENA" -> new ModalidadeInfo(modalidade, 6, 15, 1, 60);
-                        case "QUINA" -> new ModalidadeInfo(modalidade, 5, 15, 1, 80);
-                        case "LOTOFACIL" -> new ModalidadeInfo(modalidade, 15, 18, 1, 25);
-                        default -> new ModalidadeInfo(modalidade, 1, 1, 1, 1);
-                    };
+                    // Informações da mesma tabela de regras usada pelo motor
+                    MotorValidacaoLoteria.RegraModalidade regra = MotorValidacaoLoteria.regra(modalidade);
+                    return regra == null
+                        ? new ModalidadeInfo(modalidade, 1, 1, 1, 1)
+                        : new ModalidadeInfo(modalidade, regra.quantidadeMinima(), regra.quantidadeMaxima(),
+                            regra.numeroMinimo(), regra.numeroMaximo());
                 });
     }
 
@@ -0,0 +1,360 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.infraestrutura.FormatoInstantaneoResultados;
+import br.tec.facilitaservicos.resultados.infraestrutura.RoteamentoLeitura;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * ============================================================================
+ * 🔄 SINCRONIZAÇÃO INCREMENTAL POR MARCA D'ÁGUA (updated_at)
+ * ============================================================================
+ *
+ * Alternativa simples ao CDC por binlog: consulta periodicamente
+ * {@code resultados WHERE updated_at > :marca ORDER BY updated_at} (índice
+ * idx_updated_at) e entrega apenas o delta aos
+ * {@link ConsumidorAtualizacaoResultados} registrados.
+ *
+ * - Marca d'água em keyset (updated_at, id): lotes grandes com o mesmo
+ *   timestamp não se repetem nem se perdem
+ * - Intervalo adaptativo: curto na janela dos horários de sorteio conhecidos,
+ *   longo no restante do dia
+ * - Exclusões não são observadas no ciclo (não há tombstone na tabela); na
+ *   carga pelo instantâneo local, quantidade e maior id do banco as revelam
+ * - Carga inicial única: o histórico completo é lido uma vez (instantâneo
+ *   local ou banco) e entregue a todos os consumidores
+ * - Com instantâneo local válido ({@link InstantaneoLocalResultados}), a carga
+ *   inicial vem do disco e só o delta posterior à marca gravada vem do banco
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Service
+public class SincronizacaoIncrementalResultados {
+
+    private static final Logger logger = LoggerFactory.getLogger(SincronizacaoIncrementalResultados.class);
+    private static final int SEGUNDOS_DIA = 24 * 60 * 60;
+
+    private final RepositorioResultadoR2dbc repositorio;
+    private final List<ConsumidorAtualizacaoResultados> consumidores;
+    private final ServicoDataHoraAtual dataHoraAtual;
+    private final InstantaneoLocalResultados instantaneoLocal;
+
+    private final Set<LocalTime> horariosConhecidos = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+    private final Sinks.One<Void> prontidao = Sinks.one();
+
+    @Value("${resultados.sincronizacao.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${resultados.sincronizacao.intervalo-rapido:5}")
+    private int intervaloRapidoSegundos = 5;
+
+    @Value("${resultados.sincronizacao.intervalo-lento:60}")
+    private int intervaloLentoSegundos = 60;
+
+    @Value("${resultados.sincronizacao.janela-antes:5}")
+    private int janelaAntesMinutos = 5;
+
+    @Value("${resultados.sincronizacao.janela-depois:30}")
+    private int janelaDepoisMinutos = 30;
+
+    @Value("${resultados.sincronizacao.tamanho-lote:1000}")
+    private int tamanhoLote = 1000;
+
+    private volatile LocalDateTime marcaAtualizadoEm;
+    private volatile long marcaId;
+    private volatile boolean inicializada;
+    private Disposable ciclo;
+
+    public SincronizacaoIncrementalResultados(RepositorioResultadoR2dbc repositorio,
+                                              List<ConsumidorAtualizacaoResultados> consumidores,
+                                              ServicoDataHoraAtual dataHoraAtual,
+                                              InstantaneoLocalResultados instantaneoLocal) {
+        this.repositorio = repositorio;
+        this.consumidores = consumidores;
+        this.dataHoraAtual = dataHoraAtual;
+        this.instantaneoLocal = instantaneoLocal;
+    }
+
+    /**
+     * Carrega do instantâneo local (ou fixa a marca d'água e executa as cargas
+     * iniciais) e inicia o ciclo de consultas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado) {
+            logger.info("🔄 Sincronização incremental desabilitada");
+            prontidao.tryEmitEmpty();
+            return;
+        }
+
+        Mono<Void> inicializacao = Mono.fromCallable(instantaneoLocal::ler)
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(conteudo -> conteudo.map(this::carregarDoInstantaneo).orElseGet(this::carregarDoBanco))
+            .thenMany(repositorio.findHorariosRecentes().doOnNext(this::registrarHorario))
+            .then()
+            // Marca d'água e carga sempre do primário: réplica atrasada perderia linhas
+            .transform(RoteamentoLeitura::noPrimario)
+            .doOnError(e -> logger.warn("⚠️ Falha na carga inicial da sincronização (nova tentativa): {}", e.getMessage()))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(2)).maxBackoff(Duration.ofMinutes(1)))
+            .doOnSuccess(v -> {
+                inicializada = true;
+                logger.info("✅ Sincronização incremental iniciada - marca d'água: {}, horários: {}",
+                    marcaAtualizadoEm, horariosConhecidos.size());
+                prontidao.tryEmitEmpty();
+            });
+
+        ciclo = inicializacao
+            .thenMany(Mono.defer(() -> Mono.delay(proximoIntervalo()))
+                .then(sincronizar()
+                    .onErrorResume(e -> {
+                        logger.warn("⚠️ Falha na sincronização incremental: {}", e.getMessage());
+                        return Mono.just(0);
+                    }))
+                // Entre ciclos: imagem e marca d'água consistentes para o instantâneo
+                .flatMap(total -> Mono.fromRunnable(() -> instantaneoLocal.gravarPeriodico(marcaAtualizadoEm, marcaId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .thenReturn(total))
+                .repeat())
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (ciclo != null) {
+            ciclo.dispose();
+        }
+        if (inicializada) {
+            instantaneoLocal.gravarFinal(marcaAtualizadoEm, marcaId);
+        }
+    }
+
+    /**
+     * Carga completa: marca d'água fixada antes, alterações concorrentes voltam como delta
+     */
+    private Mono<Void> carregarDoBanco() {
+        return repositorio.findMarcaDaguaAtualizacao()
+            .doOnNext(marca -> {
+                marcaAtualizadoEm = marca;
+                marcaId = 0L;
+            })
+            // Uma única varredura da tabela, no pool analítico, longe das buscas OLTP
+            .then(RoteamentoLeitura.analitica(repositorio.findAll(Sort.by("id")).collectList()))
+            .flatMap(this::carregarConsumidores)
+            .doOnNext(total -> logger.info("🔄 Carga inicial do banco com {} resultados", total))
+            .then();
+    }
+
+    /**
+     * Consumidores carregados do instantâneo; só o delta posterior à marca gravada vem do banco.
+     * O delta é conferido com o banco antes de qualquer consumidor ser carregado:
+     * divergência ou falha segue para a carga completa.
+     */
+    private Mono<Void> carregarDoInstantaneo(FormatoInstantaneoResultados.Conteudo conteudo) {
+        return Mono.zip(buscarAlteradosApos(conteudo.marcaAtualizadoEm(), conteudo.marcaId()),
+                repositorio.countTotal(), repositorio.findMaiorId())
+            .map(consulta -> {
+                boolean confere = InstantaneoLocalResultados.confereComBanco(conteudo.resultados(),
+                    consulta.getT1(), consulta.getT2(), consulta.getT3());
+                if (!confere) {
+                    logger.warn("⚠️ Instantâneo local não confere com o banco ({} resultados, maior id {}), carga completa",
+                        consulta.getT2(), consulta.getT3());
+                }
+                return confere ? Optional.of(consulta.getT1()) : Optional.<List<ResultadoR2dbc>>empty();
+            })
+            .onErrorResume(e -> {
+                logger.warn("⚠️ Falha ao conferir o instantâneo local com o banco, carga completa: {}", e.getMessage());
+                return Mono.just(Optional.empty());
+            })
+            .flatMap(delta -> delta.map(alterados -> carregarConsumidoresDoInstantaneo(conteudo, alterados))
+                .orElseGet(this::carregarDoBanco));
+    }
+
+    private Mono<Void> carregarConsumidoresDoInstantaneo(FormatoInstantaneoResultados.Conteudo conteudo,
+                                                         List<ResultadoR2dbc> delta) {
+        return Mono.fromRunnable(() -> {
+                marcaAtualizadoEm = conteudo.marcaAtualizadoEm();
+                marcaId = conteudo.marcaId();
+            })
+            .then(carregarConsumidores(conteudo.resultados()))
+            .doOnNext(total -> {
+                instantaneoLocal.registrarConteudoDoArquivo();
+                aplicarLote(delta);
+                logger.info("💾 Carga inicial pelo instantâneo local + {} resultados do banco", delta.size());
+            })
+            .then();
+    }
+
+    /**
+     * Todos os resultados alterados após a marca, em lotes por keyset, sem aplicar
+     */
+    private Mono<List<ResultadoR2dbc>> buscarAlteradosApos(LocalDateTime marca, long id) {
+        return repositorio.findAtualizadosApos(marca, id, tamanhoLote).collectList()
+            .expand(lote -> {
+                if (lote.size() < tamanhoLote) {
+                    return Mono.empty();
+                }
+                ResultadoR2dbc ultimo = lote.get(lote.size() - 1);
+                return repositorio.findAtualizadosApos(ultimo.getAtualizadoEm(), ultimo.getId(), tamanhoLote).collectList();
+            })
+            .flatMapIterable(lote -> lote)
+            .collectList();
+    }
+
+    /**
+     * Entrega o mesmo histórico a todos os consumidores; quem não o aceita faz a própria carga
+     * @return Mono com a quantidade de resultados do histórico
+     */
+    private Mono<Integer> carregarConsumidores(List<ResultadoR2dbc> historico) {
+        return Flux.fromIterable(consumidores)
+            .concatMap(consumidor -> consumidor.carregarDoHistorico(historico)
+                ? Mono.empty()
+                : RoteamentoLeitura.analitica(consumidor.carregarInicial()))
+            .then(Mono.fromSupplier(historico::size));
+    }
+
+    /**
+     * Busca e aplica todos os resultados alterados desde a marca d'água.
+     * Chamadas concorrentes são ignoradas: o ciclo em andamento já cobre o delta.
+     * @return Mono com a quantidade de resultados aplicados
+     */
+    public Mono<Integer> sincronizar() {
+        return Mono.defer(() -> {
+            if (!inicializada || !emExecucao.compareAndSet(false, true)) {
+                return Mono.just(0);
+            }
+            return buscarLote()
+                .expand(lote -> lote.size() < tamanhoLote ? Mono.empty() : buscarLote())
+                .map(List::size)
+                .reduce(0, Integer::sum)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        logger.debug("🔄 {} resultados sincronizados até {}", total, marcaAtualizadoEm);
+                    }
+                })
+                .doFinally(sinal -> emExecucao.set(false));
+        }).transform(RoteamentoLeitura::noPrimario);
+    }
+
+    /**
+     * Mono concluído quando a carga inicial de todos os consumidores terminar
+     */
+    public Mono<Void> aguardarCargaInicial() {
+        return prontidao.asMono();
+    }
+
+    /**
+     * Horários de sorteio conhecidos (usados no intervalo adaptativo)
+     */
+    public Set<LocalTime> getHorariosConhecidos() {
+        return Set.copyOf(horariosConhecidos);
+    }
+
+    private Mono<List<ResultadoR2dbc>> buscarLote() {
+        return repositorio.findAtualizadosApos(marcaAtualizadoEm, marcaId, tamanhoLote)
+            .collectList()
+            .doOnNext(this::aplicarLote);
+    }
+
+    private void aplicarLote(List<ResultadoR2dbc> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        for (ConsumidorAtualizacaoResultados consumidor : consumidores) {
+            try {
+                consumidor.aplicar(lote);
+            } catch (RuntimeException e) {
+                logger.error("❌ Consumidor {} falhou ao aplicar delta: {}",
+                    consumidor.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        // Caches só depois que todas as estruturas em memória refletem o lote
+        for (ConsumidorAtualizacaoResultados consumidor : consumidores) {
+            try {
+                consumidor.aposAplicar(lote);
+            } catch (RuntimeException e) {
+                logger.error("❌ Consumidor {} falhou após aplicar delta: {}",
+                    consumidor.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        for (ResultadoR2dbc resultado : lote) {
+            registrarHorario(resultado.getHorario());
+        }
+        ResultadoR2dbc ultimo = lote.get(lote.size() - 1);
+        marcaAtualizadoEm = ultimo.getAtualizadoEm();
+        marcaId = ultimo.getId();
+    }
+
+    private void registrarHorario(String horario) {
+        if (horario == null) {
+            return;
+        }
+        try {
+            horariosConhecidos.add(LocalTime.parse(horario));
+        } catch (DateTimeParseException e) {
+            logger.debug("Horário fora do formato HH:mm ignorado: {}", horario);
+        }
+    }
+
+    private Duration proximoIntervalo() {
+        return calcularIntervalo(
+            dataHoraAtual.agora().toLocalTime(),
+            horariosConhecidos,
+            Duration.ofMinutes(janelaAntesMinutos),
+            Duration.ofMinutes(janelaDepoisMinutos),
+            Duration.ofSeconds(intervaloRapidoSegundos),
+            Duration.ofSeconds(intervaloLentoSegundos));
+    }
+
+    /**
+     * Intervalo curto dentro da janela [horario - antes, horario + depois] de qualquer
+     * sorteio; fora dela, o intervalo longo limitado ao início da próxima janela.
+     */
+    static Duration calcularIntervalo(LocalTime agora, Collection<LocalTime> horarios,
+                                      Duration antes, Duration depois,
+                                      Duration rapido, Duration lento) {
+        long agoraSeg = agora.toSecondOfDay();
+        long ateProximaJanela = lento.toSeconds();
+
+        for (LocalTime horario : horarios) {
+            long diferenca = Math.floorMod(agoraSeg - horario.toSecondOfDay(), SEGUNDOS_DIA);
+            if (diferenca > SEGUNDOS_DIA / 2) {
+                diferenca -= SEGUNDOS_DIA;
+            }
+            if (diferenca >= -antes.toSeconds() && diferenca <= depois.toSeconds()) {
+                return rapido;
+            }
+            long inicioJanela = Math.floorMod(horario.toSecondOfDay() - antes.toSeconds() - agoraSeg, SEGUNDOS_DIA);
+            ateProximaJanela = Math.min(ateProximaJanela, inicioJanela);
+        }
+        return Duration.ofSeconds(Math.max(ateProximaJanela, rapido.toSeconds()));
+    }
+}
@@ -2,8 +2,10 @@ package br.tec.facilitaservicos.resultados.apresentacao.controlador;
 
 import br.tec.facilitaservicos.resultados.aplicacao.servico.LoteriaService;
 import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ServicoValidacaoLote;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.PaginacaoDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ValidacaoLoteVeredito;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
@@ -13,6 +15,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -25,19 +28,22 @@ public class LoteriaController {
 
     private final LoteriaService loteriaService;
     private final ResultadoService resultadoService;
+    private final ServicoValidacaoLote servicoValidacaoLote;
 
-    public LoteriaController(LoteriaService loteriaService, ResultadoService resultadoService) {
+    public LoteriaController(LoteriaService loteriaService, ResultadoService resultadoService,
+                             ServicoValidacaoLote servicoValidacaoLote) {
         this.loteriaService = loteriaService;
         this.resultadoService = resultadoService;
+        this.servicoValidacaoLote = servicoValidacaoLote;
     }
 
-    @GetMapping(value = "/modalidades", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/modalidades", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @Operation(summary = "Listar modalidades (horários) recentes")
     public Mono<List<String>> listarModalidades() {
         return loteriaService.listarModalidadesRecentes();
     }
 
-    @GetMapping(value = "/{modalidade}/ultimo", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{modalidade}/ultimo", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @Operation(summary = "Último resultado da modalidade (horário)")
     public Mono<ResponseEntity<ResultadoDto>> ultimoPorModalidade(
             @PathVariable @Pattern(regexp = "^\\d{2}:\\d{2}$") String modalidade) {
@@ -46,7 +52,7 @@ public class LoteriaController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
-    @GetMapping(value = "/{modalidade}/periodo", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{modalidade}/periodo", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @Operation(summary = "Resultados por modalidade no período")
     public Mono<ResponseEntity<PaginacaoDto<ResultadoDto>>> porPeriodo(
             @PathVariable @Pattern(regexp = "^\\d{2}:\\d{2}$") String modalidade,
@@ -57,5 +63,17 @@ public class LoteriaController {
         return loteriaService.listarPorModalidadeEPeriodo(modalidade, de, ate, pagina, tamanho)
                 .map(ResponseEntity::ok);
     }
-}
 
+    /**
+     * Corpo NDJSON, uma aposta por linha:
+     * {"id":"a1","modalidade":"MEGA_SENA","numeros":[1,7,13,33,42,58]}
+     * Resposta NDJSON em streaming, um veredito por linha na mesma ordem.
+     */
+    @PostMapping(value = "/validacao/lote",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Validar números em lote (NDJSON)")
+    public Flux<ValidacaoLoteVeredito> validarLote(@RequestBody Flux<String> linhas) {
+        return servicoValidacaoLote.validar(linhas);
+    }
+}
@@ -0,0 +1,45 @@
+package br.tec.facilitaservicos.resultados.apresentacao.controlador;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.PainelResultadosHoje;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebSocket do painel de resultados de hoje (/ws/resultados/hoje).
+ *
+ * Envia o snapshot do dia na conexão e depois os eventos de
+ * {@link PainelResultadosHoje} (JSON de {@code PainelHojeEventoDto}). Cada
+ * quadro é o mesmo byte[] para todas as sessões, só embrulhado no buffer da
+ * sessão. Sessão que não acompanha é fechada com 1013 (tente mais tarde);
+ * o cliente reconecta e recebe um snapshot novo.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class PainelHojeWebSocketHandler implements WebSocketHandler {
+
+    public static final String CAMINHO = "/ws/resultados/hoje";
+
+    private final PainelResultadosHoje painel;
+
+    public PainelHojeWebSocketHandler(PainelResultadosHoje painel) {
+        this.painel = painel;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        Mono<Void> saida = session.send(painel.assinar()
+                .map(quadro -> new WebSocketMessage(WebSocketMessage.Type.TEXT, session.bufferFactory().wrap(quadro))))
+            .onErrorResume(IllegalStateException.class, e -> session.close(CloseStatus.SERVICE_OVERLOAD));
+        // O cliente não envia nada; o fim da entrada indica que a sessão foi fechada
+        Mono<Void> entrada = session.receive().then();
+        return Mono.firstWithSignal(saida, entrada);
+    }
+}
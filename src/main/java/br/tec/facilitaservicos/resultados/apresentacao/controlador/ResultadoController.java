@@ -1,11 +1,15 @@
 package br.tec.facilitaservicos.resultados.apresentacao.controlador;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,9 +18,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.server.ResponseStatusException;
 
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConferenciaLoteResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConferenciaResultados;
 import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteStatusDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteVeredito;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.EstatisticasDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.HistogramaSomasDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.PaginacaoDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.RankingDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
@@ -49,6 +60,11 @@ import reactor.core.publisher.Mono;
  * - GET /rest/v1/resultados/hoje - Resultados de hoje
  * - GET /rest/v1/resultados/horarios - Horários disponíveis por data
  * - GET /rest/v1/resultados/ultimo/{horario} - Último resultado por horário
+ * - GET /rest/v1/resultados/conferencia - Conferência de aposta contra o histórico
+ * - POST /rest/v1/resultados/conferencia/lote - Conferência de bilhetes em lote (NDJSON)
+ * - GET /rest/v1/resultados/conferencia/lote/{id} - Andamento da conferência em lote
+ * - GET /rest/v1/resultados/numeros/{numero} - Resultados que contêm um número
+ * - GET /rest/v1/resultados/somas/histograma - Histograma das somas
  *
  * @author Sistema de Migração R2DBC
  * @version 1.0
@@ -60,13 +76,20 @@ import reactor.core.publisher.Mono;
 @Tag(name = "Resultados", description = "API para consulta de resultados de loteria")
 public class ResultadoController {
 
+    static final String CABECALHO_JOB_LOTE = "X-Conferencia-Lote-Id";
+
     private final ResultadoService service;
+    private final ConferenciaResultados conferencia;
+    private final ConferenciaLoteResultados conferenciaLote;
 
     @Value("${pagination.default-size:20}")
     private int tamanhoDefault;
 
-    public ResultadoController(ResultadoService service) {
+    public ResultadoController(ResultadoService service, ConferenciaResultados conferencia,
+                               ConferenciaLoteResultados conferenciaLote) {
         this.service = service;
+        this.conferencia = conferencia;
+        this.conferenciaLote = conferenciaLote;
     }
 
     @Operation(summary = "Buscar resultados paginados",
@@ -77,7 +100,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<ResponseEntity<PaginacaoDto<ResultadoDto>>> buscarResultados(
             @Parameter(description = "Número da página (0-based)", example = "0")
@@ -105,7 +128,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "404", description = "Resultado não encontrado"),
         @ApiResponse(responseCode = "400", description = "ID inválido")
     })
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<ResponseEntity<ResultadoDto>> buscarPorId(
             @Parameter(description = "ID do resultado", example = "123")
@@ -122,7 +145,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "200", description = "Ranking gerado com sucesso"),
         @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
     })
-    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/ranking", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Flux<RankingDto> buscarRanking(
             @Parameter(description = "Temporada em dias", example = "90")
@@ -141,7 +164,7 @@ public class ResultadoController {
                     content = @Content(schema = @Schema(implementation = EstatisticasDto.class))),
         @ApiResponse(responseCode = "500", description = "Erro ao calcular estatísticas")
     })
-    @GetMapping(value = "/estatisticas", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/estatisticas", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<ResponseEntity<EstatisticasDto>> buscarEstatisticas() {
         return service.buscarEstatisticas()
@@ -154,7 +177,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "200", description = "Resultados de hoje"),
         @ApiResponse(responseCode = "204", description = "Nenhum resultado hoje")
     })
-    @GetMapping(value = "/hoje", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/hoje", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<ResponseEntity<PaginacaoDto<ResultadoDto>>> buscarResultadosHoje(
             @Parameter(description = "Número da página", example = "0")
@@ -175,7 +198,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "404", description = "Nenhum resultado para o horário"),
         @ApiResponse(responseCode = "400", description = "Horário inválido")
     })
-    @GetMapping(value = "/ultimo/{horario}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/ultimo/{horario}", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<ResponseEntity<ResultadoDto>> buscarUltimoPorHorario(
             @Parameter(description = "Horário do resultado", example = "14:00")
@@ -193,7 +216,7 @@ public class ResultadoController {
         @ApiResponse(responseCode = "204", description = "Nenhum horário na data"),
         @ApiResponse(responseCode = "400", description = "Data inválida")
     })
-    @GetMapping(value = "/horarios", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/horarios", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-service")
     public Mono<java.util.List<String>> buscarHorariosPorData(
             @Parameter(description = "Data para buscar horários", example = "2024-01-15")
@@ -202,6 +225,138 @@ public class ResultadoController {
         return service.buscarHorariosPorData(data).collectList();
     }
 
+    @Operation(summary = "Conferir aposta contra o histórico",
+               description = "Compara a aposta com todos os resultados e retorna os que têm acertos suficientes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Conferência realizada"),
+        @ApiResponse(responseCode = "400", description = "Aposta inválida"),
+        @ApiResponse(responseCode = "503", description = "Histórico ainda em carregamento")
+    })
+    @GetMapping(value = "/conferencia", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
+    @RateLimiter(name = "resultados-service")
+    public Mono<ConferenciaDto> conferir(
+            @Parameter(description = "Números apostados (0-99)", example = "7,13,42")
+            @RequestParam List<Integer> numeros,
+
+            @Parameter(description = "Acertos mínimos", example = "2")
+            @RequestParam(defaultValue = "2") @Min(1) int minimo,
+
+            @Parameter(description = "Máximo de resultados retornados", example = "50")
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limite
+    ) {
+        // "1,,3" chega como elemento nulo: 400 antes de converter para int
+        if (numeros.contains(null)) {
+            return Mono.error(new IllegalArgumentException("Aposta não pode ter números vazios"));
+        }
+        int[] aposta = numeros.stream().mapToInt(Integer::intValue).toArray();
+        return Mono.fromCallable(() -> {
+            if (!conferencia.isCarregado()) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Histórico em carregamento");
+            }
+            return conferencia.conferir(aposta, minimo, limite);
+        });
+    }
+
+    @Operation(summary = "Conferir bilhetes em lote (NDJSON)",
+               description = "Confere cada bilhete contra os sorteios do período; o id do job volta no cabeçalho "
+                   + CABECALHO_JOB_LOTE)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado por bilhete, na ordem de entrada"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "503", description = "Histórico ainda em carregamento")
+    })
+    @PostMapping(value = "/conferencia/lote",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ConferenciaLoteVeredito> conferirLote(
+            @Parameter(description = "Data inicial", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+
+            @Parameter(description = "Data final", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim,
+
+            @Parameter(description = "Acertos mínimos para um sorteio contar como premiado", example = "4")
+            @RequestParam(defaultValue = "4") @Min(1) @Max(7) int minimo,
+
+            @RequestBody Flux<String> linhas,
+            ServerHttpResponse resposta
+    ) {
+        if (!conferencia.isCarregado()) {
+            return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Histórico em carregamento"));
+        }
+        if (inicio != null && fim != null && inicio.isAfter(fim)) {
+            return Flux.error(new IllegalArgumentException("Data inicial não pode ser posterior à data final"));
+        }
+        String idJob = UUID.randomUUID().toString();
+        resposta.getHeaders().set(CABECALHO_JOB_LOTE, idJob);
+        return conferenciaLote.conferir(idJob, linhas, inicio, fim, minimo);
+    }
+
+    @Operation(summary = "Andamento de uma conferência em lote")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Andamento do job"),
+        @ApiResponse(responseCode = "404", description = "Job desconhecido ou expirado")
+    })
+    @GetMapping(value = "/conferencia/lote/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
+    public Mono<ResponseEntity<ConferenciaLoteStatusDto>> statusConferenciaLote(
+            @Parameter(description = "Id do job (cabeçalho " + CABECALHO_JOB_LOTE + ")")
+            @PathVariable String id
+    ) {
+        return conferenciaLote.status(id)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Resultados que contêm um número",
+               description = "Busca os resultados com o número em qualquer posição, do mais recente ao mais antigo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados encontrados"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+        @ApiResponse(responseCode = "503", description = "Histórico ainda em carregamento")
+    })
+    @GetMapping(value = "/numeros/{numero}", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
+    @RateLimiter(name = "resultados-service")
+    public Mono<PaginacaoDto<ResultadoDto>> buscarPorNumero(
+            @Parameter(description = "Número buscado (0-99)", example = "42")
+            @PathVariable @Min(0) @Max(99) int numero,
+
+            @Parameter(description = "Número da página", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) int pagina,
+
+            @Parameter(description = "Tamanho da página", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int tamanho
+    ) {
+        if (!service.isArmazemColunarCarregado()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Histórico em carregamento"));
+        }
+        return service.buscarPorNumero(numero, pagina, tamanho);
+    }
+
+    @Operation(summary = "Histograma das somas",
+               description = "Quantidade de resultados por soma dos sete números no período")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histograma calculado"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "503", description = "Histórico ainda em carregamento")
+    })
+    @GetMapping(value = "/somas/histograma", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
+    @RateLimiter(name = "resultados-service")
+    public Mono<HistogramaSomasDto> buscarHistogramaSomas(
+            @Parameter(description = "Data inicial", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+
+            @Parameter(description = "Data final", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim
+    ) {
+        if (!service.isArmazemColunarCarregado()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Histórico em carregamento"));
+        }
+        if (inicio != null && fim != null && inicio.isAfter(fim)) {
+            return Mono.error(new IllegalArgumentException("Data inicial não pode ser posterior à data final"));
+        }
+        return service.buscarHistogramaSomas(inicio, fim);
+    }
+
     // ============================================================================
     // 🌐 ENDPOINTS PÚBLICOS DE EXTRAÇÃO E LOTERIAS
     // ============================================================================
@@ -211,7 +366,7 @@ public class ResultadoController {
      */
     @Operation(summary = "Buscar resultados públicos",
                description = "Busca resultados paginados - endpoint público")
-    @GetMapping(value = "/publico", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/publico", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-public")
     public Mono<ResponseEntity<PaginacaoDto<ResultadoDto>>> buscarResultadosPublicos(
             @Parameter(description = "Página", example = "0")
@@ -235,7 +390,7 @@ public class ResultadoController {
      * 🎯 Último resultado público por horário.
      */
     @Operation(summary = "Último resultado público por horário")
-    @GetMapping(value = "/publico/ultimo/{horario}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/publico/ultimo/{horario}", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-public")
     public Mono<ResponseEntity<ResultadoDto>> buscarUltimoPublicoPorHorario(
             @Parameter(description = "Horário", example = "14:00")
@@ -251,7 +406,7 @@ public class ResultadoController {
      */
     @Operation(summary = "Resultado público por horário e data")
     @GetMapping(value = "/publico/horarioData/{horario}/{data}",
-                produces = MediaType.APPLICATION_JSON_VALUE)
+                produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-public")
     public Mono<ResponseEntity<ResultadoDto>> buscarResultadoPorHorarioData(
             @Parameter(description = "Horário", example = "14:00")
@@ -297,7 +452,7 @@ public class ResultadoController {
      */
     @Operation(summary = "Modalidades de loterias",
                description = "Lista todas as modalidades disponíveis")
-    @GetMapping(value = "/loterias/modalidades", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/loterias/modalidades", produces = {MediaType.APPLICATION_JSON_VALUE, TiposMidia.CBOR, TiposMidia.SMILE})
     @RateLimiter(name = "resultados-public")
     public Flux<java.util.Map<String, String>> listarModalidades() {
         return service.listarModalidades();
@@ -0,0 +1,152 @@
+package br.tec.facilitaservicos.resultados.apresentacao.controlador;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Controller;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.PublicadorNovosResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🔌 CONTROLADOR RSOCKET - CONSUMIDORES INTERNOS DA PLATAFORMA
+ * ============================================================================
+ *
+ * API binária e multiplexada (várias requisições e streams na mesma conexão
+ * TCP) para os serviços internos (scheduler, apostas), na porta
+ * {@code spring.rsocket.server.port}. Toda conexão exige o JWT da plataforma
+ * no setup ({@link br.tec.facilitaservicos.resultados.configuracao.RSocketSecurityConfig});
+ * os streams terminam com erro quando esse token expira.
+ *
+ * Rotas disponíveis:
+ * - resultados.id (request-response) - Resultado por id
+ * - resultados.horario-data (request-response) - Resultado por horário e data
+ * - resultados.ultimo (request-response) - Último resultado do horário
+ * - resultados.historico (request-stream) - Resultados do período (até
+ *   {@code resultados.rsocket.historico.dias-maximo} dias), com backpressure
+ * - resultados.novos (request-stream) - Resultados novos a partir da assinatura
+ * - resultados.novos.canal (channel) - Resultados novos dos horários enviados
+ *   pelo cliente; cada novo conjunto substitui o anterior (vazio = todos)
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Controller
+public class ResultadoRSocketController {
+
+    private static final Pattern HORARIO = Pattern.compile("^\\d{2}:\\d{2}$");
+
+    @Value("${resultados.rsocket.historico.dias-maximo:366}")
+    private long diasMaximoHistorico = 366;
+
+    private final ResultadoService service;
+    private final PublicadorNovosResultados publicador;
+
+    public ResultadoRSocketController(ResultadoService service, PublicadorNovosResultados publicador) {
+        this.service = service;
+        this.publicador = publicador;
+    }
+
+    /**
+     * Consulta por horário e data
+     */
+    public record ConsultaHorarioData(String horario, LocalDate data) {}
+
+    /**
+     * Período inclusivo do histórico
+     */
+    public record Periodo(LocalDate inicio, LocalDate fim) {}
+
+    @MessageMapping("resultados.id")
+    public Mono<ResultadoDto> buscarPorId(@Payload Long id) {
+        return service.buscarPorId(id);
+    }
+
+    @MessageMapping("resultados.horario-data")
+    public Mono<ResultadoDto> buscarPorHorarioData(@Payload ConsultaHorarioData consulta) {
+        if (consulta.data() == null) {
+            return Mono.error(new IllegalArgumentException("Data é obrigatória"));
+        }
+        return validarHorario(consulta.horario())
+            .then(Mono.defer(() -> service.buscarPorHorarioData(consulta.horario(), consulta.data())));
+    }
+
+    @MessageMapping("resultados.ultimo")
+    public Mono<ResultadoDto> buscarUltimoPorHorario(@Payload String horario) {
+        return validarHorario(horario).then(Mono.defer(() -> service.buscarUltimoPorHorario(horario)));
+    }
+
+    @MessageMapping("resultados.historico")
+    public Flux<ResultadoDto> historico(@Payload Periodo periodo) {
+        if (periodo.inicio() == null || periodo.fim() == null || periodo.inicio().isAfter(periodo.fim())) {
+            return Flux.error(new IllegalArgumentException("Período inválido: início e fim obrigatórios, início até o fim"));
+        }
+        if (ChronoUnit.DAYS.between(periodo.inicio(), periodo.fim()) >= diasMaximoHistorico) {
+            return Flux.error(new IllegalArgumentException(
+                "Período inválido: máximo de " + diasMaximoHistorico + " dias por requisição"));
+        }
+        return ateExpirarToken(service.buscarPorPeriodo(periodo.inicio(), periodo.fim()));
+    }
+
+    @MessageMapping("resultados.novos")
+    public Flux<ResultadoDto> novos() {
+        return ateExpirarToken(publicador.novos());
+    }
+
+    @MessageMapping("resultados.novos.canal")
+    public Flux<ResultadoDto> canalNovos(@Payload Flux<List<String>> horarios) {
+        return ateExpirarToken(horarios.switchMap(lista -> {
+            Set<String> filtro = Set.copyOf(lista);
+            return filtro.isEmpty()
+                ? publicador.novos()
+                : publicador.novos().filter(resultado -> filtro.contains(resultado.horario()));
+        }));
+    }
+
+    /**
+     * Encerra o stream com erro no {@code exp} do JWT da conexão; sem JWT no
+     * contexto (testes, segurança desligada) o stream segue sem limite
+     */
+    static <T> Flux<T> ateExpirarToken(Flux<T> fluxo) {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .ofType(JwtAuthenticationToken.class)
+            .mapNotNull(autenticacao -> autenticacao.getToken().getExpiresAt())
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMapMany(expiraEm -> expiraEm
+                .map(instante -> fluxo.takeUntilOther(Mono.defer(() -> Mono.delay(restante(instante)))
+                    .then(Mono.error(new CredentialsExpiredException("Token JWT expirado")))))
+                .orElse(fluxo));
+    }
+
+    private static Duration restante(Instant expiraEm) {
+        Duration restante = Duration.between(Instant.now(), expiraEm);
+        return restante.isNegative() ? Duration.ZERO : restante;
+    }
+
+    private static Mono<Void> validarHorario(String horario) {
+        if (horario == null || !HORARIO.matcher(horario).matches()) {
+            return Mono.error(new IllegalArgumentException("Horário inválido: " + horario + " (esperado HH:mm)"));
+        }
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,17 @@
+package br.tec.facilitaservicos.resultados.apresentacao.controlador;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos binários oferecidos pelos endpoints de consulta além de JSON.
+ * Escolhidos pelo cabeçalho Accept; sem ele (ou com *&#47;*) a resposta continua JSON,
+ * o primeiro tipo de cada {@code produces}.
+ */
+final class TiposMidia {
+
+    static final String CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    static final String SMILE = "application/x-jackson-smile";
+
+    private TiposMidia() {
+    }
+}
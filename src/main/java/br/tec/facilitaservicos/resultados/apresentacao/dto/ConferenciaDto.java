@@ -0,0 +1,26 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da conferência de uma aposta contra os resultados históricos
+ *
+ * @param numeros Números conferidos, ordenados
+ * @param minimoAcertos Acertos mínimos exigidos
+ * @param sorteiosComparados Quantidade de resultados comparados
+ * @param encontrados Quantidade de resultados com acertos suficientes
+ * @param resultados Resultados encontrados (mais acertos primeiro, depois mais recentes), até o limite
+ */
+public record ConferenciaDto(
+    List<Integer> numeros,
+    int minimoAcertos,
+    int sorteiosComparados,
+    int encontrados,
+    List<Acerto> resultados
+) {
+
+    /**
+     * Resultado com a quantidade de números da aposta presentes nele
+     */
+    public record Acerto(ResultadoDto resultado, int acertos) {}
+}
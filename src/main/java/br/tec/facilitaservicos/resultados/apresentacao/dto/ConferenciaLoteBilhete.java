@@ -0,0 +1,13 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+/**
+ * Linha NDJSON de entrada da conferência em lote
+ *
+ * @param id Identificador do bilhete (ecoado no resultado)
+ * @param numeros Números apostados (0-99)
+ */
+public record ConferenciaLoteBilhete(
+        String id,
+        int[] numeros
+) {
+}
@@ -0,0 +1,34 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Andamento de uma conferência em lote
+ *
+ * @param id Identificador do job
+ * @param estado EM_ANDAMENTO, CONCLUIDO, FALHOU ou CANCELADO
+ * @param inicio Data inicial da janela de sorteios
+ * @param fim Data final da janela de sorteios
+ * @param sorteios Sorteios na janela
+ * @param processados Bilhetes conferidos até agora
+ * @param invalidos Bilhetes rejeitados
+ * @param premiados Bilhetes com ao menos um sorteio premiado
+ * @param bilhetesPorSegundo Vazão média desde o início
+ * @param iniciadoEm Início do job
+ * @param concluidoEm Fim do job (null enquanto em andamento)
+ */
+public record ConferenciaLoteStatusDto(
+        String id,
+        String estado,
+        LocalDate inicio,
+        LocalDate fim,
+        int sorteios,
+        long processados,
+        long invalidos,
+        long premiados,
+        double bilhetesPorSegundo,
+        LocalDateTime iniciadoEm,
+        LocalDateTime concluidoEm
+) {
+}
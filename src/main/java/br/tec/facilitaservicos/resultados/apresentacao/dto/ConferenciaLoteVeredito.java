@@ -0,0 +1,31 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado NDJSON da conferência de um bilhete contra a janela de sorteios
+ *
+ * @param linha Número da linha na entrada (1-based)
+ * @param id Identificador enviado pelo chamador
+ * @param premiados Sorteios com pelo menos o mínimo de acertos
+ * @param maiorAcerto Maior quantidade de acertos em um sorteio
+ * @param porAcertos Quantidade de sorteios por número de acertos (índice = acertos)
+ * @param erro Motivo da rejeição do bilhete
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ConferenciaLoteVeredito(
+        long linha,
+        String id,
+        Integer premiados,
+        Integer maiorAcerto,
+        int[] porAcertos,
+        String erro
+) {
+    public static ConferenciaLoteVeredito conferido(long linha, String id, int premiados, int maiorAcerto, int[] porAcertos) {
+        return new ConferenciaLoteVeredito(linha, id, premiados, maiorAcerto, porAcertos, null);
+    }
+
+    public static ConferenciaLoteVeredito invalido(long linha, String id, String erro) {
+        return new ConferenciaLoteVeredito(linha, id, null, null, null, erro);
+    }
+}
@@ -0,0 +1,30 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO de resposta do histograma das somas dos resultados
+ *
+ * @param inicio Data inicial do filtro (ausente = sem limite)
+ * @param fim Data final do filtro (ausente = sem limite)
+ * @param sorteios Quantidade de resultados com soma válida no período
+ * @param media Soma média (ausente sem sorteios)
+ * @param faixas Quantidade por soma, em ordem crescente, só as somas que ocorreram
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HistogramaSomasDto(
+    LocalDate inicio,
+    LocalDate fim,
+    long sorteios,
+    Double media,
+    List<Faixa> faixas
+) {
+
+    /**
+     * Quantidade de resultados com a soma
+     */
+    public record Faixa(int soma, long quantidade) {}
+}
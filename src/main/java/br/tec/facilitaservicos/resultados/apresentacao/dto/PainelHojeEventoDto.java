@@ -0,0 +1,31 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Mensagem do painel de resultados de hoje (WebSocket /ws/resultados/hoje)
+ *
+ * @param tipo {@code snapshot} (quadro completo, substitui o anterior),
+ *             {@code novo} (primeiro resultado do horário) ou {@code correcao}
+ * @param versao Versão do painel após o evento; eventos com versão até a do
+ *               último snapshot recebido já estão contidos nele
+ * @param data Dia do painel
+ * @param resultados Resultados do dia por horário (só no snapshot)
+ * @param resultado Resultado novo ou corrigido (só nos eventos)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PainelHojeEventoDto(
+    String tipo,
+    long versao,
+    LocalDate data,
+    List<ResultadoDto> resultados,
+    ResultadoDto resultado
+) {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String NOVO = "novo";
+    public static final String CORRECAO = "correcao";
+}
@@ -0,0 +1,16 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+/**
+ * Linha NDJSON de entrada da validação em lote
+ *
+ * @param id Identificador do chamador (ecoado no veredito)
+ * @param modalidade Modalidade (MEGA_SENA, QUINA, LOTOFACIL)
+ * @param numeros Números da aposta/resultado
+ * @param resultadoId Id do resultado a que a aposta se refere (opcional, ecoado no veredito)
+ */
+public record ValidacaoLoteLinha(
+        String id,
+        String modalidade,
+        int[] numeros,
+        Long resultadoId
+) {}
@@ -0,0 +1,31 @@
+package br.tec.facilitaservicos.resultados.apresentacao.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Veredito NDJSON de uma linha da validação em lote
+ *
+ * @param linha Número da linha na entrada (1-based)
+ * @param id Identificador enviado pelo chamador
+ * @param resultadoId Id do resultado enviado na linha, ecoado para o chamador
+ * @param valido Se a linha passou em todas as regras da modalidade
+ * @param numeros Números ordenados ("1-7-13") quando válidos
+ * @param erro Motivo da rejeição
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ValidacaoLoteVeredito(
+        long linha,
+        String id,
+        Long resultadoId,
+        boolean valido,
+        String numeros,
+        String erro
+) {
+    public static ValidacaoLoteVeredito valido(long linha, String id, Long resultadoId, String numeros) {
+        return new ValidacaoLoteVeredito(linha, id, resultadoId, true, numeros, null);
+    }
+
+    public static ValidacaoLoteVeredito invalido(long linha, String id, Long resultadoId, String erro) {
+        return new ValidacaoLoteVeredito(linha, id, resultadoId, false, null, erro);
+    }
+}
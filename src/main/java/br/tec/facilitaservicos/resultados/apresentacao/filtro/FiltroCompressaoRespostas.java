@@ -0,0 +1,402 @@
+package br.tec.facilitaservicos.resultados.apresentacao.filtro;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConsumidorAtualizacaoResultados;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ============================================================================
+ * 🗜️ COMPRESSÃO DE RESPOSTAS COM VARIANTES PRÉ-COMPRIMIDAS EM CACHE
+ * ============================================================================
+ *
+ * Guarda os bytes das respostas GET de consulta (200, não streaming, a partir
+ * de {@code tamanho-minimo} bytes) junto com as variantes gzip e deflate,
+ * comprimidas uma única vez por versão dos dados, no nível máximo, em
+ * boundedElastic (fora do event loop). Requisições seguintes com a mesma URL
+ * e Accept são respondidas direto do cache, na codificação negociada pelo
+ * Accept-Encoding, sem passar pelo controlador.
+ *
+ * O {@code @RateLimiter} do método que produziu a resposta continua valendo:
+ * o acerto no cache consome a permissão do mesmo limitador e, sem permissão,
+ * a requisição segue ao controlador, que a recusa como sempre.
+ *
+ * Cada delta da sincronização incremental abre uma nova versão e descarta o
+ * cache depois que todas as estruturas em memória o aplicaram; o TTL limita
+ * respostas que dependem do relógio (ex.: /hoje).
+ * Respostas menores que o limite (ex.: /ultimo) seguem sem compressão.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class FiltroCompressaoRespostas implements WebFilter, ConsumidorAtualizacaoResultados {
+
+    @Value("${resultados.compressao.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${resultados.compressao.tamanho-minimo:1024}")
+    private int tamanhoMinimo = 1024;
+
+    @Value("${resultados.compressao.ttl:60}")
+    private long ttlSegundos = 60;
+
+    @Value("${resultados.compressao.memoria-maxima-mb:32}")
+    private long memoriaMaximaMb = 32;
+
+    @Value("#{'${resultados.compressao.prefixos:/rest/v1/resultados,/rest/v1/loterias}'.split(',')}")
+    private List<String> prefixos = List.of("/rest/v1/resultados", "/rest/v1/loterias");
+
+    private final RateLimiterRegistry limitadores;
+    private final AtomicLong versao = new AtomicLong();
+    private Cache<String, RespostaArmazenada> respostas;
+
+    public FiltroCompressaoRespostas(RateLimiterRegistry limitadores) {
+        this.limitadores = limitadores;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        respostas = Caffeine.newBuilder()
+            .maximumWeight(memoriaMaximaMb * 1024 * 1024)
+            .weigher((String chave, RespostaArmazenada resposta) -> resposta.peso())
+            .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+            .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!habilitado || !elegivel(request)) {
+            return chain.filter(exchange);
+        }
+        Codificacao codificacao = Codificacao.negociar(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+        String chave = chave(request);
+        long versaoRequisicao = versao.get();
+
+        RespostaArmazenada armazenada = respostas.getIfPresent(chave);
+        if (armazenada != null && armazenada.versao() == versaoRequisicao) {
+            return responderDoCache(exchange, chain, armazenada, codificacao);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        ServerHttpResponseDecorator decorador = new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> corpo) {
+                if (!armazenavel(response)) {
+                    return super.writeWith(corpo);
+                }
+                return DataBufferUtils.join(corpo)
+                    .flatMap(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        if (bytes.length < tamanhoMinimo) {
+                            return super.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+                        }
+                        MediaType tipo = response.getHeaders().getContentType();
+                        String cacheControl = response.getHeaders().getCacheControl();
+                        String limitador = limitador(exchange);
+                        // Compressão no nível máximo fora do event loop, uma vez por versão
+                        return Mono.fromCallable(() -> RespostaArmazenada.comprimir(versaoRequisicao, tipo,
+                                cacheControl, limitador, bytes))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(nova -> {
+                                // Entrada de versão antiga é ignorada na leitura se um delta chegou nesse meio tempo
+                                respostas.put(chave, nova);
+                                return escrever(response, nova, codificacao);
+                            });
+                    })
+                    .switchIfEmpty(Mono.defer(() -> super.writeWith(Mono.empty())));
+            }
+        };
+        return chain.filter(exchange.mutate().response(decorador).build());
+    }
+
+    /**
+     * Acerto no cache sob o mesmo limitador do controlador (espera reservada
+     * sem bloquear; sem permissão, o controlador responde a recusa)
+     */
+    private Mono<Void> responderDoCache(ServerWebExchange exchange, WebFilterChain chain,
+                                        RespostaArmazenada armazenada, Codificacao codificacao) {
+        if (armazenada.limitador() == null) {
+            return escrever(exchange.getResponse(), armazenada, codificacao);
+        }
+        long espera = limitadores.rateLimiter(armazenada.limitador()).reservePermission();
+        if (espera < 0) {
+            return chain.filter(exchange);
+        }
+        Mono<Void> escrita = Mono.defer(() -> escrever(exchange.getResponse(), armazenada, codificacao));
+        return espera == 0 ? escrita : Mono.delay(Duration.ofNanos(espera)).then(escrita);
+    }
+
+    /**
+     * Nome do {@code @RateLimiter} do método que atendeu a requisição, se houver
+     */
+    private static String limitador(ServerWebExchange exchange) {
+        Object handler = exchange.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return null;
+        }
+        RateLimiter anotacao = metodo.getMethodAnnotation(RateLimiter.class);
+        if (anotacao == null) {
+            anotacao = metodo.getBeanType().getAnnotation(RateLimiter.class);
+        }
+        return anotacao != null ? anotacao.name() : null;
+    }
+
+    @Override
+    public void aplicar(List<ResultadoR2dbc> delta) {
+        // Nova versão em aposAplicar, quando as estruturas em memória já refletem o delta
+    }
+
+    @Override
+    public void aposAplicar(List<ResultadoR2dbc> delta) {
+        versao.incrementAndGet();
+        if (respostas != null) {
+            respostas.invalidateAll();
+        }
+    }
+
+    private boolean elegivel(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return false;
+        }
+        String caminho = request.getPath().pathWithinApplication().value();
+        return prefixos.stream().anyMatch(prefixo -> caminho.startsWith(prefixo.trim()));
+    }
+
+    private static boolean armazenavel(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        HttpHeaders cabecalhos = response.getHeaders();
+        MediaType tipo = cabecalhos.getContentType();
+        return (status == null || status.value() == HttpStatus.OK.value())
+            && tipo != null
+            && !MediaType.APPLICATION_NDJSON.isCompatibleWith(tipo)
+            && !MediaType.TEXT_EVENT_STREAM.isCompatibleWith(tipo)
+            && !cabecalhos.containsKey(HttpHeaders.CONTENT_ENCODING)
+            && !cabecalhos.containsKey(HttpHeaders.SET_COOKIE);
+    }
+
+    private static String chave(ServerHttpRequest request) {
+        String consulta = request.getURI().getRawQuery();
+        String aceita = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return request.getPath().value() + (consulta != null ? "?" + consulta : "") + "|" + (aceita != null ? aceita : "");
+    }
+
+    private static Mono<Void> escrever(ServerHttpResponse response, RespostaArmazenada armazenada, Codificacao codificacao) {
+        byte[] corpo = armazenada.variante(codificacao);
+        HttpHeaders cabecalhos = response.getHeaders();
+        if (armazenada.tipo() != null) {
+            cabecalhos.setContentType(armazenada.tipo());
+        }
+        if (armazenada.cacheControl() != null && cabecalhos.getCacheControl() == null) {
+            cabecalhos.setCacheControl(armazenada.cacheControl());
+        }
+        cabecalhos.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (corpo != armazenada.identidade()) {
+            cabecalhos.set(HttpHeaders.CONTENT_ENCODING, codificacao.token);
+        }
+        cabecalhos.setContentLength(corpo.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(corpo)));
+    }
+
+    /**
+     * Codificações oferecidas, em ordem de preferência para o mesmo peso q
+     */
+    enum Codificacao {
+        GZIP("gzip"), DEFLATE("deflate"), IDENTIDADE("identity");
+
+        final String token;
+
+        Codificacao(String token) {
+            this.token = token;
+        }
+
+        /**
+         * Escolhe a codificação de maior q aceita pelo cabeçalho Accept-Encoding
+         * ({@code *} vale para gzip e deflate; q=0 recusa)
+         */
+        static Codificacao negociar(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return IDENTIDADE;
+            }
+            double qGzip = -1;
+            double qDeflate = -1;
+            double qCuringa = -1;
+            for (String item : acceptEncoding.split(",")) {
+                String[] partes = item.split(";");
+                String nome = partes[0].trim().toLowerCase(Locale.ROOT);
+                double q = 1;
+                for (int i = 1; i < partes.length; i++) {
+                    String parametro = partes[i].trim();
+                    if (parametro.startsWith("q=")) {
+                        try {
+                            q = Double.parseDouble(parametro.substring(2));
+                        } catch (NumberFormatException e) {
+                            q = 0;
+                        }
+                    }
+                }
+                switch (nome) {
+                    case "gzip", "x-gzip" -> qGzip = q;
+                    case "deflate" -> qDeflate = q;
+                    case "*" -> qCuringa = q;
+                    default -> { }
+                }
+            }
+            if (qGzip < 0) {
+                qGzip = qCuringa;
+            }
+            if (qDeflate < 0) {
+                qDeflate = qCuringa;
+            }
+            if (qGzip > 0 && qGzip >= qDeflate) {
+                return GZIP;
+            }
+            return qDeflate > 0 ? DEFLATE : IDENTIDADE;
+        }
+    }
+
+    /**
+     * Resposta de uma versão dos dados com as variantes já comprimidas
+     */
+    static final class RespostaArmazenada {
+
+        private final long versao;
+        private final MediaType tipo;
+        private final String cacheControl;
+        private final String limitador;
+        private final byte[] identidade;
+        private final byte[] gzip;
+        private final byte[] deflate;
+
+        private RespostaArmazenada(long versao, MediaType tipo, String cacheControl, String limitador,
+                                   byte[] identidade, byte[] gzip, byte[] deflate) {
+            this.versao = versao;
+            this.tipo = tipo;
+            this.cacheControl = cacheControl;
+            this.limitador = limitador;
+            this.identidade = identidade;
+            this.gzip = gzip;
+            this.deflate = deflate;
+        }
+
+        /**
+         * Comprime as variantes (trabalho de CPU: chamar fora do event loop);
+         * variante que não reduz o tamanho fica igual à identidade
+         */
+        static RespostaArmazenada comprimir(long versao, MediaType tipo, String cacheControl, String limitador,
+                                            byte[] identidade) {
+            return new RespostaArmazenada(versao, tipo, cacheControl, limitador, identidade,
+                menor(comprimir(identidade, true), identidade), menor(comprimir(identidade, false), identidade));
+        }
+
+        long versao() {
+            return versao;
+        }
+
+        MediaType tipo() {
+            return tipo;
+        }
+
+        String cacheControl() {
+            return cacheControl;
+        }
+
+        String limitador() {
+            return limitador;
+        }
+
+        byte[] identidade() {
+            return identidade;
+        }
+
+        /**
+         * Peso no cache: os bytes originais mais as variantes distintas
+         */
+        int peso() {
+            return identidade.length + (gzip != identidade ? gzip.length : 0)
+                + (deflate != identidade ? deflate.length : 0);
+        }
+
+        /**
+         * Bytes na codificação pedida; a identidade se a compressão não reduziu o tamanho
+         */
+        byte[] variante(Codificacao codificacao) {
+            return switch (codificacao) {
+                case GZIP -> gzip;
+                case DEFLATE -> deflate;
+                case IDENTIDADE -> identidade;
+            };
+        }
+
+        private static byte[] menor(byte[] comprimido, byte[] identidade) {
+            return comprimido.length < identidade.length ? comprimido : identidade;
+        }
+
+        private static byte[] comprimir(byte[] identidade, boolean formatoGzip) {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(identidade.length / 4 + 64);
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, formatoGzip);
+            try (DeflaterOutputStream compressor = formatoGzip
+                    ? new SaidaGzip(saida, deflater)
+                    : new DeflaterOutputStream(saida, deflater)) {
+                compressor.write(identidade);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deflater.end();
+            }
+            return saida.toByteArray();
+        }
+    }
+
+    /**
+     * GZIPOutputStream com o nível de compressão do deflater informado
+     */
+    private static final class SaidaGzip extends GZIPOutputStream {
+
+        SaidaGzip(ByteArrayOutputStream saida, Deflater deflater) throws IOException {
+            super(saida);
+            def.end();
+            def = deflater;
+        }
+    }
+}
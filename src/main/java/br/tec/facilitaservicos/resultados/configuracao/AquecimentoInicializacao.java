@@ -0,0 +1,161 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.AquecimentoCacheResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.SincronizacaoIncrementalResultados;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🌡️ FASE DE AQUECIMENTO NA INICIALIZAÇÃO
+ * ============================================================================
+ *
+ * Mantém o probe de readiness fora de serviço (indicador {@code aquecimento}
+ * no grupo readiness) até que o pod esteja pronto para tráfego real:
+ *
+ * 1. Aguarda a carga inicial dos índices em memória (sincronização incremental)
+ * 2. Carrega as entradas principais do cache
+ * 3. Executa rodadas de requisições locais nos controllers principais para
+ *    aquecer JIT, serialização e pool de conexões
+ *
+ * Ao concluir ou expirar o tempo limite o indicador passa a UP; a duração é
+ * registrada em {@code resultados.aquecimento.duracao} com o desfecho como tag.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component("aquecimentoHealthIndicator")
+public class AquecimentoInicializacao implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AquecimentoInicializacao.class);
+    private static final String BASE_PATH = "/rest/v1/resultados";
+
+    private enum Estado { EM_ANDAMENTO, CONCLUIDO, EXPIRADO, FALHOU, DESABILITADO }
+
+    private final SincronizacaoIncrementalResultados sincronizacao;
+    private final AquecimentoCacheResultados aquecimentoCache;
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resultados.aquecimento.inicializacao.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${resultados.aquecimento.inicializacao.timeout:60}")
+    private int timeoutSegundos = 60;
+
+    @Value("${resultados.aquecimento.inicializacao.rodadas-jit:20}")
+    private int rodadasJit = 20;
+
+    @Value("${resultados.aquecimento.inicializacao.concorrencia-jit:2}")
+    private int concorrenciaJit = 2;
+
+    private volatile Estado estado = Estado.EM_ANDAMENTO;
+    private volatile Duration duracao;
+
+    public AquecimentoInicializacao(SincronizacaoIncrementalResultados sincronizacao,
+                                    AquecimentoCacheResultados aquecimentoCache,
+                                    WebClient.Builder webClientBuilder,
+                                    MeterRegistry meterRegistry) {
+        this.sincronizacao = sincronizacao;
+        this.aquecimentoCache = aquecimentoCache;
+        this.webClientBuilder = webClientBuilder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!habilitado) {
+            estado = Estado.DESABILITADO;
+            return;
+        }
+
+        String porta = event.getApplicationContext().getEnvironment().getProperty("local.server.port");
+        long inicio = System.nanoTime();
+        logger.info("🌡️ Aquecimento iniciado (tempo limite {}s)", timeoutSegundos);
+
+        sincronizacao.aguardarCargaInicial()
+            .then(aquecimentoCache.aquecer())
+            .then(porta != null ? aquecerJit(porta) : Mono.empty())
+            .timeout(Duration.ofSeconds(timeoutSegundos))
+            .doOnSuccess(v -> finalizar(Estado.CONCLUIDO, inicio))
+            .doOnError(e -> {
+                if (e instanceof TimeoutException) {
+                    finalizar(Estado.EXPIRADO, inicio);
+                } else {
+                    logger.warn("⚠️ Falha no aquecimento: {}", e.getMessage());
+                    finalizar(Estado.FALHOU, inicio);
+                }
+            })
+            .onErrorResume(e -> Mono.empty())
+            .subscribe();
+    }
+
+    @Override
+    public Health health() {
+        if (estado == Estado.EM_ANDAMENTO) {
+            return Health.outOfService()
+                .withDetail("estado", estado)
+                .build();
+        }
+        Health.Builder builder = Health.up().withDetail("estado", estado);
+        if (duracao != null) {
+            builder.withDetail("duracaoMs", duracao.toMillis());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Rodadas de requisições locais; respostas e erros (inclusive 429 do rate limiter) são descartados
+     */
+    private Mono<Void> aquecerJit(String porta) {
+        WebClient cliente = webClientBuilder.clone().baseUrl("http://localhost:" + porta).build();
+
+        List<String> caminhos = new ArrayList<>(List.of(
+            BASE_PATH + "?pagina=0&tamanho=20",
+            BASE_PATH + "/hoje",
+            BASE_PATH + "/estatisticas",
+            BASE_PATH + "/ranking",
+            BASE_PATH + "/horarios"));
+        sincronizacao.getHorariosConhecidos().stream()
+            .findFirst()
+            .ifPresent(horario -> caminhos.add(BASE_PATH + "/ultimo/" + horario));
+
+        return Flux.range(0, Math.max(rodadasJit, 0))
+            .concatMapIterable(rodada -> caminhos)
+            .flatMap(caminho -> cliente.get()
+                .uri(caminho)
+                .exchangeToMono(resposta -> resposta.releaseBody())
+                .onErrorResume(e -> Mono.empty()), Math.max(concorrenciaJit, 1))
+            .then();
+    }
+
+    private void finalizar(Estado desfecho, long inicio) {
+        duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        estado = desfecho;
+        Timer.builder("resultados.aquecimento.duracao")
+            .description("Duração da fase de aquecimento na inicialização")
+            .tag("resultado", desfecho.name().toLowerCase(Locale.ROOT))
+            .register(meterRegistry)
+            .record(duracao);
+        logger.info("🌡️ Aquecimento {} em {} ms - readiness liberado", desfecho.name().toLowerCase(Locale.ROOT), duracao.toMillis());
+    }
+}
@@ -0,0 +1,91 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 📦 CODECS BINÁRIOS - CBOR E SMILE POR NEGOCIAÇÃO DE CONTEÚDO
+ * ============================================================================
+ *
+ * Registra encoders/decoders Jackson para {@code application/cbor} e
+ * {@code application/x-jackson-smile}, com os mesmos módulos e opções do
+ * ObjectMapper JSON da aplicação (datas ISO, NON_NULL, fuso), para que os
+ * DTOs tenham a mesma estrutura em qualquer formato. O cliente escolhe pelo
+ * cabeçalho Accept; JSON continua o padrão.
+ *
+ * O encoder CBOR do Spring não serializa Flux; aqui o fluxo é agregado e
+ * escrito como um único array, o mesmo que o encoder JSON faz para
+ * tipos de mídia que não são de streaming.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class CodecsBinariosConfig implements WebFluxConfigurer {
+
+    private final Jackson2ObjectMapperBuilder construtorJackson;
+
+    public CodecsBinariosConfig(Jackson2ObjectMapperBuilder construtorJackson) {
+        this.construtorJackson = construtorJackson;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cbor = construtorJackson.factory(new CBORFactory()).build();
+        ObjectMapper smile = construtorJackson.factory(new SmileFactory()).build();
+
+        // Smile já é codec padrão do WebFlux: só troca o ObjectMapper
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile));
+        configurer.customCodecs().register(new EncoderCborAgregado(cbor));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cbor));
+    }
+
+    /**
+     * Encoder CBOR que aceita Flux, agregando os elementos em um array
+     */
+    static final class EncoderCborAgregado extends Jackson2CborEncoder {
+
+        EncoderCborAgregado(ObjectMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> entrada, DataBufferFactory bufferFactory,
+                                       ResolvableType tipoElemento, @Nullable MimeType mimeType,
+                                       @Nullable Map<String, Object> hints) {
+            if (entrada instanceof Mono<?> mono) {
+                return mono.map(valor -> encodeValue(valor, bufferFactory, tipoElemento, mimeType, hints)).flux();
+            }
+            ResolvableType tipoLista = ResolvableType.forClassWithGenerics(List.class, tipoElemento);
+            return Flux.from(entrada)
+                .collectList()
+                .map(lista -> encodeValue(lista, bufferFactory, tipoLista, mimeType, hints))
+                .flux();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+
+/**
+ * Conexão do driver sob um pool, reconstruída pela
+ * {@link GuardaRestauracaoCheckpoint} quando a imagem CRaC é restaurada com
+ * outra URL ou credenciais. O pool e os decoradores acima dela continuam os
+ * mesmos; as conexões novas já saem para o destino atualizado.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public class ConnectionFactoryRestauravel implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+    private final Supplier<ConnectionFactory> reconstrucao;
+    private volatile ConnectionFactory alvo;
+
+    /**
+     * @param inicial Conexão do driver criada na inicialização
+     * @param reconstrucao Cria a conexão do driver a partir da configuração atual
+     */
+    public ConnectionFactoryRestauravel(ConnectionFactory inicial, Supplier<ConnectionFactory> reconstrucao) {
+        this.alvo = inicial;
+        this.reconstrucao = reconstrucao;
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return alvo.create();
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return alvo.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return alvo;
+    }
+
+    void reconstruir() {
+        alvo = reconstrucao.get();
+    }
+}
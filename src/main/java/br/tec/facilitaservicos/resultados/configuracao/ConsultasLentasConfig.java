@@ -0,0 +1,51 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.r2dbc.ConnectionFactoryDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.tec.facilitaservicos.resultados.infraestrutura.ConsultasLentasEndpoint;
+import br.tec.facilitaservicos.resultados.infraestrutura.DetectorConsultasLentas;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * ============================================================================
+ * 🐢 CONFIGURAÇÃO DO DETECTOR DE CONSULTAS LENTAS
+ * ============================================================================
+ *
+ * Registra o {@link DetectorConsultasLentas} como decorador das conexões do
+ * driver: vale para os pools de {@link PoolsConexaoConfig} e para o pool
+ * automático do Spring Boot. O EXPLAIN usa a ConnectionFactory final, obtida
+ * só na primeira captura (sem ciclo na criação dos beans).
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+@ConditionalOnProperty(name = "resultados.consultas-lentas.habilitado", havingValue = "true", matchIfMissing = true)
+public class ConsultasLentasConfig {
+
+    @Bean
+    public DetectorConsultasLentas detectorConsultasLentas(ObjectProvider<ConnectionFactory> conexoes,
+                                                           ObjectMapper objectMapper,
+                                                           MeterRegistry registry) {
+        return new DetectorConsultasLentas(conexoes, objectMapper, registry);
+    }
+
+    @Bean
+    public ConnectionFactoryDecorator decoradorConsultasLentas(DetectorConsultasLentas detector) {
+        return conexoes -> ProxyConnectionFactory.builder(conexoes).listener(detector).build();
+    }
+
+    @Bean
+    public ConsultasLentasEndpoint consultasLentasEndpoint(DetectorConsultasLentas detector) {
+        return new ConsultasLentasEndpoint(detector);
+    }
+}
@@ -0,0 +1,254 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * ============================================================================
+ * 🧊 GUARDA DE RESTAURAÇÃO CRaC (CHECKPOINT/RESTORE)
+ * ============================================================================
+ *
+ * A imagem é gerada no build ({@code mvn package -Pcrac}); em uma imagem
+ * restaurada o {@code Environment} do Spring, a URL normalizada pelo
+ * {@link R2dbcUrlNormalizer} e o cliente do {@link AzureKeyVaultConfig} são os
+ * do momento do checkpoint, e o pod real sempre tem outros valores.
+ *
+ * A guarda registra uma impressão (SHA-256 por item, sem valores em claro) das
+ * variáveis e secrets que alimentam essas configurações e, na restauração,
+ * recalcula a partir do ambiente real do processo. Para cada item alterado:
+ * - URL/credenciais R2DBC: fonte {@code restauracaoCheckpoint} à frente do
+ *   Environment, {@code spring.r2dbc.*} religado e conexões do driver das
+ *   {@link ConnectionFactoryRestauravel} reconstruídas
+ * - variáveis AZURE_*: cliente do Key Vault recriado
+ * - perfis ativos: apenas alerta (não mudam sem reinício)
+ *
+ * Fora de uma JVM com CRaC a API {@code org.crac} não executa nenhum callback.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class GuardaRestauracaoCheckpoint implements Resource {
+
+    private static final Logger logger = LoggerFactory.getLogger(GuardaRestauracaoCheckpoint.class);
+    private static final Path DIRETORIO_SECRETS = Path.of("/run/secrets");
+    private static final String FONTE_RESTAURACAO = "restauracaoCheckpoint";
+    private static final String BEAN_KEY_VAULT = "secretClient";
+
+    private static final String SECRET_URL = "conexao-de-sorte-database-r2dbc-url";
+    private static final String SECRET_USUARIO = "conexao-de-sorte-database-username";
+    private static final String SECRET_SENHA = "conexao-de-sorte-database-password";
+    private static final String[] VARIAVEIS_AZURE = {
+        "AZURE_CLIENT_ID", "AZURE_TENANT_ID", "AZURE_KEYVAULT_ENDPOINT",
+        "AZURE_KEYVAULT_ENABLED", "AZURE_FEDERATED_TOKEN_FILE"
+    };
+
+    private final ConfigurableEnvironment ambiente;
+    private final ObjectProvider<R2dbcProperties> propriedadesR2dbc;
+    private final ConfigurableListableBeanFactory fabricaBeans;
+    private final List<ConnectionFactoryRestauravel> conexoes = new CopyOnWriteArrayList<>();
+
+    private volatile Map<String, String> impressaoCheckpoint;
+
+    public GuardaRestauracaoCheckpoint(ConfigurableEnvironment ambiente,
+                                       ObjectProvider<R2dbcProperties> propriedadesR2dbc,
+                                       ConfigurableListableBeanFactory fabricaBeans) {
+        this.ambiente = ambiente;
+        this.propriedadesR2dbc = propriedadesR2dbc;
+        this.fabricaBeans = fabricaBeans;
+        // O contexto global mantém referências fracas; o bean mantém a forte
+        Core.getGlobalContext().register(this);
+    }
+
+    /**
+     * Envolve a conexão do driver de um pool para que seja reconstruída na restauração
+     * @param inicial Conexão do driver criada agora
+     * @param reconstrucao Cria a conexão do driver a partir da configuração atual
+     * @return Conexão a ser usada sob o pool
+     */
+    public ConnectionFactory restauravel(ConnectionFactory inicial, Supplier<ConnectionFactory> reconstrucao) {
+        ConnectionFactoryRestauravel conexao = new ConnectionFactoryRestauravel(inicial, reconstrucao);
+        conexoes.add(conexao);
+        return conexao;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        impressaoCheckpoint = calcularImpressoes(capturarConfiguracao(System::getenv, GuardaRestauracaoCheckpoint::lerSecret));
+        logger.info("🧊 Checkpoint: impressão da configuração registrada");
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        Map<String, String> configuracao = capturarConfiguracao(System::getenv, GuardaRestauracaoCheckpoint::lerSecret);
+        Set<String> alterados = alterados(impressaoCheckpoint, calcularImpressoes(configuracao));
+        if (alterados.isEmpty()) {
+            logger.info("✅ Restauração CRaC - configuração idêntica à do checkpoint");
+            return;
+        }
+        logger.info("🧊 Restauração CRaC - configuração alterada desde o checkpoint: {}", alterados);
+
+        if (alterados.stream().anyMatch(item -> item.startsWith("r2dbc."))) {
+            reconfigurarBanco(configuracao);
+        }
+        if (alterados.stream().anyMatch(item -> item.startsWith("AZURE_"))) {
+            recriarClienteKeyVault();
+        }
+        if (alterados.contains("profiles")) {
+            logger.warn("⚠️ SPRING_PROFILES_ACTIVE difere do checkpoint - os perfis da imagem continuam ativos");
+        }
+    }
+
+    private void reconfigurarBanco(Map<String, String> configuracao) {
+        Map<String, Object> valores = new HashMap<>();
+        adicionar(valores, "spring.r2dbc.url", configuracao.get("r2dbc.url"));
+        adicionar(valores, "spring.r2dbc.username", configuracao.get("r2dbc.username"));
+        adicionar(valores, "spring.r2dbc.password", configuracao.get("r2dbc.password"));
+
+        // À frente também da URL normalizada no checkpoint pelo R2dbcUrlNormalizer
+        MutablePropertySources fontes = ambiente.getPropertySources();
+        MapPropertySource fonte = new MapPropertySource(FONTE_RESTAURACAO, valores);
+        if (fontes.contains(FONTE_RESTAURACAO)) {
+            fontes.replace(FONTE_RESTAURACAO, fonte);
+        } else {
+            fontes.addFirst(fonte);
+        }
+
+        R2dbcProperties propriedades = propriedadesR2dbc.getIfAvailable();
+        if (propriedades != null) {
+            Binder.get(ambiente).bind("spring.r2dbc", Bindable.ofInstance(propriedades));
+        }
+        conexoes.forEach(ConnectionFactoryRestauravel::reconstruir);
+        logger.info("✅ Restauração CRaC - {} conexões do driver reapontadas", conexoes.size());
+    }
+
+    private void recriarClienteKeyVault() {
+        if (!(fabricaBeans instanceof DefaultListableBeanFactory fabrica) || !fabrica.containsSingleton(BEAN_KEY_VAULT)) {
+            return;
+        }
+        try {
+            // Recriado pelo próprio @Bean, que relê as variáveis AZURE_* do processo
+            fabrica.destroySingleton(BEAN_KEY_VAULT);
+            fabrica.getBean(BEAN_KEY_VAULT);
+            logger.info("✅ Restauração CRaC - cliente do Azure Key Vault recriado");
+        } catch (RuntimeException e) {
+            logger.error("❌ Restauração CRaC - falha ao recriar o cliente do Azure Key Vault: {}", e.getMessage());
+        }
+    }
+
+    private static void adicionar(Map<String, Object> valores, String propriedade, String valor) {
+        if (valor != null && !valor.isBlank()) {
+            valores.put(propriedade, valor.strip());
+        }
+    }
+
+    /**
+     * Configuração efetiva, com a URL já normalizada (JDBC e R2DBC equivalentes
+     * produzem a mesma impressão). Mesma precedência do Spring: SPRING_R2DBC_*,
+     * variável equivalente ao secret e, por fim, o arquivo do configtree.
+     */
+    static Map<String, String> capturarConfiguracao(Function<String, String> variaveis,
+                                                    Function<String, String> secrets) {
+        Map<String, String> configuracao = new LinkedHashMap<>();
+
+        String url = primeiroValor(variaveis.apply("SPRING_R2DBC_URL"),
+            variaveis.apply("CONEXAO_DE_SORTE_DATABASE_R2DBC_URL"), secrets.apply(SECRET_URL));
+        configuracao.put("r2dbc.url", R2dbcUrlNormalizer.normalizar(url != null ? url.strip() : null));
+        configuracao.put("r2dbc.username", primeiroValor(variaveis.apply("SPRING_R2DBC_USERNAME"),
+            variaveis.apply("CONEXAO_DE_SORTE_DATABASE_USERNAME"), secrets.apply(SECRET_USUARIO)));
+        configuracao.put("r2dbc.password", primeiroValor(variaveis.apply("SPRING_R2DBC_PASSWORD"),
+            variaveis.apply("CONEXAO_DE_SORTE_DATABASE_PASSWORD"), secrets.apply(SECRET_SENHA)));
+        configuracao.put("profiles", variaveis.apply("SPRING_PROFILES_ACTIVE"));
+
+        for (String variavel : VARIAVEIS_AZURE) {
+            configuracao.put(variavel, variaveis.apply(variavel));
+        }
+        return configuracao;
+    }
+
+    /**
+     * Impressão SHA-256 de cada item, para saber o que mudou sem guardar valores
+     */
+    static Map<String, String> calcularImpressoes(Map<String, String> configuracao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Map<String, String> impressoes = new LinkedHashMap<>();
+            configuracao.forEach((chave, valor) -> {
+                if (valor != null) {
+                    digest.update(valor.strip().getBytes(StandardCharsets.UTF_8));
+                }
+                impressoes.put(chave, HexFormat.of().formatHex(digest.digest()));
+            });
+            return impressoes;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Itens com impressão diferente; sem checkpoint registrado, nenhum
+     */
+    static Set<String> alterados(Map<String, String> checkpoint, Map<String, String> atual) {
+        Set<String> alterados = new TreeSet<>();
+        if (checkpoint != null) {
+            atual.forEach((chave, impressao) -> {
+                if (!Objects.equals(checkpoint.get(chave), impressao)) {
+                    alterados.add(chave);
+                }
+            });
+        }
+        return alterados;
+    }
+
+    private static String primeiroValor(String... valores) {
+        for (String valor : valores) {
+            if (valor != null && !valor.isBlank()) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    private static String lerSecret(String nome) {
+        Path arquivo = DIRETORIO_SECRETS.resolve(nome);
+        try {
+            return Files.isReadable(arquivo) ? Files.readString(arquivo) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.KernelsContagem;
+
+/**
+ * ============================================================================
+ * ⚡ KERNELS DE CONTAGEM - ESCALAR OU VECTOR API
+ * ============================================================================
+ *
+ * Escolhe na inicialização a implementação dos laços de contagem sobre as
+ * bitmasks dos sorteios em memória:
+ * - auto: Vector API quando {@code --add-modules jdk.incubator.vector} está
+ *   presente e o hardware processa ao menos 4 sorteios por instrução
+ * - vetorial: Vector API sempre que o módulo estiver presente
+ * - escalar: sempre escalar
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class KernelsContagemConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(KernelsContagemConfig.class);
+
+    @Bean
+    public KernelsContagem kernelsContagem(@Value("${resultados.kernels-contagem.modo:auto}") String modo) {
+        KernelsContagem kernels = KernelsContagem.selecionar(modo);
+        logger.info("⚡ Kernels de contagem: {} (modo {}, {} sorteio(s) por instrução)",
+            kernels.getClass().getSimpleName(), modo, kernels.largura());
+        return kernels;
+    }
+}
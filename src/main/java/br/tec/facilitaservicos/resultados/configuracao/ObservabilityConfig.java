@@ -7,8 +7,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 /**
  * ============================================================================
  * 📊 CONFIGURAÇÃO DE OBSERVABILIDADE - MICROSERVIÇO RESULTADOS
@@ -29,7 +27,6 @@ public class ObservabilityConfig {
 
     // Constantes para strings repetidas
     private static final String NOME_SERVICO = "resultados-microservice";
-    private static final String TAG_SERVICO = "resultados";
     private static final String CHAVE_DATABASE = "database";
     private static final String CHAVE_STATUS = "status";
     private static final String CHAVE_SERVICE = "service";
@@ -100,32 +97,7 @@ public class ObservabilityConfig {
             ));
     }
 
-    /**
-     * Configuração de métricas customizadas
-     */
-    @Bean
-    public Counter resultadosConsultasCounter(MeterRegistry registry) {
-        return Counter.builder("resultados.consultas.total")
-            .description("Total de consultas aos resultados")
-            .tag(CHAVE_SERVICE, TAG_SERVICO)
-            .register(registry);
-    }
-
-    @Bean
-    public Counter rankingConsultasCounter(MeterRegistry registry) {
-        return Counter.builder("ranking.consultas.total")
-            .description("Total de consultas ao ranking")
-            .tag(CHAVE_SERVICE, TAG_SERVICO)
-            .register(registry);
-    }
-
-    @Bean
-    public Counter estatisticasConsultasCounter(MeterRegistry registry) {
-        return Counter.builder("estatisticas.consultas.total")
-            .description("Total de consultas às estatísticas")
-            .tag(CHAVE_SERVICE, TAG_SERVICO)
-            .register(registry);
-    }
+    // Consultas de resultados, ranking e estatísticas: timers do InstrumentacaoServicoAspect
 
     /**
      * Health check para cache Redis
@@ -0,0 +1,152 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.r2dbc.ConnectionFactoryDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import br.tec.facilitaservicos.resultados.infraestrutura.ConnectionFactoryRoteada;
+import br.tec.facilitaservicos.resultados.infraestrutura.MonitorReplicas;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * ============================================================================
+ * 🏊 POOLS DE CONEXÃO POR CARGA DE TRABALHO
+ * ============================================================================
+ *
+ * Substitui a ConnectionFactory do Spring Boot por uma roteada com pools isolados:
+ * - OLTP: buscas pontuais (/ultimo, /hoje, por id), com as propriedades de
+ *   {@code spring.r2dbc.pool.*}
+ * - analítico: consultas {@code @ConsultaAnalitica} (ranking por temporada,
+ *   estatísticas, histórico, cargas completas), pequeno e com timeouts próprios
+ *   em {@code resultados.pools.analitico.*}; varreduras longas esperam entre si
+ *   sem ocupar as conexões OLTP
+ * - réplicas de leitura, quando {@link ReplicasLeituraConfig} está ativa
+ *
+ * Cada pool publica {@code r2dbc.pool.*} (tag {@code name}) e o tempo de
+ * aquisição em {@code resultados.r2dbc.aquisicao} (tag {@code pool}). A conexão
+ * do driver sob cada pool é reapontada pela {@link GuardaRestauracaoCheckpoint}
+ * quando uma imagem CRaC é restaurada com outra URL ou credenciais.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+@ConditionalOnExpression("${resultados.replicas.habilitado:false} or ${resultados.pools.analitico.habilitado:true}")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class PoolsConexaoConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolsConexaoConfig.class);
+
+    @Value("${resultados.pools.analitico.habilitado:true}")
+    private boolean analiticoHabilitado = true;
+
+    @Value("${resultados.pools.analitico.initial-size:1}")
+    private int analiticoInitialSize = 1;
+
+    @Value("${resultados.pools.analitico.max-size:4}")
+    private int analiticoMaxSize = 4;
+
+    @Value("${resultados.pools.analitico.max-acquire-time:30s}")
+    private Duration analiticoMaxAcquireTime = Duration.ofSeconds(30);
+
+    @Value("${resultados.pools.analitico.max-idle-time:10m}")
+    private Duration analiticoMaxIdleTime = Duration.ofMinutes(10);
+
+    /**
+     * Substitui a ConnectionFactory automática: repositórios, DatabaseClient e
+     * transações passam a usar a versão roteada
+     */
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(R2dbcProperties propriedades,
+                                               ObjectProvider<MonitorReplicas> monitor,
+                                               ObjectProvider<ConnectionFactoryDecorator> decoradores,
+                                               GuardaRestauracaoCheckpoint guarda,
+                                               MeterRegistry registry) {
+        List<ConnectionFactoryDecorator> decoracao = decoradores.orderedStream().toList();
+        Supplier<ConnectionFactory> driver = () -> conexoesDriver(propriedades.getUrl(),
+            propriedades.getUsername(), propriedades.getPassword());
+        ConnectionPool primario = criarPool(ConnectionFactoryRoteada.PRIMARIO,
+            guarda.restauravel(driver.get(), driver), propriedades.getPool(), null, decoracao);
+        new ConnectionPoolMetrics(primario, ConnectionFactoryRoteada.PRIMARIO, Tags.empty()).bindTo(registry);
+
+        ConnectionPool analitico = null;
+        if (analiticoHabilitado) {
+            R2dbcProperties.Pool configuracao = copiar(propriedades.getPool());
+            configuracao.setInitialSize(analiticoInitialSize);
+            configuracao.setMaxSize(analiticoMaxSize);
+            configuracao.setMaxAcquireTime(analiticoMaxAcquireTime);
+            configuracao.setMaxIdleTime(analiticoMaxIdleTime);
+            analitico = criarPool(ConnectionFactoryRoteada.ANALITICO,
+                guarda.restauravel(driver.get(), driver), configuracao, null, decoracao);
+            new ConnectionPoolMetrics(analitico, ConnectionFactoryRoteada.ANALITICO, Tags.empty()).bindTo(registry);
+        }
+
+        logger.info("🏊 Pools R2DBC: OLTP max {}{}", propriedades.getPool().getMaxSize(),
+            analitico != null ? ", analítico max " + analiticoMaxSize : "");
+        return new ConnectionFactoryRoteada(primario, analitico, monitor.getIfAvailable(), registry);
+    }
+
+    /**
+     * Conexão do driver, sem pool, com a URL normalizada
+     */
+    static ConnectionFactory conexoesDriver(String url, String usuario, String senha) {
+        return ConnectionFactoryBuilder.withUrl(R2dbcUrlNormalizer.normalizar(url))
+            .username(usuario)
+            .password(senha)
+            .build();
+    }
+
+    /**
+     * Pool sobre a conexão do driver já decorada (observação por statement do
+     * Spring Boot, quando r2dbc-proxy está no classpath)
+     */
+    static ConnectionPool criarPool(String nome, ConnectionFactory driver,
+                                    R2dbcProperties.Pool pool, Integer tamanhoMaximo,
+                                    List<ConnectionFactoryDecorator> decoradores) {
+        ConnectionFactory conexoes = driver;
+        for (ConnectionFactoryDecorator decorador : decoradores) {
+            conexoes = decorador.decorate(conexoes);
+        }
+        ConnectionPoolConfiguration.Builder configuracao = ConnectionPoolConfiguration.builder(conexoes).name(nome);
+        PropertyMapper mapeador = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        mapeador.from(pool.getInitialSize()).to(configuracao::initialSize);
+        mapeador.from(tamanhoMaximo != null ? tamanhoMaximo : pool.getMaxSize()).to(configuracao::maxSize);
+        mapeador.from(pool.getMaxIdleTime()).to(configuracao::maxIdleTime);
+        mapeador.from(pool.getMaxLifeTime()).to(configuracao::maxLifeTime);
+        mapeador.from(pool.getMaxAcquireTime()).to(configuracao::maxAcquireTime);
+        mapeador.from(pool.getMaxCreateConnectionTime()).to(configuracao::maxCreateConnectionTime);
+        mapeador.from(pool.getValidationQuery()).whenHasText().to(configuracao::validationQuery);
+        mapeador.from(pool.getValidationDepth()).to(configuracao::validationDepth);
+        return new ConnectionPool(configuracao.build());
+    }
+
+    private static R2dbcProperties.Pool copiar(R2dbcProperties.Pool origem) {
+        R2dbcProperties.Pool copia = new R2dbcProperties.Pool();
+        copia.setMaxLifeTime(origem.getMaxLifeTime());
+        copia.setMaxCreateConnectionTime(origem.getMaxCreateConnectionTime());
+        copia.setValidationQuery(origem.getValidationQuery());
+        copia.setValidationDepth(origem.getValidationDepth());
+        return copia;
+    }
+}
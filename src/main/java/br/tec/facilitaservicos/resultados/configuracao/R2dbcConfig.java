@@ -1,6 +1,11 @@
 package br.tec.facilitaservicos.resultados.configuracao;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryDecorator;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.context.annotation.Bean;
@@ -35,4 +40,18 @@ public class R2dbcConfig {
     public R2dbcEntityTemplate r2dbcEntityTemplate(ConnectionFactory connectionFactory) {
         return new R2dbcEntityTemplate(connectionFactory);
     }
+
+    /**
+     * Sem {@link PoolsConexaoConfig} o pool é o do Spring Boot: a conexão do
+     * driver sob ele (primeiro decorador) também é reapontada pela
+     * {@link GuardaRestauracaoCheckpoint} na restauração CRaC.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnExpression("!(${resultados.replicas.habilitado:false} or ${resultados.pools.analitico.habilitado:true})")
+    public ConnectionFactoryDecorator conexoesRestauraveis(GuardaRestauracaoCheckpoint guarda,
+                                                           R2dbcProperties propriedades) {
+        return conexoes -> guarda.restauravel(conexoes, () -> PoolsConexaoConfig.conexoesDriver(
+            propriedades.getUrl(), propriedades.getUsername(), propriedades.getPassword()));
+    }
 }
\ No newline at end of file
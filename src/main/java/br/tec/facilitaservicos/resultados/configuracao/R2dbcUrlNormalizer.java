@@ -63,17 +63,7 @@ public class R2dbcUrlNormalizer implements ApplicationListener<ApplicationEnviro
             String originalValue = environment.getProperty(property);
 
             if (originalValue != null) {
-                String convertedValue;
-
-                if (isJdbcUrl(originalValue)) {
-                    // Conversão JDBC -> R2DBC
-                    convertedValue = convertJdbcToR2dbc(originalValue);
-                } else if (originalValue.startsWith("r2dbc:mysql://")) {
-                    // Aplicar correções em URLs R2DBC existentes
-                    convertedValue = convertJdbcToR2dbc(originalValue);
-                } else {
-                    convertedValue = originalValue;
-                }
+                String convertedValue = normalizar(originalValue);
 
                 if (!originalValue.equals(convertedValue)) {
                     normalizedProperties.put(property, convertedValue);
@@ -102,10 +92,31 @@ public class R2dbcUrlNormalizer implements ApplicationListener<ApplicationEnviro
         }
     }
     
+    /**
+     * Normalização pura (sem estado), reutilizada pela guarda de restauração CRaC
+     * para comparar a configuração do checkpoint com a do ambiente restaurado.
+     * @param url URL original (JDBC ou R2DBC)
+     * @return URL R2DBC normalizada
+     */
+    static String normalizar(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (isJdbcUrl(url)) {
+            // Conversão JDBC -> R2DBC
+            return convertJdbcToR2dbc(url);
+        }
+        if (url.startsWith("r2dbc:mysql://")) {
+            // Aplicar correções em URLs R2DBC existentes
+            return convertJdbcToR2dbc(url);
+        }
+        return url;
+    }
+
     /**
      * Verifica se a URL é uma URL JDBC que precisa ser convertida
      */
-    private boolean isJdbcUrl(String url) {
+    private static boolean isJdbcUrl(String url) {
         if (url == null || url.trim().isEmpty()) {
             return false;
         }
@@ -116,7 +127,7 @@ public class R2dbcUrlNormalizer implements ApplicationListener<ApplicationEnviro
     /**
      * Converte URL JDBC para formato R2DBC compatível
      */
-    private String convertJdbcToR2dbc(String jdbcUrl) {
+    private static String convertJdbcToR2dbc(String jdbcUrl) {
         if (jdbcUrl == null) {
             return null;
         }
@@ -163,7 +174,7 @@ public class R2dbcUrlNormalizer implements ApplicationListener<ApplicationEnviro
     /**
      * Mascara informações sensíveis da URL para logs
      */
-    private String maskUrl(String url) {
+    private static String maskUrl(String url) {
         if (url == null) {
             return "null";
         }
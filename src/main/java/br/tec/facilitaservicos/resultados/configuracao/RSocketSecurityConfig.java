@@ -0,0 +1,48 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.rsocket.EnableRSocketSecurity;
+import org.springframework.security.config.annotation.rsocket.RSocketSecurity;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtReactiveAuthenticationManager;
+import org.springframework.security.rsocket.core.PayloadSocketAcceptorInterceptor;
+
+/**
+ * ============================================================================
+ * 🔐 SEGURANÇA DA API RSOCKET
+ * ============================================================================
+ *
+ * A porta {@code spring.rsocket.server.port} exige o mesmo JWT da API HTTP,
+ * validado pelo {@link ReactiveJwtDecoder} da {@link SecurityConfig} (mesmo
+ * emissor e JWKS). O cliente envia o token no metadado de autenticação
+ * ({@code message/x.rsocket.authentication.v0}, tipo bearer) do setup; setup
+ * sem token válido é recusado e a conexão não se abre. As requisições da
+ * conexão herdam essa autenticação, e os streams do
+ * {@link br.tec.facilitaservicos.resultados.apresentacao.controlador.ResultadoRSocketController}
+ * terminam com erro no {@code exp} do token: o cliente reconecta com um token novo.
+ *
+ * O interceptor é registrado no servidor RSocket pela autoconfiguração de
+ * segurança do Spring Boot.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+@EnableRSocketSecurity
+public class RSocketSecurityConfig {
+
+    @Bean
+    public PayloadSocketAcceptorInterceptor interceptorSegurancaRSocket(RSocketSecurity rsocket,
+                                                                      ReactiveJwtDecoder reactiveJwtDecoder) {
+        return rsocket
+            .authorizePayload(autorizacao -> autorizacao
+                .setup().authenticated()
+                .anyRequest().authenticated()
+                // keepalive e metadata-push não carregam rota
+                .anyExchange().permitAll())
+            .jwt(jwt -> jwt.authenticationManager(new JwtReactiveAuthenticationManager(reactiveJwtDecoder)))
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.tec.facilitaservicos.resultados.infraestrutura.MonitorReplicas;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * ============================================================================
+ * 🔀 CONFIGURAÇÃO DE RÉPLICAS DE LEITURA
+ * ============================================================================
+ *
+ * Com {@code resultados.replicas.habilitado=true} cria um pool por URL em
+ * {@code resultados.replicas.urls} (mesmas configurações de pool, tamanho
+ * máximo próprio, métricas {@code r2dbc.pool.*} com tag {@code name}
+ * replica-1, replica-2...) e o monitor que os entrega à ConnectionFactory
+ * roteada de {@link PoolsConexaoConfig}.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+@ConditionalOnProperty(name = "resultados.replicas.habilitado", havingValue = "true")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReplicasLeituraConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicasLeituraConfig.class);
+
+    @Value("${resultados.replicas.urls:}")
+    private String urls = "";
+
+    @Value("${resultados.replicas.username:}")
+    private String username = "";
+
+    @Value("${resultados.replicas.password:}")
+    private String password = "";
+
+    @Value("${resultados.replicas.pool-max-size:0}")
+    private int poolMaxSize = 0;
+
+    @Value("${resultados.replicas.atraso-maximo:5}")
+    private long atrasoMaximoSegundos = 5;
+
+    @Value("${resultados.replicas.intervalo-verificacao:5}")
+    private long intervaloVerificacaoSegundos = 5;
+
+    @Value("${resultados.replicas.aceitar-sem-replicacao:false}")
+    private boolean aceitarSemReplicacao = false;
+
+    @Bean("replicasLeituraHealthIndicator")
+    public MonitorReplicas monitorReplicas(R2dbcProperties propriedades,
+                                           ObjectProvider<ConnectionFactoryDecorator> decoradores,
+                                           GuardaRestauracaoCheckpoint guarda,
+                                           MeterRegistry registry) {
+        List<String> enderecos = Arrays.stream(urls.split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+
+        Map<String, ConnectionPool> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < enderecos.size(); i++) {
+            String nome = "replica-" + (i + 1);
+            String endereco = enderecos.get(i);
+            // Sem usuário próprio, segue as credenciais do primário (também após restauração CRaC)
+            Supplier<ConnectionFactory> driver = () -> PoolsConexaoConfig.conexoesDriver(endereco,
+                username.isBlank() ? propriedades.getUsername() : username,
+                username.isBlank() ? propriedades.getPassword() : password);
+            ConnectionPool pool = PoolsConexaoConfig.criarPool(nome, guarda.restauravel(driver.get(), driver),
+                propriedades.getPool(), poolMaxSize > 0 ? poolMaxSize : null, decoradores.orderedStream().toList());
+            new ConnectionPoolMetrics(pool, nome, Tags.empty()).bindTo(registry);
+            replicas.put(nome, pool);
+        }
+        logger.info("🔀 Roteamento de leituras habilitado: {} réplica(s)", replicas.size());
+        return new MonitorReplicas(replicas, Duration.ofSeconds(atrasoMaximoSegundos),
+            Duration.ofSeconds(intervaloVerificacaoSegundos), aceitarSemReplicacao, registry);
+    }
+}
@@ -144,11 +144,21 @@ public class SecurityConfig {
                     "/rest/v1/resultados/hoje",
                     "/rest/v1/resultados/horarios",
                     "/rest/v1/resultados/ultimo/{horario}",
+                    "/rest/v1/resultados/conferencia",
+                    "/rest/v1/resultados/numeros/{numero}",
+                    "/rest/v1/resultados/somas/histograma",
                     
                     // Novos endpoints públicos de consulta
-                    "/rest/v1/loterias/**"
+                    "/rest/v1/loterias/**",
+
+                    // Painel ao vivo de hoje (WebSocket)
+                    "/ws/resultados/hoje"
                 ).permitAll()
 
+                // Actuator administrativo (SQL e planos das consultas lentas)
+                .pathMatchers("/actuator/consultaslentas", "/actuator/consultaslentas/**")
+                    .hasAuthority("SCOPE_admin")
+
                 // Qualquer outra requisição requer autenticação
                 .anyExchange().authenticated()
             )
@@ -0,0 +1,33 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import br.tec.facilitaservicos.resultados.apresentacao.controlador.PainelHojeWebSocketHandler;
+
+/**
+ * ============================================================================
+ * 📺 CONFIGURAÇÃO WEBSOCKET - PAINEL AO VIVO
+ * ============================================================================
+ *
+ * Mapeia os handlers WebSocket antes dos controladores anotados; o
+ * WebSocketHandlerAdapter já vem da configuração padrão do WebFlux.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public HandlerMapping mapeamentoWebSocket(PainelHojeWebSocketHandler painelHoje) {
+        return new SimpleUrlHandlerMapping(Map.of(PainelHojeWebSocketHandler.CAMINHO, painelHoje),
+            Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,133 @@
+package br.tec.facilitaservicos.resultados.dominio.entidade;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Lista imutável e compacta dos (até) 7 números de um resultado
+ *
+ * Um único objeto com as referências em campos, sem array, stream ou
+ * coletor intermediário: é a única alocação de {@link ResultadoR2dbc#obterNumeros()}
+ * por linha mapeada. {@link RandomAccess} faz o Jackson serializar por índice,
+ * sem criar iterador.
+ *
+ * Números nulos são descartados (mesma semântica do filtro anterior),
+ * compactando os presentes no início.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public final class NumerosSorteados extends AbstractList<String> implements RandomAccess {
+
+    private final String n0, n1, n2, n3, n4, n5, n6;
+    private final int tamanho;
+
+    private NumerosSorteados(String n0, String n1, String n2, String n3,
+                             String n4, String n5, String n6, int tamanho) {
+        this.n0 = n0;
+        this.n1 = n1;
+        this.n2 = n2;
+        this.n3 = n3;
+        this.n4 = n4;
+        this.n5 = n5;
+        this.n6 = n6;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Cria a lista a partir das 7 colunas, ignorando as nulas
+     */
+    public static NumerosSorteados de(String primeiro, String segundo, String terceiro, String quarto,
+                                      String quinto, String sexto, String setimo) {
+        if (primeiro != null && segundo != null && terceiro != null && quarto != null
+                && quinto != null && sexto != null && setimo != null) {
+            return new NumerosSorteados(primeiro, segundo, terceiro, quarto, quinto, sexto, setimo, 7);
+        }
+
+        // Caminho raro (entidade incompleta): compacta os não nulos
+        String[] presentes = new String[7];
+        int n = 0;
+        for (String numero : new String[] {primeiro, segundo, terceiro, quarto, quinto, sexto, setimo}) {
+            if (numero != null) {
+                presentes[n++] = numero;
+            }
+        }
+        return new NumerosSorteados(presentes[0], presentes[1], presentes[2], presentes[3],
+            presentes[4], presentes[5], presentes[6], n);
+    }
+
+    @Override
+    public String get(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return switch (indice) {
+            case 0 -> n0;
+            case 1 -> n1;
+            case 2 -> n2;
+            case 3 -> n3;
+            case 4 -> n4;
+            case 5 -> n5;
+            default -> n6;
+        };
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    @Override
+    public void forEach(Consumer<? super String> acao) {
+        for (int i = 0; i < tamanho; i++) {
+            acao.accept(get(i));
+        }
+    }
+
+    /**
+     * Soma numérica dos 7 números, sem criar objetos intermediários
+     * @return soma, ou -1 se a lista estiver incompleta ou algum número não for inteiro
+     */
+    public int somar() {
+        if (tamanho != 7) {
+            return -1;
+        }
+        int soma = 0;
+        for (int i = 0; i < 7; i++) {
+            int valor = converter(get(i));
+            if (valor < 0) {
+                return -1;
+            }
+            soma += valor;
+        }
+        return soma;
+    }
+
+    /**
+     * Converte dígitos decimais (espaços nas bordas tolerados) sem alocar
+     * @return valor não negativo, ou -1 se não for numérico
+     */
+    public static int converter(String numero) {
+        int inicio = 0;
+        int fim = numero.length();
+        while (inicio < fim && Character.isWhitespace(numero.charAt(inicio))) {
+            inicio++;
+        }
+        while (fim > inicio && Character.isWhitespace(numero.charAt(fim - 1))) {
+            fim--;
+        }
+        if (inicio == fim || fim - inicio > 9) {
+            return -1;
+        }
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = numero.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+}
@@ -1,10 +1,8 @@
 package br.tec.facilitaservicos.resultados.dominio.entidade;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
@@ -182,30 +180,20 @@ public class ResultadoR2dbc extends ReactiveAuditableEntity {
     // Métodos de negócio
 
     /**
-     * Obtém todos os números como lista
+     * Obtém todos os números (não nulos) como lista imutável compacta
      */
     public List<String> obterNumeros() {
-        return Arrays.asList(primeiro, segundo, terceiro, quarto, quinto, sexto, setimo)
-                .stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return NumerosSorteados.de(primeiro, segundo, terceiro, quarto, quinto, sexto, setimo);
     }
 
     /**
      * Calcula automaticamente a soma dos números
+     * Se algum número faltar ou não for numérico, mantém a soma atual
      */
     public void calcularSoma() {
-        try {
-            List<String> numeros = obterNumeros();
-            if (numeros.size() == 7 && numeros.stream().allMatch(this::isNumeric)) {
-                int somaTotal = numeros.stream()
-                    .mapToInt(Integer::parseInt)
-                    .sum();
-                this.soma = String.valueOf(somaTotal);
-            }
-        } catch (Exception e) {
-            // Se não conseguir calcular, mantém soma atual ou null
-            this.soma = null;
+        int somaTotal = NumerosSorteados.de(primeiro, segundo, terceiro, quarto, quinto, sexto, setimo).somar();
+        if (somaTotal >= 0) {
+            this.soma = String.valueOf(somaTotal);
         }
     }
 
@@ -228,7 +216,13 @@ public class ResultadoR2dbc extends ReactiveAuditableEntity {
      * Verifica se todos os números são válidos
      */
     public boolean numerosValidos() {
-        return obterNumeros().stream().allMatch(this::isNumeric);
+        List<String> numeros = obterNumeros();
+        for (int i = 0; i < numeros.size(); i++) {
+            if (!isNumeric(numeros.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -0,0 +1,26 @@
+package br.tec.facilitaservicos.resultados.dominio.repositorio;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca consultas longas (varreduras, agregações, histórico completo) para o
+ * pool analítico, isolando-as do pool OLTP que atende as buscas pontuais.
+ *
+ * Apenas um marcador do domínio: o roteamento é aplicado pela infraestrutura
+ * ({@code RoteamentoLeituraAspect}) nos métodos de {@link RepositorioResultadoR2dbc}
+ * e nos métodos públicos de {@code ConsultaProjecaoResultados}; fora deles, use
+ * {@code RoteamentoLeitura.analitica}.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConsultaAnalitica {
+}
@@ -1,6 +1,7 @@
 package br.tec.facilitaservicos.resultados.dominio.repositorio;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.repository.Query;
@@ -89,6 +90,7 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
      * @param pageable Paginação
      * @return Flux com resultados contendo o número
      */
+    @ConsultaAnalitica
     @Query("SELECT * FROM resultados WHERE primeiro = :numero OR segundo = :numero OR terceiro = :numero OR " +
            "quarto = :numero OR quinto = :numero OR sexto = :numero OR setimo = :numero ORDER BY data_resultado DESC")
     Flux<ResultadoR2dbc> findByNumeroContido(@Param("numero") String numero, Pageable pageable);
@@ -99,6 +101,7 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
      * @param pageable Paginação
      * @return Flux com resultados da soma
      */
+    @ConsultaAnalitica
     Flux<ResultadoR2dbc> findBySomaOrderByDataResultadoDesc(String soma, Pageable pageable);
 
     /**
@@ -158,6 +161,7 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
      * @param limite Limite de resultados
      * @return Flux com estatísticas de números mais sorteados
      */
+    @ConsultaAnalitica
     @Query("SELECT numero, COUNT(*) as frequencia FROM (" +
            "SELECT primeiro as numero FROM resultados UNION ALL " +
            "SELECT segundo as numero FROM resultados UNION ALL " +
@@ -176,6 +180,7 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
      * @param limite Limite de resultados
      * @return Flux com números mais frequentes
      */
+    @ConsultaAnalitica
     @Query("SELECT numero, COUNT(*) as frequencia FROM (" +
            "SELECT primeiro as numero FROM resultados WHERE data_resultado BETWEEN :dataInicio AND :dataFim UNION ALL " +
            "SELECT segundo as numero FROM resultados WHERE data_resultado BETWEEN :dataInicio AND :dataFim UNION ALL " +
@@ -196,6 +201,13 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
     @Query("SELECT COUNT(*) FROM resultados")
     Mono<Long> countTotal();
 
+    /**
+     * Busca o maior id registrado
+     * @return Mono com o maior id (0 quando a tabela está vazia)
+     */
+    @Query("SELECT COALESCE(MAX(id), 0) FROM resultados")
+    Mono<Long> findMaiorId();
+
     /**
      * Busca resultado mais antigo
      * @return Mono com resultado mais antigo
@@ -218,6 +230,42 @@ public interface RepositorioResultadoR2dbc extends R2dbcRepository<ResultadoR2db
     @Query("SELECT * FROM resultados ORDER BY data_resultado DESC, horario")
     Flux<ResultadoR2dbc> findAllPaginado(Pageable pageable);
 
+    /**
+     * Busca o próximo lote de resultados alterados após a marca d'água (keyset em updated_at, id)
+     * @param atualizadoEm Marca d'água de atualização
+     * @param id Último id processado com a mesma marca d'água
+     * @param limite Tamanho máximo do lote
+     * @return Flux com resultados alterados em ordem de atualização
+     */
+    @Query("SELECT * FROM resultados WHERE updated_at >= :atualizadoEm " +
+           "AND (updated_at > :atualizadoEm OR id > :id) ORDER BY updated_at, id LIMIT :limite")
+    Flux<ResultadoR2dbc> findAtualizadosApos(@Param("atualizadoEm") LocalDateTime atualizadoEm,
+                                             @Param("id") Long id,
+                                             @Param("limite") Integer limite);
+
+    /**
+     * Busca a maior data de atualização registrada
+     * @return Mono com a marca d'água atual (época quando a tabela está vazia)
+     */
+    @Query("SELECT COALESCE(MAX(updated_at), TIMESTAMP('1970-01-01 00:00:00')) FROM resultados")
+    Mono<LocalDateTime> findMarcaDaguaAtualizacao();
+
+    /**
+     * Busca o último resultado de cada horário
+     * @return Flux com um resultado por horário
+     */
+    @Query("SELECT r.* FROM resultados r INNER JOIN (" +
+           "SELECT horario, MAX(data_resultado) AS data_resultado FROM resultados GROUP BY horario" +
+           ") u ON r.horario = u.horario AND r.data_resultado = u.data_resultado")
+    Flux<ResultadoR2dbc> findUltimosPorHorario();
+
+    /**
+     * Busca horários com resultados nos últimos 7 dias
+     * @return Flux com horários recentes
+     */
+    @Query("SELECT DISTINCT horario FROM resultados WHERE data_resultado >= CURRENT_DATE - INTERVAL 7 DAY ORDER BY horario")
+    Flux<String> findHorariosRecentes();
+
     // Métodos adicionais para busca por data
     Flux<ResultadoR2dbc> findByDataResultadoAfter(LocalDate dataResultado, Pageable pageable);
     Mono<Long> countByDataResultadoAfter(LocalDate dataResultado);
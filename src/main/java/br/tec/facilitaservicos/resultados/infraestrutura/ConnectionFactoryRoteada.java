@@ -0,0 +1,119 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🔀 CONNECTION FACTORY ROTEADA POR CARGA DE TRABALHO
+ * ============================================================================
+ *
+ * Escolhe o pool de cada conexão pelas marcas de {@link RoteamentoLeitura}:
+ * - analítica: pool analítico (quando configurado)
+ * - réplica permitida: réplica saudável escolhida pelo {@link MonitorReplicas}
+ *   (quando configurado)
+ * - demais casos, inclusive escritas e transações: pool OLTP do primário
+ *
+ * O tempo de aquisição de cada conexão é registrado por pool em
+ * {@code resultados.r2dbc.aquisicao}.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public class ConnectionFactoryRoteada extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    public static final String PRIMARIO = "primario";
+    public static final String ANALITICO = "analitico";
+
+    private final ConnectionPool primario;
+    private final ConnectionPool analitico;
+    private final MonitorReplicas monitor;
+    private final Map<ConnectionFactory, Timer> aquisicao = new IdentityHashMap<>();
+
+    /**
+     * @param primario Pool OLTP do primário
+     * @param analitico Pool analítico (nulo: consultas analíticas no primário)
+     * @param monitor Monitor das réplicas (nulo: sem réplicas)
+     * @param registry Registro das métricas de aquisição
+     */
+    public ConnectionFactoryRoteada(ConnectionPool primario, ConnectionPool analitico, MonitorReplicas monitor,
+                                    MeterRegistry registry) {
+        this.primario = primario;
+        this.analitico = analitico;
+        this.monitor = monitor;
+        Map<Object, Object> alvos = new HashMap<>();
+        if (monitor != null) {
+            alvos.putAll(monitor.replicas());
+        }
+        if (analitico != null) {
+            alvos.put(ANALITICO, analitico);
+        }
+        alvos.put(PRIMARIO, primario);
+        alvos.forEach((nome, pool) -> aquisicao.put((ConnectionFactory) pool, Timer.builder("resultados.r2dbc.aquisicao")
+            .description("Espera para obter uma conexão do pool")
+            .tag("pool", nome.toString())
+            .register(registry)));
+        setTargetConnectionFactories(alvos);
+        setDefaultTargetConnectionFactory(primario);
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Pools por nome: primário, analítico (quando configurado) e réplicas
+     */
+    public Map<String, ConnectionPool> pools() {
+        Map<String, ConnectionPool> pools = new LinkedHashMap<>();
+        pools.put(PRIMARIO, primario);
+        if (analitico != null) {
+            pools.put(ANALITICO, analitico);
+        }
+        if (monitor != null) {
+            pools.putAll(monitor.replicas());
+        }
+        return pools;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return determineTargetConnectionFactory().flatMap(alvo -> {
+            Timer.Sample espera = Timer.start();
+            return Mono.from(alvo.create()).doOnNext(conexao -> espera.stop(aquisicao.get(alvo)));
+        });
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(contexto -> {
+            if (analitico != null && RoteamentoLeitura.ehAnalitica(contexto)) {
+                return Mono.just(ANALITICO);
+            }
+            if (monitor != null && RoteamentoLeitura.permiteReplica(contexto)) {
+                return Mono.justOrEmpty(monitor.escolher());
+            }
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public void destroy() {
+        // Os pools das réplicas são encerrados pelo monitor
+        primario.dispose();
+        if (analitico != null) {
+            analitico.dispose();
+        }
+    }
+}
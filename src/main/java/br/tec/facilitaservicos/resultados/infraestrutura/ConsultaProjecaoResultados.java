@@ -0,0 +1,176 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.NumerosSorteados;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.ConsultaAnalitica;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 📖 PROJEÇÃO DE LEITURA - ROW → RESULTADODTO
+ * ============================================================================
+ *
+ * Caminho somente leitura via {@link DatabaseClient}: cada linha vira
+ * {@link ResultadoDto} diretamente, sem o conversor reflexivo do Spring Data,
+ * sem instanciar {@code ResultadoR2dbc} e sem a validação (trim) dos setters.
+ *
+ * - Colunas explícitas em ordem fixa, lidas por posição
+ * - ORDER BY somente a partir de lista branca (campo desconhecido → padrão)
+ * - LIMIT/OFFSET explícitos (Pageable não pagina consultas {@code @Query})
+ *
+ * Escritas e a sincronização incremental continuam no repositório Spring Data.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class ConsultaProjecaoResultados {
+
+    static final String COLUNAS = "id, horario, primeiro, segundo, terceiro, quarto, quinto, sexto, setimo, "
+        + "soma, data_resultado, created_at, updated_at";
+    static final String ORDENACAO_PADRAO = "data_resultado DESC, horario";
+
+    private static final String SELECT = "SELECT " + COLUNAS + " FROM resultados";
+
+    /** Campos aceitos na ordenação (nome da API ou da coluna) → coluna */
+    private static final Map<String, String> COLUNAS_ORDENACAO = Map.of(
+        "id", "id",
+        "horario", "horario",
+        "soma", "soma",
+        "dataResultado", "data_resultado",
+        "data_resultado", "data_resultado",
+        "dataCriacao", "created_at",
+        "dataModificacao", "updated_at"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    public ConsultaProjecaoResultados(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Página de todos os resultados
+     * @param ordenacao Ordenação no formato campo,direção (opcional)
+     */
+    public Flux<ResultadoDto> listar(String ordenacao, int limite, long deslocamento) {
+        return databaseClient.sql(SELECT + " ORDER BY " + clausulaOrdenacao(ordenacao) + " LIMIT :limite OFFSET :deslocamento")
+            .bind("limite", limite)
+            .bind("deslocamento", deslocamento)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .all();
+    }
+
+    /**
+     * Página dos resultados entre duas datas (inclusive)
+     */
+    public Flux<ResultadoDto> listarPorPeriodo(LocalDate inicio, LocalDate fim, String ordenacao,
+                                               int limite, long deslocamento) {
+        return databaseClient.sql(SELECT + " WHERE data_resultado BETWEEN :inicio AND :fim ORDER BY "
+                + clausulaOrdenacao(ordenacao) + " LIMIT :limite OFFSET :deslocamento")
+            .bind("inicio", inicio)
+            .bind("fim", fim)
+            .bind("limite", limite)
+            .bind("deslocamento", deslocamento)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .all();
+    }
+
+    /**
+     * Todos os resultados entre duas datas (inclusive), sem paginação
+     */
+    @ConsultaAnalitica
+    public Flux<ResultadoDto> listarPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return databaseClient.sql(SELECT + " WHERE data_resultado BETWEEN :inicio AND :fim ORDER BY " + ORDENACAO_PADRAO)
+            .bind("inicio", inicio)
+            .bind("fim", fim)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .all();
+    }
+
+    /**
+     * Página dos resultados de uma data, por horário
+     */
+    public Flux<ResultadoDto> listarPorData(LocalDate data, int limite, long deslocamento) {
+        return databaseClient.sql(SELECT + " WHERE data_resultado = :data ORDER BY horario LIMIT :limite OFFSET :deslocamento")
+            .bind("data", data)
+            .bind("limite", limite)
+            .bind("deslocamento", deslocamento)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .all();
+    }
+
+    public Mono<ResultadoDto> buscarPorId(Long id) {
+        return databaseClient.sql(SELECT + " WHERE id = :id")
+            .bind("id", id)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .one();
+    }
+
+    public Mono<ResultadoDto> buscarPorHorarioEData(String horario, LocalDate data) {
+        return databaseClient.sql(SELECT + " WHERE horario = :horario AND data_resultado = :data")
+            .bind("horario", horario)
+            .bind("data", data)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .one();
+    }
+
+    public Mono<ResultadoDto> buscarUltimoPorHorario(String horario) {
+        return databaseClient.sql(SELECT + " WHERE horario = :horario ORDER BY data_resultado DESC LIMIT 1")
+            .bind("horario", horario)
+            .map(ConsultaProjecaoResultados::paraDto)
+            .one();
+    }
+
+    // ========================================================================
+    // 🔧 MAPEAMENTO E ORDENAÇÃO
+    // ========================================================================
+
+    /**
+     * Converte uma linha (colunas na ordem de {@link #COLUNAS}) em DTO
+     */
+    public static ResultadoDto paraDto(Readable linha) {
+        return ResultadoDto.completo(
+            linha.get(0, Long.class),
+            linha.get(1, String.class),
+            NumerosSorteados.de(
+                linha.get(2, String.class), linha.get(3, String.class), linha.get(4, String.class),
+                linha.get(5, String.class), linha.get(6, String.class), linha.get(7, String.class),
+                linha.get(8, String.class)),
+            linha.get(9, String.class),
+            linha.get(10, LocalDate.class),
+            linha.get(11, LocalDateTime.class),
+            linha.get(12, LocalDateTime.class)
+        );
+    }
+
+    /**
+     * Cláusula ORDER BY a partir de "campo,direção" (direção padrão: desc).
+     * Campo fora da lista branca usa a ordenação padrão; o id desempata
+     * para que LIMIT/OFFSET sejam estáveis.
+     */
+    static String clausulaOrdenacao(String ordenacao) {
+        if (ordenacao == null || ordenacao.isBlank()) {
+            return ORDENACAO_PADRAO;
+        }
+        String[] partes = ordenacao.split(",");
+        String coluna = COLUNAS_ORDENACAO.get(partes[0].trim());
+        if (coluna == null) {
+            return ORDENACAO_PADRAO;
+        }
+        String direcao = partes.length > 1 && "asc".equalsIgnoreCase(partes[1].trim()) ? "ASC" : "DESC";
+        return "id".equals(coluna)
+            ? "id " + direcao
+            : coluna + " " + direcao + ", id " + direcao;
+    }
+}
@@ -0,0 +1,38 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint administrativo {@code /actuator/consultaslentas}: consultas lentas
+ * recentes com o plano do EXPLAIN. Restrito no SecurityConfig a tokens com
+ * o escopo {@code admin} (SCOPE_admin), como as operações administrativas.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Endpoint(id = "consultaslentas")
+public class ConsultasLentasEndpoint {
+
+    /**
+     * Resposta do endpoint
+     * @param limiarMs Duração mínima para captura
+     * @param consultas Consultas recentes, da mais nova para a mais antiga
+     */
+    public record Relatorio(long limiarMs, List<DetectorConsultasLentas.ConsultaLenta> consultas) {
+    }
+
+    private final DetectorConsultasLentas detector;
+
+    public ConsultasLentasEndpoint(DetectorConsultasLentas detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public Relatorio consultasLentas() {
+        return new Relatorio(detector.limiarMs(), detector.recentes());
+    }
+}
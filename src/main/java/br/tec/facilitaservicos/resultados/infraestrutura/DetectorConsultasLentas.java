@@ -0,0 +1,318 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * ============================================================================
+ * 🐢 DETECTOR DE CONSULTAS LENTAS COM CAPTURA DE EXPLAIN
+ * ============================================================================
+ *
+ * Listener do r2dbc-proxy: todo statement acima de {@code limiar-ms} é
+ * candidato a captura (SQL, tipos dos parâmetros, duração) e, se for SELECT,
+ * recebe em segundo plano o plano de {@code EXPLAIN FORMAT=JSON}.
+ *
+ * Proteções para nunca somar carga num incidente:
+ * - amostragem ({@code amostragem}) e limite de capturas por minuto
+ * - EXPLAIN um por vez, no pool analítico, com timeout; fila curta que
+ *   descarta o excedente
+ * - plano reaproveitado quando o mesmo SQL já foi explicado no histórico
+ *
+ * Valores dos parâmetros nunca são guardados: só índice/nome e tipo. Os
+ * valores ficam apenas na captura pendente, para o EXPLAIN, e são descartados
+ * em seguida.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public class DetectorConsultasLentas implements ProxyExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DetectorConsultasLentas.class);
+
+    private static final String EXPLAIN = "EXPLAIN FORMAT=JSON ";
+    private static final int FILA_EXPLAIN = 16;
+    private static final Duration TIMEOUT_EXPLAIN = Duration.ofSeconds(5);
+    private static final long JANELA_NANOS = Duration.ofMinutes(1).toNanos();
+
+    /**
+     * Consulta lenta registrada
+     * @param instante Fim da execução
+     * @param duracaoMs Duração do statement
+     * @param sql SQL como enviado ao banco
+     * @param parametros Parâmetros sem valor ({@code indice: Tipo})
+     * @param sucesso Execução terminou sem erro
+     * @param plano Plano do EXPLAIN (nulo enquanto pendente ou se não se aplica)
+     * @param situacaoPlano pendente, capturado, reaproveitado, nao-aplicavel, descartado ou erro: mensagem
+     */
+    public record ConsultaLenta(Instant instante, long duracaoMs, String sql, List<String> parametros,
+                                boolean sucesso, JsonNode plano, String situacaoPlano) {
+
+        ConsultaLenta comPlano(JsonNode novoPlano, String situacao) {
+            return new ConsultaLenta(instante, duracaoMs, sql, parametros, sucesso, novoPlano, situacao);
+        }
+    }
+
+    /**
+     * Captura aguardando EXPLAIN; única estrutura que carrega os valores dos parâmetros
+     */
+    private record Pendente(ConsultaLenta consulta, Bindings valores) {
+    }
+
+    private final ObjectProvider<ConnectionFactory> conexoes;
+    private final ObjectMapper objectMapper;
+    private final Counter capturadas;
+    private final Counter descartadasAmostragem;
+    private final Counter descartadasLimite;
+
+    @Value("${resultados.consultas-lentas.limiar-ms:500}")
+    private long limiarMs = 500;
+
+    @Value("${resultados.consultas-lentas.amostragem:1.0}")
+    private double amostragem = 1.0;
+
+    @Value("${resultados.consultas-lentas.capturas-por-minuto:6}")
+    private int capturasPorMinuto = 6;
+
+    @Value("${resultados.consultas-lentas.historico:50}")
+    private int historico = 50;
+
+    @Value("${resultados.consultas-lentas.explain:true}")
+    private boolean explain = true;
+
+    // Histórico e janela de limite: acesso sempre sincronizado
+    private final Deque<ConsultaLenta> recentes = new ArrayDeque<>();
+    private long inicioJanela = System.nanoTime();
+    private int capturasNaJanela;
+
+    private final Sinks.Many<Pendente> fila =
+        Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(FILA_EXPLAIN));
+    private Disposable explicacoes;
+
+    public DetectorConsultasLentas(ObjectProvider<ConnectionFactory> conexoes, ObjectMapper objectMapper,
+                                   MeterRegistry registry) {
+        this.conexoes = conexoes;
+        this.objectMapper = objectMapper;
+        this.capturadas = contador(registry, "capturada");
+        this.descartadasAmostragem = contador(registry, "amostragem");
+        this.descartadasLimite = contador(registry, "limite");
+    }
+
+    private static Counter contador(MeterRegistry registry, String desfecho) {
+        return Counter.builder("resultados.consultas.lentas")
+            .description("Statements acima do limiar, por desfecho da captura")
+            .tag("desfecho", desfecho)
+            .register(registry);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        explicacoes = fila.asFlux()
+            .concatMap(this::explicar, 1)
+            .subscribe();
+        logger.info("🐢 Consultas lentas: limiar {} ms, amostragem {}, até {} capturas/min",
+            limiarMs, amostragem, capturasPorMinuto);
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (explicacoes != null) {
+            explicacoes.dispose();
+        }
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execucao) {
+        long duracaoMs = execucao.getExecuteDuration().toMillis();
+        if (duracaoMs < limiarMs || execucao.getQueries().isEmpty()) {
+            return;
+        }
+        QueryInfo consulta = execucao.getQueries().get(0);
+        String sql = consulta.getQuery();
+        if (sql.regionMatches(true, 0, EXPLAIN, 0, EXPLAIN.length())) {
+            return;
+        }
+        if (amostragem < 1.0 && ThreadLocalRandom.current().nextDouble() >= amostragem) {
+            descartadasAmostragem.increment();
+            return;
+        }
+        if (!reservarCaptura()) {
+            descartadasLimite.increment();
+            return;
+        }
+        capturadas.increment();
+
+        Bindings valores = consulta.getBindingsList().isEmpty() ? null : consulta.getBindingsList().get(0);
+        boolean explicavel = explain && ehSelect(sql);
+        ConsultaLenta lenta = new ConsultaLenta(Instant.now(), duracaoMs, sql, descreverParametros(valores),
+            execucao.isSuccess(), null, explicavel ? "pendente" : "nao-aplicavel");
+        ConsultaLenta comPlano = explicavel ? comPlanoConhecido(lenta) : null;
+        registrar(comPlano != null ? comPlano : lenta);
+        logger.warn("🐢 Consulta lenta ({} ms): {}", duracaoMs, sql);
+
+        if (explicavel && comPlano == null && !enfileirar(new Pendente(lenta, valores))) {
+            substituir(lenta, lenta.comPlano(null, "descartado"));
+        }
+    }
+
+    /**
+     * Consultas lentas recentes, da mais nova para a mais antiga
+     */
+    public synchronized List<ConsultaLenta> recentes() {
+        return new ArrayList<>(recentes);
+    }
+
+    public long limiarMs() {
+        return limiarMs;
+    }
+
+    private Mono<Void> explicar(Pendente pendente) {
+        Mono<String> plano = Mono.usingWhen(conexoes.getObject().create(),
+            conexao -> executarExplain(conexao, pendente),
+            Connection::close);
+        return RoteamentoLeitura.analitica(plano)
+            .timeout(TIMEOUT_EXPLAIN)
+            .map(json -> pendente.consulta().comPlano(lerJson(json), "capturado"))
+            .onErrorResume(e -> Mono.just(pendente.consulta().comPlano(null, "erro: " + e.getMessage())))
+            .doOnNext(explicada -> substituir(pendente.consulta(), explicada))
+            .then();
+    }
+
+    private static Mono<String> executarExplain(Connection conexao, Pendente pendente) {
+        Statement statement = conexao.createStatement(EXPLAIN + pendente.consulta().sql());
+        if (pendente.valores() != null) {
+            pendente.valores().getIndexBindings().forEach(binding -> vincular(statement, binding));
+            pendente.valores().getNamedBindings().forEach(binding -> vincular(statement, binding));
+        }
+        return Flux.from(statement.execute())
+            .flatMap(resultado -> resultado.map((linha, metadados) -> linha.get(0, String.class)))
+            .next();
+    }
+
+    private static void vincular(Statement statement, Binding binding) {
+        BoundValue valor = binding.getBoundValue();
+        Object chave = binding.getKey();
+        if (chave instanceof Integer indice) {
+            if (valor.isNull()) {
+                statement.bindNull(indice, valor.getNullType());
+            } else {
+                statement.bind(indice, valor.getValue());
+            }
+        } else if (valor.isNull()) {
+            statement.bindNull(chave.toString(), valor.getNullType());
+        } else {
+            statement.bind(chave.toString(), valor.getValue());
+        }
+    }
+
+    private JsonNode lerJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            return objectMapper.getNodeFactory().textNode(json);
+        }
+    }
+
+    private synchronized boolean enfileirar(Pendente pendente) {
+        // Emissões serializadas: statements terminam em threads diferentes
+        return fila.tryEmitNext(pendente).isSuccess();
+    }
+
+    private synchronized boolean reservarCaptura() {
+        long agora = System.nanoTime();
+        if (agora - inicioJanela >= JANELA_NANOS) {
+            inicioJanela = agora;
+            capturasNaJanela = 0;
+        }
+        if (capturasNaJanela >= capturasPorMinuto) {
+            return false;
+        }
+        capturasNaJanela++;
+        return true;
+    }
+
+    private synchronized ConsultaLenta comPlanoConhecido(ConsultaLenta lenta) {
+        for (ConsultaLenta anterior : recentes) {
+            if (anterior.plano() != null && anterior.sql().equals(lenta.sql())) {
+                return lenta.comPlano(anterior.plano(), "reaproveitado");
+            }
+        }
+        return null;
+    }
+
+    private synchronized void registrar(ConsultaLenta lenta) {
+        recentes.addFirst(lenta);
+        while (recentes.size() > Math.max(historico, 1)) {
+            recentes.removeLast();
+        }
+    }
+
+    private synchronized void substituir(ConsultaLenta anterior, ConsultaLenta nova) {
+        List<ConsultaLenta> atuais = new ArrayList<>(recentes);
+        int posicao = atuais.indexOf(anterior);
+        if (posicao >= 0) {
+            atuais.set(posicao, nova);
+            recentes.clear();
+            recentes.addAll(atuais);
+        }
+    }
+
+    static List<String> descreverParametros(Bindings valores) {
+        if (valores == null) {
+            return List.of();
+        }
+        List<String> parametros = new ArrayList<>();
+        for (Binding binding : valores.getIndexBindings()) {
+            parametros.add(binding.getKey() + ": " + tipo(binding.getBoundValue()));
+        }
+        for (Binding binding : valores.getNamedBindings()) {
+            parametros.add(binding.getKey() + ": " + tipo(binding.getBoundValue()));
+        }
+        return parametros;
+    }
+
+    private static String tipo(BoundValue valor) {
+        if (valor.isNull()) {
+            return "null";
+        }
+        return valor.getValue() == null ? "?" : valor.getValue().getClass().getSimpleName();
+    }
+
+    static boolean ehSelect(String sql) {
+        String inicio = sql.stripLeading().toUpperCase(Locale.ROOT);
+        return inicio.startsWith("SELECT") || inicio.startsWith("WITH") || inicio.startsWith("(");
+    }
+}
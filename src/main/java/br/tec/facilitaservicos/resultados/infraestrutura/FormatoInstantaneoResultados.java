@@ -0,0 +1,290 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+/**
+ * ============================================================================
+ * 💾 FORMATO BINÁRIO DO INSTANTÂNEO LOCAL DE RESULTADOS
+ * ============================================================================
+ *
+ * Arquivo = cabeçalho de {@value #TAMANHO_CABECALHO} bytes + um registro de
+ * largura fixa ({@value #TAMANHO_REGISTRO} bytes) por resultado, big-endian:
+ *
+ * <pre>
+ * cabeçalho: magic(4) versão(2) tamanhoRegistro(2) quantidade(8)
+ *            marcaSegundos(8) marcaNanos(4) marcaId(8) gravadoEm(8)
+ *            origem(8) reservado(8) crc32(4)
+ * registro:  id(8) dataResultado(4, epoch day) criadoEm(8) atualizadoEm(8)
+ *            horario(5) 7 × número(2) soma(3)
+ * </pre>
+ *
+ * Larguras dos textos iguais às colunas VARCHAR da tabela (ASCII, completado
+ * com zeros; primeiro byte zero = nulo). Datas em segundos UTC, como o DATETIME.
+ * O CRC32 cobre o cabeçalho (sem o próprio campo) e todos os registros.
+ * A origem identifica o banco de onde vieram os dados ({@link #identificarOrigem}).
+ *
+ * Leitura por {@link FileChannel#map}; gravação em arquivo temporário
+ * renomeado atomicamente, para um leitor nunca ver um arquivo pela metade.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public final class FormatoInstantaneoResultados {
+
+    public static final int TAMANHO_CABECALHO = 64;
+    public static final int TAMANHO_REGISTRO = 50;
+
+    static final int MAGIC = 0x52534E50; // "RSNP"
+    static final short VERSAO = 2;
+
+    private static final int POSICAO_CRC = TAMANHO_CABECALHO - Integer.BYTES;
+    private static final int LARGURA_HORARIO = 5;
+    private static final int LARGURA_NUMERO = 2;
+    private static final int LARGURA_SOMA = 3;
+    private static final int SEM_DATA = Integer.MIN_VALUE;
+    private static final long SEM_DATA_HORA = Long.MIN_VALUE;
+
+    private FormatoInstantaneoResultados() {
+    }
+
+    /**
+     * Conteúdo lido de um instantâneo válido
+     * @param resultados Resultados em ordem de id
+     * @param marcaAtualizadoEm updated_at da marca d'água no momento da gravação
+     * @param marcaId id da marca d'água (desempate do keyset)
+     * @param gravadoEm Momento da gravação
+     * @param origem Identificação do banco de origem
+     */
+    public record Conteudo(List<ResultadoR2dbc> resultados, LocalDateTime marcaAtualizadoEm,
+                           long marcaId, Instant gravadoEm, long origem) {
+    }
+
+    /**
+     * Identificação do banco (host, porta e schema da URL JDBC ou R2DBC, sem
+     * credenciais nem parâmetros): um arquivo de outro banco nunca é aproveitado
+     */
+    public static long identificarOrigem(String url) {
+        String endereco = url == null ? "" : url.strip().toLowerCase(Locale.ROOT);
+        int esquema = endereco.indexOf("://");
+        endereco = esquema >= 0 ? endereco.substring(esquema + 3) : endereco;
+        endereco = endereco.substring(endereco.lastIndexOf('@', indiceParametros(endereco)) + 1);
+        endereco = endereco.substring(0, indiceParametros(endereco));
+        try {
+            byte[] resumo = MessageDigest.getInstance("SHA-256").digest(endereco.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(resumo).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static int indiceParametros(String endereco) {
+        int parametros = endereco.indexOf('?');
+        return parametros >= 0 ? parametros : endereco.length();
+    }
+
+    /**
+     * Codifica o resultado na posição do buffer (registro de {@value #TAMANHO_REGISTRO} bytes)
+     * @throws IllegalArgumentException se um texto não couber na largura da coluna ou não for ASCII
+     */
+    public static void codificar(ResultadoR2dbc resultado, ByteBuffer destino, int posicao) {
+        ByteBuffer registro = destino.slice(posicao, TAMANHO_REGISTRO);
+        registro.putLong(resultado.getId());
+        registro.putInt(resultado.getDataResultado() != null ? (int) resultado.getDataResultado().toEpochDay() : SEM_DATA);
+        registro.putLong(segundos(resultado.getCriadoEm()));
+        registro.putLong(segundos(resultado.getAtualizadoEm()));
+        texto(registro, resultado.getHorario(), LARGURA_HORARIO);
+        texto(registro, resultado.getPrimeiro(), LARGURA_NUMERO);
+        texto(registro, resultado.getSegundo(), LARGURA_NUMERO);
+        texto(registro, resultado.getTerceiro(), LARGURA_NUMERO);
+        texto(registro, resultado.getQuarto(), LARGURA_NUMERO);
+        texto(registro, resultado.getQuinto(), LARGURA_NUMERO);
+        texto(registro, resultado.getSexto(), LARGURA_NUMERO);
+        texto(registro, resultado.getSetimo(), LARGURA_NUMERO);
+        texto(registro, resultado.getSoma(), LARGURA_SOMA);
+    }
+
+    /**
+     * Grava o instantâneo (arquivo temporário + rename atômico)
+     * @param arquivo Destino
+     * @param registros Registros codificados, em ordem de id
+     * @param quantidade Quantidade de registros válidos no início de {@code registros}
+     * @param origem Identificação do banco de origem ({@link #identificarOrigem})
+     */
+    public static void gravar(Path arquivo, byte[] registros, int quantidade,
+                              LocalDateTime marcaAtualizadoEm, long marcaId, long origem) throws IOException {
+        ByteBuffer corpo = ByteBuffer.wrap(registros, 0, quantidade * TAMANHO_REGISTRO);
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        cabecalho.putInt(MAGIC)
+            .putShort(VERSAO)
+            .putShort((short) TAMANHO_REGISTRO)
+            .putLong(quantidade)
+            .putLong(marcaAtualizadoEm.toEpochSecond(ZoneOffset.UTC))
+            .putInt(marcaAtualizadoEm.getNano())
+            .putLong(marcaId)
+            .putLong(System.currentTimeMillis())
+            .putLong(origem);
+        cabecalho.putInt(POSICAO_CRC, crc(cabecalho, corpo));
+
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            cabecalho.rewind();
+            corpo.rewind();
+            while (cabecalho.hasRemaining() || corpo.hasRemaining()) {
+                canal.write(new ByteBuffer[] {cabecalho, corpo});
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Lê e valida o instantâneo mapeando o arquivo em memória
+     * @throws IOException se o arquivo não puder ser lido ou estiver inválido
+     *         (magic, versão, tamanho ou checksum)
+     */
+    public static Conteudo ler(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO) {
+                throw new IOException("Instantâneo truncado: " + tamanho + " bytes");
+            }
+            if (tamanho > Integer.MAX_VALUE) {
+                throw new IOException("Instantâneo grande demais para mapear: " + tamanho + " bytes");
+            }
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+
+            if (mapa.getInt(0) != MAGIC) {
+                throw new IOException("Arquivo não é um instantâneo de resultados");
+            }
+            if (mapa.getShort(4) != VERSAO || mapa.getShort(6) != TAMANHO_REGISTRO) {
+                throw new IOException("Versão de instantâneo não suportada: " + mapa.getShort(4));
+            }
+            long quantidade = mapa.getLong(8);
+            if (quantidade < 0 || quantidade > Integer.MAX_VALUE / TAMANHO_REGISTRO
+                    || TAMANHO_CABECALHO + quantidade * TAMANHO_REGISTRO != tamanho) {
+                throw new IOException("Tamanho do instantâneo não confere com " + quantidade + " registros");
+            }
+            ByteBuffer corpo = mapa.slice(TAMANHO_CABECALHO, (int) tamanho - TAMANHO_CABECALHO);
+            if (crc(mapa, corpo) != mapa.getInt(POSICAO_CRC)) {
+                throw new IOException("Checksum do instantâneo inválido");
+            }
+
+            LocalDateTime marca = LocalDateTime.ofEpochSecond(mapa.getLong(16), mapa.getInt(24), ZoneOffset.UTC);
+            long marcaId = mapa.getLong(28);
+            Instant gravadoEm = Instant.ofEpochMilli(mapa.getLong(36));
+            long origem = mapa.getLong(44);
+
+            List<ResultadoR2dbc> resultados = new ArrayList<>((int) quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                resultados.add(decodificar(corpo.slice(i * TAMANHO_REGISTRO, TAMANHO_REGISTRO)));
+            }
+            return new Conteudo(resultados, marca, marcaId, gravadoEm, origem);
+        }
+    }
+
+    private static ResultadoR2dbc decodificar(ByteBuffer registro) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc();
+        resultado.setId(registro.getLong());
+        int dia = registro.getInt();
+        if (dia != SEM_DATA) {
+            resultado.setDataResultado(LocalDate.ofEpochDay(dia));
+        }
+        long criadoEm = registro.getLong();
+        if (criadoEm != SEM_DATA_HORA) {
+            resultado.setCriadoEm(LocalDateTime.ofEpochSecond(criadoEm, 0, ZoneOffset.UTC));
+        }
+        long atualizadoEm = registro.getLong();
+        if (atualizadoEm != SEM_DATA_HORA) {
+            resultado.setAtualizadoEm(LocalDateTime.ofEpochSecond(atualizadoEm, 0, ZoneOffset.UTC));
+        }
+        // Setters rejeitam nulo: campo ausente fica como veio do construtor
+        definir(texto(registro, LARGURA_HORARIO), resultado::setHorario);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setPrimeiro);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setSegundo);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setTerceiro);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setQuarto);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setQuinto);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setSexto);
+        definir(texto(registro, LARGURA_NUMERO), resultado::setSetimo);
+        resultado.setSoma(texto(registro, LARGURA_SOMA));
+        return resultado;
+    }
+
+    private static void definir(String valor, Consumer<String> setter) {
+        if (valor != null) {
+            setter.accept(valor);
+        }
+    }
+
+    private static long segundos(LocalDateTime dataHora) {
+        return dataHora != null ? dataHora.toEpochSecond(ZoneOffset.UTC) : SEM_DATA_HORA;
+    }
+
+    private static void texto(ByteBuffer registro, String valor, int largura) {
+        int inicio = registro.position();
+        if (valor != null) {
+            if (valor.isEmpty() || valor.length() > largura) {
+                throw new IllegalArgumentException("Texto '" + valor + "' não cabe em " + largura + " bytes");
+            }
+            for (int i = 0; i < valor.length(); i++) {
+                char c = valor.charAt(i);
+                if (c == 0 || c > 0x7F) {
+                    throw new IllegalArgumentException("Texto '" + valor + "' não é ASCII");
+                }
+                registro.put((byte) c);
+            }
+        }
+        while (registro.position() < inicio + largura) {
+            registro.put((byte) 0);
+        }
+    }
+
+    private static String texto(ByteBuffer registro, int largura) {
+        int inicio = registro.position();
+        int fim = inicio;
+        while (fim < inicio + largura && registro.get(fim) != 0) {
+            fim++;
+        }
+        registro.position(inicio + largura);
+        if (fim == inicio) {
+            return null;
+        }
+        byte[] bytes = new byte[fim - inicio];
+        registro.get(inicio, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static int crc(ByteBuffer cabecalho, ByteBuffer corpo) {
+        CRC32 crc = new CRC32();
+        crc.update(cabecalho.slice(0, POSICAO_CRC));
+        crc.update(corpo.duplicate().rewind());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,98 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * ============================================================================
+ * ⏱️ INSTRUMENTAÇÃO DO REPOSITÓRIO DE RESULTADOS
+ * ============================================================================
+ *
+ * Mede cada chamada de {@code RepositorioResultadoR2dbc} da assinatura até o
+ * término do Mono/Flux:
+ * - {@code resultados.repositorio.consulta}: tempo, tags {@code metodo} e
+ *   {@code resultado} (sucesso, erro, cancelado)
+ * - {@code resultados.repositorio.linhas}: linhas emitidas, tag {@code metodo}
+ *
+ * Cardinalidade limitada: {@code metodo} é o nome do método da interface,
+ * nunca parâmetros ou SQL.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Aspect
+@Component
+public class InstrumentacaoRepositorioAspect {
+
+    private final Meter.MeterProvider<Timer> tempo;
+    private final Meter.MeterProvider<DistributionSummary> linhas;
+
+    public InstrumentacaoRepositorioAspect(MeterRegistry registry) {
+        this.tempo = Timer.builder("resultados.repositorio.consulta")
+            .description("Tempo das consultas do repositório de resultados")
+            .withRegistry(registry);
+        this.linhas = DistributionSummary.builder("resultados.repositorio.linhas")
+            .description("Linhas retornadas pelas consultas do repositório de resultados")
+            .baseUnit("rows")
+            .withRegistry(registry);
+    }
+
+    @Around("execution(* br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc.*(..))")
+    public Object medir(ProceedingJoinPoint ponto) throws Throwable {
+        Object retorno = ponto.proceed();
+        String metodo = ponto.getSignature().getName();
+        if (retorno instanceof Mono<?> mono) {
+            return medir(mono, metodo);
+        }
+        if (retorno instanceof Flux<?> flux) {
+            return medir(flux, metodo);
+        }
+        return retorno;
+    }
+
+    private <T> Mono<T> medir(Mono<T> consulta, String metodo) {
+        return Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            AtomicLong emitidas = new AtomicLong();
+            return consulta
+                .doOnNext(item -> emitidas.incrementAndGet())
+                .doFinally(sinal -> registrar(metodo, sinal, inicio, emitidas.get()));
+        });
+    }
+
+    private <T> Flux<T> medir(Flux<T> consulta, String metodo) {
+        return Flux.defer(() -> {
+            long inicio = System.nanoTime();
+            AtomicLong emitidas = new AtomicLong();
+            return consulta
+                .doOnNext(item -> emitidas.incrementAndGet())
+                .doFinally(sinal -> registrar(metodo, sinal, inicio, emitidas.get()));
+        });
+    }
+
+    private void registrar(String metodo, SignalType sinal, long inicio, long emitidas) {
+        String resultado = switch (sinal) {
+            case ON_ERROR -> "erro";
+            case CANCEL -> "cancelado";
+            default -> "sucesso";
+        };
+        tempo.withTags(Tags.of("metodo", metodo, "resultado", resultado))
+            .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        linhas.withTags(Tags.of("metodo", metodo)).record(emitidas);
+    }
+}
@@ -0,0 +1,143 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.CacheConsultasResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.CacheConsultasResultados.Desfecho;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.PaginacaoDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * ============================================================================
+ * ⏱️ INSTRUMENTAÇÃO DAS OPERAÇÕES DO ResultadoService
+ * ============================================================================
+ *
+ * Mede cada operação reativa do {@code ResultadoService}, da assinatura ao
+ * término, para SLOs por operação:
+ * - {@code ranking.consultas} (buscarRanking), {@code estatisticas.consultas}
+ *   (buscarEstatisticas) e {@code resultados.consultas} (demais): timers com
+ *   histograma, tags {@code operacao}, {@code cache} e {@code resultado}
+ * - {@code resultados.consultas.tamanho}: itens devolvidos (elementos do Flux,
+ *   da coleção ou da página), tag {@code operacao}
+ *
+ * A tag {@code cache} vem do {@link CacheConsultasResultados} pelo contexto do
+ * Reactor: acerto, ausencia, compartilhado ou nenhum (operação sem cache).
+ * Custo por chamada: dois objetos, uma escrita no contexto e dois registros
+ * em medidores já criados.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Aspect
+@Component
+public class InstrumentacaoServicoAspect {
+
+    private static final String TAG_SERVICO = "resultados";
+
+    private final Meter.MeterProvider<Timer> resultados;
+    private final Meter.MeterProvider<Timer> ranking;
+    private final Meter.MeterProvider<Timer> estatisticas;
+    private final Meter.MeterProvider<DistributionSummary> tamanho;
+
+    public InstrumentacaoServicoAspect(MeterRegistry registry) {
+        this.resultados = timer("resultados.consultas", "Tempo das consultas aos resultados", registry);
+        this.ranking = timer("ranking.consultas", "Tempo das consultas ao ranking", registry);
+        this.estatisticas = timer("estatisticas.consultas", "Tempo das consultas às estatísticas", registry);
+        this.tamanho = DistributionSummary.builder("resultados.consultas.tamanho")
+            .description("Itens devolvidos por operação do serviço de resultados")
+            .tag("service", TAG_SERVICO)
+            .withRegistry(registry);
+    }
+
+    private static Meter.MeterProvider<Timer> timer(String nome, String descricao, MeterRegistry registry) {
+        return Timer.builder(nome)
+            .description(descricao)
+            .tag("service", TAG_SERVICO)
+            .publishPercentileHistogram()
+            .withRegistry(registry);
+    }
+
+    @Around("execution(public * br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService.*(..))")
+    public Object medir(ProceedingJoinPoint ponto) throws Throwable {
+        Object retorno = ponto.proceed();
+        String operacao = ponto.getSignature().getName();
+        if (retorno instanceof Mono<?> mono) {
+            return medir(mono, operacao);
+        }
+        if (retorno instanceof Flux<?> flux) {
+            return medir(flux, operacao);
+        }
+        return retorno;
+    }
+
+    private <T> Mono<T> medir(Mono<T> operacao, String nome) {
+        return Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            AtomicReference<Desfecho> desfecho = new AtomicReference<>();
+            AtomicLong itens = new AtomicLong();
+            return CacheConsultasResultados.observarDesfecho(operacao, desfecho)
+                .doOnNext(valor -> itens.set(itens(valor)))
+                .doFinally(sinal -> registrar(nome, sinal, inicio, desfecho.get(), itens.get()));
+        });
+    }
+
+    private <T> Flux<T> medir(Flux<T> operacao, String nome) {
+        return Flux.defer(() -> {
+            long inicio = System.nanoTime();
+            AtomicReference<Desfecho> desfecho = new AtomicReference<>();
+            AtomicLong itens = new AtomicLong();
+            return CacheConsultasResultados.observarDesfecho(operacao, desfecho)
+                .doOnNext(valor -> itens.incrementAndGet())
+                .doFinally(sinal -> registrar(nome, sinal, inicio, desfecho.get(), itens.get()));
+        });
+    }
+
+    private void registrar(String operacao, SignalType sinal, long inicio, Desfecho desfecho, long itens) {
+        String resultado = switch (sinal) {
+            case ON_ERROR -> "erro";
+            case CANCEL -> "cancelado";
+            default -> "sucesso";
+        };
+        String cache = desfecho == null ? "nenhum" : desfecho.name().toLowerCase(Locale.ROOT);
+        timer(operacao).withTags(Tags.of("operacao", operacao, "cache", cache, "resultado", resultado))
+            .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        if (sinal == SignalType.ON_COMPLETE) {
+            tamanho.withTags(Tags.of("operacao", operacao)).record(itens);
+        }
+    }
+
+    private Meter.MeterProvider<Timer> timer(String operacao) {
+        return switch (operacao) {
+            case "buscarRanking" -> ranking;
+            case "buscarEstatisticas" -> estatisticas;
+            default -> resultados;
+        };
+    }
+
+    static long itens(Object valor) {
+        if (valor instanceof PaginacaoDto<?> pagina) {
+            return pagina.numeroElementos();
+        }
+        if (valor instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,332 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import io.r2dbc.spi.R2dbcException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🗄️ MIGRAÇÃO VERSIONADA DO ESQUEMA
+ * ============================================================================
+ *
+ * Aplica os scripts {@code db/migration/V<versao>__<descricao>.sql} registrando
+ * cada versão aplicada na tabela {@code schema_migracoes} (checksum SHA-256,
+ * data e duração).
+ *
+ * - Banco já migrado: uma única consulta ao registro e nenhum DDL executado
+ * - Scripts com checksum divergente não são reaplicados (apenas alerta)
+ * - Erros de objeto já existente (1050, 1060, 1061) contam como sucesso,
+ *   tornando os scripts idempotentes em bancos criados pelo init.sql
+ * - Nenhum script apaga dados: linhas duplicadas que impeçam uma chave única
+ *   (1062) deixam a versão pendente até a deduplicação manual revisada
+ *   ({@code scripts/deduplicar-resultados.sql})
+ * - CREATE INDEX consecutivos em tabelas diferentes executam em paralelo;
+ *   na mesma tabela seguem em sequência (o MySQL serializaria pelo metadata lock)
+ * - Execuções concorrentes de vários pods são toleradas pela idempotência
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Component
+public class MigradorEsquema {
+
+    private static final Logger logger = LoggerFactory.getLogger(MigradorEsquema.class);
+
+    private static final String LOCAL_SCRIPTS = "classpath*:db/migration/V*__*.sql";
+    private static final Pattern NOME_SCRIPT = Pattern.compile("V(\\d+(?:_\\d+)*)__(.+)\\.sql");
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+        "^CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+\\S+\\s+ON\\s+`?([\\w.]+)`?", Pattern.CASE_INSENSITIVE);
+
+    private static final int ER_TABELA_EXISTENTE = 1050;
+    private static final int ER_COLUNA_DUPLICADA = 1060;
+    private static final int ER_INDICE_DUPLICADO = 1061;
+    private static final int ER_ENTRADA_DUPLICADA = 1062;
+    private static final int ER_TABELA_INEXISTENTE = 1146;
+
+    private static final String SQL_CRIAR_REGISTRO = """
+        CREATE TABLE IF NOT EXISTS schema_migracoes (
+            versao VARCHAR(50) NOT NULL PRIMARY KEY,
+            descricao VARCHAR(200) NOT NULL,
+            checksum CHAR(64) NOT NULL,
+            aplicada_em DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            duracao_ms BIGINT NOT NULL
+        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4""";
+
+    private final DatabaseClient client;
+
+    @Value("${resultados.schema.concorrencia-ddl:4}")
+    private int concorrenciaDdl = 4;
+
+    /**
+     * Script de migração carregado do classpath
+     */
+    record Script(String versao, String descricao, String checksum, List<String> comandos) {}
+
+    public MigradorEsquema(DatabaseClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Aplica, em ordem de versão, os scripts ainda não registrados
+     * @return Mono com a quantidade de scripts aplicados
+     */
+    public Mono<Integer> migrar() {
+        return Mono.fromCallable(MigradorEsquema::carregarScripts)
+            .zipWith(lerRegistro())
+            .flatMap(tuple -> {
+                List<Script> scripts = tuple.getT1();
+                Map<String, String> aplicadas = tuple.getT2();
+
+                List<Script> pendentes = new ArrayList<>();
+                for (Script script : scripts) {
+                    String checksum = aplicadas.get(script.versao());
+                    if (checksum == null) {
+                        pendentes.add(script);
+                    } else if (!checksum.equals(script.checksum())) {
+                        logger.warn("⚠️ Script V{} alterado após aplicado (checksum divergente) - não será reaplicado",
+                            script.versao());
+                    }
+                }
+                if (pendentes.isEmpty()) {
+                    logger.info("🗄️ Esquema atualizado ({} versões registradas)", aplicadas.size());
+                    return Mono.just(0);
+                }
+                return Flux.fromIterable(pendentes)
+                    .concatMap(this::aplicar)
+                    .count()
+                    .map(Long::intValue);
+            });
+    }
+
+    private Mono<Map<String, String>> lerRegistro() {
+        Mono<Map<String, String>> consulta = client.sql("SELECT versao, checksum FROM schema_migracoes")
+            .map((row, meta) -> Map.entry(row.get("versao", String.class), row.get("checksum", String.class)))
+            .all()
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return consulta.onErrorResume(e -> codigoErro(e) == ER_TABELA_INEXISTENTE,
+            e -> client.sql(SQL_CRIAR_REGISTRO).then().thenReturn(Map.<String, String>of()));
+    }
+
+    private Mono<Script> aplicar(Script script) {
+        long inicio = System.nanoTime();
+        logger.info("🗄️ Aplicando V{} - {} ({} comandos)", script.versao(), script.descricao(), script.comandos().size());
+
+        return Flux.fromIterable(agruparBlocos(script.comandos()))
+            .concatMap(this::executarBloco)
+            .then(Mono.defer(() -> {
+                long duracaoMs = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+                return client.sql("""
+                        INSERT INTO schema_migracoes (versao, descricao, checksum, duracao_ms)
+                        VALUES (:versao, :descricao, :checksum, :duracao)
+                        ON DUPLICATE KEY UPDATE versao = versao""")
+                    .bind("versao", script.versao())
+                    .bind("descricao", script.descricao())
+                    .bind("checksum", script.checksum())
+                    .bind("duracao", duracaoMs)
+                    .then()
+                    .doOnSuccess(v -> logger.info("✅ V{} aplicada em {} ms", script.versao(), duracaoMs));
+            }))
+            .thenReturn(script);
+    }
+
+    /**
+     * Bloco de CREATE INDEX: uma fila por tabela, filas em paralelo
+     */
+    private Mono<Void> executarBloco(List<String> bloco) {
+        if (bloco.size() == 1) {
+            return executar(bloco.get(0));
+        }
+        Map<String, List<String>> porTabela = new LinkedHashMap<>();
+        for (String comando : bloco) {
+            porTabela.computeIfAbsent(tabelaDoIndice(comando), t -> new ArrayList<>()).add(comando);
+        }
+        return Flux.fromIterable(porTabela.values())
+            .flatMap(fila -> Flux.fromIterable(fila).concatMap(this::executar), Math.max(concorrenciaDdl, 1))
+            .then();
+    }
+
+    private Mono<Void> executar(String comando) {
+        return client.sql(comando)
+            .fetch()
+            .rowsUpdated()
+            .then()
+            .onErrorResume(e -> isObjetoExistente(e), e -> {
+                logger.debug("Comando já aplicado anteriormente: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .doOnError(e -> logger.error("❌ Falha no comando de migração: {} - {}", resumo(comando), e.getMessage()))
+            .doOnError(e -> codigoErro(e) == ER_ENTRADA_DUPLICADA, e -> logger.error(
+                "❌ Linhas duplicadas impedem a chave única; revise e execute scripts/deduplicar-resultados.sql"));
+    }
+
+    private static List<Script> carregarScripts() throws IOException {
+        Resource[] recursos = new PathMatchingResourcePatternResolver().getResources(LOCAL_SCRIPTS);
+        List<Script> scripts = new ArrayList<>();
+        for (Resource recurso : recursos) {
+            Matcher matcher = NOME_SCRIPT.matcher(recurso.getFilename() != null ? recurso.getFilename() : "");
+            if (!matcher.matches()) {
+                continue;
+            }
+            String conteudo = StreamUtils.copyToString(recurso.getInputStream(), StandardCharsets.UTF_8)
+                .replace("\r\n", "\n");
+            scripts.add(new Script(
+                matcher.group(1).replace('_', '.'),
+                matcher.group(2).replace('_', ' '),
+                sha256(conteudo),
+                dividirComandos(conteudo)));
+        }
+        scripts.sort(Comparator.comparing(Script::versao, MigradorEsquema::compararVersoes));
+        return scripts;
+    }
+
+    /**
+     * Agrupa CREATE INDEX consecutivos em um mesmo bloco; demais comandos ficam isolados
+     */
+    static List<List<String>> agruparBlocos(List<String> comandos) {
+        List<List<String>> blocos = new ArrayList<>();
+        List<String> indices = new ArrayList<>();
+        for (String comando : comandos) {
+            if (tabelaDoIndice(comando) != null) {
+                indices.add(comando);
+                continue;
+            }
+            if (!indices.isEmpty()) {
+                blocos.add(indices);
+                indices = new ArrayList<>();
+            }
+            blocos.add(List.of(comando));
+        }
+        if (!indices.isEmpty()) {
+            blocos.add(indices);
+        }
+        return blocos;
+    }
+
+    /**
+     * Tabela alvo de um CREATE INDEX, ou null para outros comandos
+     */
+    static String tabelaDoIndice(String comando) {
+        Matcher matcher = CREATE_INDEX.matcher(comando);
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Divide um script em comandos por ';', ignorando comentários e
+     * ponto e vírgula dentro de literais e identificadores entre crases.
+     */
+    static List<String> dividirComandos(String sql) {
+        List<String> comandos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        int n = sql.length();
+        char aspas = 0;
+
+        for (int i = 0; i < n; i++) {
+            char c = sql.charAt(i);
+            char proximo = i + 1 < n ? sql.charAt(i + 1) : 0;
+
+            if (aspas != 0) {
+                atual.append(c);
+                if (c == '\\' && aspas != '`' && i + 1 < n) {
+                    atual.append(proximo);
+                    i++;
+                } else if (c == aspas) {
+                    aspas = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                aspas = c;
+                atual.append(c);
+            } else if ((c == '-' && proximo == '-') || c == '#') {
+                while (i < n && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                atual.append('\n');
+            } else if (c == '/' && proximo == '*') {
+                int fim = sql.indexOf("*/", i + 2);
+                i = fim < 0 ? n : fim + 1;
+                atual.append(' ');
+            } else if (c == ';') {
+                adicionarComando(comandos, atual);
+            } else {
+                atual.append(c);
+            }
+        }
+        adicionarComando(comandos, atual);
+        return comandos;
+    }
+
+    private static void adicionarComando(List<String> comandos, StringBuilder atual) {
+        String comando = atual.toString().strip();
+        if (!comando.isEmpty()) {
+            comandos.add(comando);
+        }
+        atual.setLength(0);
+    }
+
+    static int compararVersoes(String a, String b) {
+        int[] pa = Arrays.stream(a.split("\\.")).mapToInt(Integer::parseInt).toArray();
+        int[] pb = Arrays.stream(b.split("\\.")).mapToInt(Integer::parseInt).toArray();
+        for (int i = 0; i < Math.max(pa.length, pb.length); i++) {
+            int va = i < pa.length ? pa[i] : 0;
+            int vb = i < pb.length ? pb[i] : 0;
+            if (va != vb) {
+                return Integer.compare(va, vb);
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isObjetoExistente(Throwable e) {
+        int codigo = codigoErro(e);
+        return codigo == ER_TABELA_EXISTENTE || codigo == ER_COLUNA_DUPLICADA || codigo == ER_INDICE_DUPLICADO;
+    }
+
+    private static int codigoErro(Throwable e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof R2dbcException r2dbc) {
+                return r2dbc.getErrorCode();
+            }
+        }
+        return 0;
+    }
+
+    private static String sha256(String conteudo) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static String resumo(String comando) {
+        String linha = comando.replaceAll("\\s+", " ");
+        return linha.length() > 120 ? linha.substring(0, 120) + "..." : linha;
+    }
+}
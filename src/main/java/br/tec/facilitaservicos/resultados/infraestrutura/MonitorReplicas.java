@@ -0,0 +1,224 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🩺 MONITOR DAS RÉPLICAS DE LEITURA
+ * ============================================================================
+ *
+ * Verifica periodicamente cada réplica com {@code SHOW REPLICA STATUS} e
+ * mantém a lista das que podem atender leituras:
+ * - consulta respondeu dentro do timeout
+ * - replicação ativa ({@code Seconds_Behind_Source} não nulo)
+ * - atraso até {@code atraso-maximo} segundos
+ *
+ * As leituras são distribuídas em rodízio entre as réplicas saudáveis; sem
+ * nenhuma, voltam ao primário (contadas em {@code resultados.replicas.leituras.primario}).
+ * Até a primeira verificação todas as leituras vão ao primário.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public class MonitorReplicas implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorReplicas.class);
+
+    /** MySQL 8.0.22+ e, antes disso, o nome antigo da mesma coluna */
+    private static final List<String> COLUNAS_ATRASO = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+    private static final long REPLICACAO_PARADA = -1;
+
+    /**
+     * Resultado da última verificação de uma réplica
+     * @param saudavel Pode atender leituras
+     * @param atrasoSegundos Atraso de replicação (nulo se desconhecido)
+     * @param motivo Motivo de estar fora (nulo se saudável)
+     * @param verificadoEm Momento da verificação
+     */
+    public record Estado(boolean saudavel, Long atrasoSegundos, String motivo, Instant verificadoEm) {
+
+        static Estado pendente() {
+            return new Estado(false, null, "aguardando primeira verificação", null);
+        }
+    }
+
+    private final Map<String, ConnectionPool> replicas;
+    private final Duration atrasoMaximo;
+    private final Duration intervalo;
+    private final boolean aceitarSemReplicacao;
+    private final Map<String, Estado> estados = new ConcurrentHashMap<>();
+    private final AtomicInteger rodizio = new AtomicInteger();
+    private final Counter leiturasNoPrimario;
+
+    private volatile List<String> saudaveis = List.of();
+    private Disposable ciclo;
+
+    public MonitorReplicas(Map<String, ConnectionPool> replicas, Duration atrasoMaximo, Duration intervalo,
+                           boolean aceitarSemReplicacao, MeterRegistry registry) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.atrasoMaximo = atrasoMaximo;
+        this.intervalo = intervalo;
+        this.aceitarSemReplicacao = aceitarSemReplicacao;
+        this.leiturasNoPrimario = Counter.builder("resultados.replicas.leituras.primario")
+            .description("Leituras enviadas ao primário por falta de réplica saudável")
+            .register(registry);
+        for (String nome : this.replicas.keySet()) {
+            estados.put(nome, Estado.pendente());
+            Gauge.builder("resultados.replicas.atraso", estados, mapa -> atrasoConhecido(mapa.get(nome)))
+                .description("Atraso de replicação da réplica em segundos (NaN se desconhecido)")
+                .baseUnit("seconds")
+                .tag("replica", nome)
+                .register(registry);
+            Gauge.builder("resultados.replicas.saudavel", estados, mapa -> mapa.get(nome).saudavel() ? 1 : 0)
+                .description("1 se a réplica está atendendo leituras")
+                .tag("replica", nome)
+                .register(registry);
+        }
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        logger.info("🩺 Monitorando {} réplica(s) de leitura a cada {} s, atraso máximo {} s",
+            replicas.size(), intervalo.toSeconds(), atrasoMaximo.toSeconds());
+        ciclo = Flux.interval(Duration.ZERO, intervalo)
+            .onBackpressureDrop()
+            .concatMap(tique -> verificarTodas(), 1)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (ciclo != null) {
+            ciclo.dispose();
+        }
+        replicas.values().forEach(ConnectionPool::dispose);
+    }
+
+    /**
+     * Pools das réplicas por nome
+     */
+    public Map<String, ConnectionPool> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Escolhe a réplica da próxima leitura
+     * @return Nome da réplica, ou nulo para ler do primário
+     */
+    public String escolher() {
+        List<String> atuais = saudaveis;
+        if (atuais.isEmpty()) {
+            leiturasNoPrimario.increment();
+            return null;
+        }
+        return atuais.get(Math.floorMod(rodizio.getAndIncrement(), atuais.size()));
+    }
+
+    /**
+     * Verifica todas as réplicas em paralelo e atualiza a lista de saudáveis
+     */
+    public Mono<Void> verificarTodas() {
+        return Flux.fromIterable(replicas.entrySet())
+            .flatMap(replica -> verificar(replica.getValue())
+                .doOnNext(estado -> registrar(replica.getKey(), estado)))
+            .then();
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> detalhes = new LinkedHashMap<>();
+        estados.forEach((nome, estado) -> detalhes.put(nome, estado));
+        // Sem réplica saudável o serviço continua atendendo pelo primário
+        return Health.up()
+            .withDetail("leituras", saudaveis.isEmpty() ? "primário" : "réplicas " + saudaveis)
+            .withDetails(detalhes)
+            .build();
+    }
+
+    private Mono<Estado> verificar(ConnectionPool pool) {
+        Mono<Long> atraso = Mono.usingWhen(pool.create(),
+            conexao -> consultarAtraso(conexao),
+            Connection::close);
+        return atraso
+            .map(segundos -> {
+                if (segundos == REPLICACAO_PARADA) {
+                    return new Estado(false, null, "replicação parada", Instant.now());
+                }
+                if (segundos > atrasoMaximo.toSeconds()) {
+                    return new Estado(false, segundos, "atraso acima do máximo", Instant.now());
+                }
+                return new Estado(true, segundos, null, Instant.now());
+            })
+            .defaultIfEmpty(aceitarSemReplicacao
+                ? new Estado(true, null, null, Instant.now())
+                : new Estado(false, null, "servidor não é réplica", Instant.now()))
+            .timeout(intervalo)
+            .onErrorResume(e -> Mono.just(new Estado(false, null, "falha: " + e.getMessage(), Instant.now())));
+    }
+
+    private static Mono<Long> consultarAtraso(Connection conexao) {
+        return Flux.from(conexao.createStatement("SHOW REPLICA STATUS").execute())
+            .flatMap(resultado -> resultado.map(MonitorReplicas::atraso))
+            .next();
+    }
+
+    private static Long atraso(Row linha, RowMetadata metadados) {
+        for (String coluna : COLUNAS_ATRASO) {
+            boolean presente = metadados.getColumnMetadatas().stream()
+                .anyMatch(metadado -> metadado.getName().equalsIgnoreCase(coluna));
+            if (presente) {
+                Long segundos = linha.get(coluna, Long.class);
+                return segundos != null ? segundos : REPLICACAO_PARADA;
+            }
+        }
+        return REPLICACAO_PARADA;
+    }
+
+    private synchronized void registrar(String nome, Estado estado) {
+        Estado anterior = estados.put(nome, estado);
+        if (anterior != null && anterior.saudavel() != estado.saudavel()) {
+            if (estado.saudavel()) {
+                logger.info("✅ Réplica {} de volta às leituras (atraso {} s)", nome, estado.atrasoSegundos());
+            } else {
+                logger.warn("⚠️ Réplica {} fora das leituras: {}", nome, estado.motivo());
+            }
+        }
+        List<String> atuais = new ArrayList<>();
+        for (String replica : replicas.keySet()) {
+            if (estados.get(replica).saudavel()) {
+                atuais.add(replica);
+            }
+        }
+        saudaveis = List.copyOf(atuais);
+    }
+
+    private static double atrasoConhecido(Estado estado) {
+        return estado.atrasoSegundos() != null ? estado.atrasoSegundos() : Double.NaN;
+    }
+}
@@ -0,0 +1,70 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Marcações no contexto do Reactor lidas por {@link ConnectionFactoryRoteada}.
+ *
+ * - {@link #naReplica}: a consulta aceita uma réplica de leitura (aplicado pelo
+ *   {@link RoteamentoLeituraAspect} nas consultas dos repositórios)
+ * - {@link #noPrimario}: todo o pipeline usa o primário, mesmo nas consultas
+ *   marcadas para réplica; usado onde o atraso de replicação quebraria a
+ *   consistência (carga inicial e deltas da sincronização por marca d'água)
+ * - {@link #analitica}: a consulta usa o pool analítico (mesmo banco do
+ *   primário, conexões separadas); tem precedência sobre as outras marcas
+ *
+ * Sem marcação, a conexão vem do pool OLTP do primário.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+public final class RoteamentoLeitura {
+
+    private static final String CHAVE_REPLICA = RoteamentoLeitura.class.getName() + ".replica";
+    private static final String CHAVE_PRIMARIO = RoteamentoLeitura.class.getName() + ".primario";
+    private static final String CHAVE_ANALITICA = RoteamentoLeitura.class.getName() + ".analitica";
+
+    private RoteamentoLeitura() {
+    }
+
+    public static <T> Mono<T> naReplica(Mono<T> consulta) {
+        return consulta.contextWrite(contexto -> contexto.put(CHAVE_REPLICA, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> naReplica(Flux<T> consulta) {
+        return consulta.contextWrite(contexto -> contexto.put(CHAVE_REPLICA, Boolean.TRUE));
+    }
+
+    public static <T> Mono<T> noPrimario(Mono<T> pipeline) {
+        return pipeline.contextWrite(contexto -> contexto.put(CHAVE_PRIMARIO, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> noPrimario(Flux<T> pipeline) {
+        return pipeline.contextWrite(contexto -> contexto.put(CHAVE_PRIMARIO, Boolean.TRUE));
+    }
+
+    public static <T> Mono<T> analitica(Mono<T> consulta) {
+        return consulta.contextWrite(contexto -> contexto.put(CHAVE_ANALITICA, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> analitica(Flux<T> consulta) {
+        return consulta.contextWrite(contexto -> contexto.put(CHAVE_ANALITICA, Boolean.TRUE));
+    }
+
+    /**
+     * Verifica se o contexto permite atender a consulta em uma réplica
+     */
+    static boolean permiteReplica(ContextView contexto) {
+        return contexto.hasKey(CHAVE_REPLICA) && !contexto.hasKey(CHAVE_PRIMARIO);
+    }
+
+    /**
+     * Verifica se a consulta foi marcada para o pool analítico
+     */
+    static boolean ehAnalitica(ContextView contexto) {
+        return contexto.hasKey(CHAVE_ANALITICA);
+    }
+}
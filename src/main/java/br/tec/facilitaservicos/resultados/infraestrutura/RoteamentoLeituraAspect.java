@@ -0,0 +1,50 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import br.tec.facilitaservicos.resultados.dominio.repositorio.ConsultaAnalitica;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Marca as consultas para {@link ConnectionFactoryRoteada}:
+ * - métodos {@code find*}, {@code count*} e {@code exists*} do repositório e as
+ *   consultas públicas de {@link ConsultaProjecaoResultados} aceitam réplica
+ * - os anotados com {@link ConsultaAnalitica} vão ao pool analítico
+ *
+ * Escritas ({@code save*}, {@code delete*}) e consultas fora desses pontos
+ * continuam no pool OLTP do primário.
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Aspect
+@Component
+@ConditionalOnExpression("${resultados.replicas.habilitado:false} or ${resultados.pools.analitico.habilitado:true}")
+public class RoteamentoLeituraAspect {
+
+    @Around("execution(* br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc.find*(..))"
+        + " || execution(* br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc.count*(..))"
+        + " || execution(* br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc.exists*(..))"
+        + " || execution(public * br.tec.facilitaservicos.resultados.infraestrutura.ConsultaProjecaoResultados.*(..))")
+    public Object marcarLeitura(ProceedingJoinPoint ponto) throws Throwable {
+        Object retorno = ponto.proceed();
+        // Assinatura do método declarado (interface do repositório), onde fica a anotação
+        boolean analitica = ((MethodSignature) ponto.getSignature()).getMethod()
+            .isAnnotationPresent(ConsultaAnalitica.class);
+        if (retorno instanceof Mono<?> mono) {
+            return analitica ? RoteamentoLeitura.analitica(mono) : RoteamentoLeitura.naReplica(mono);
+        }
+        if (retorno instanceof Flux<?> flux) {
+            return analitica ? RoteamentoLeitura.analitica(flux) : RoteamentoLeitura.naReplica(flux);
+        }
+        return retorno;
+    }
+}
@@ -1,29 +1,25 @@
 -- Índices de performance e unicidade para consultas críticas
 -- Compatível com MySQL 8+
-
--- Deduplicação segura antes da UNIQUE (mantém o maior id)
-DELETE r1 FROM resultados r1
-INNER JOIN resultados r2
-  ON r1.horario = r2.horario
- AND r1.data_resultado = r2.data_resultado
- AND r1.id < r2.id;
-
--- Evita duplicidade por horário e data
-ALTER TABLE resultados
-  ADD UNIQUE INDEX uk_resultados_horario_data (horario, data_resultado);
+-- Mesmos nomes do V1 e do init.sql: em bancos que já os têm, o erro 1061
+-- (nome de índice duplicado) marca o comando como aplicado.
 
 -- Suporte a ordenações e filtros mais usados
-CREATE INDEX idx_resultados_data_horario ON resultados (data_resultado DESC, horario);
-CREATE INDEX idx_resultados_horario_data ON resultados (horario, data_resultado DESC);
+CREATE INDEX idx_data_horario ON resultados (data_resultado DESC, horario);
 
 -- Suporte a busca por soma
-CREATE INDEX idx_resultados_soma_data ON resultados (soma, data_resultado DESC);
+CREATE INDEX idx_soma_data ON resultados (soma, data_resultado DESC);
 
 -- Suporte a buscas por números (OR em múltiplas colunas)
-CREATE INDEX idx_resultados_primeiro  ON resultados (primeiro);
-CREATE INDEX idx_resultados_segundo   ON resultados (segundo);
-CREATE INDEX idx_resultados_terceiro  ON resultados (terceiro);
-CREATE INDEX idx_resultados_quarto    ON resultados (quarto);
-CREATE INDEX idx_resultados_quinto    ON resultados (quinto);
-CREATE INDEX idx_resultados_sexto     ON resultados (sexto);
-CREATE INDEX idx_resultados_setimo    ON resultados (setimo);
+CREATE INDEX idx_primeiro ON resultados (primeiro);
+CREATE INDEX idx_segundo  ON resultados (segundo);
+CREATE INDEX idx_terceiro ON resultados (terceiro);
+CREATE INDEX idx_quarto   ON resultados (quarto);
+CREATE INDEX idx_quinto   ON resultados (quinto);
+CREATE INDEX idx_sexto    ON resultados (sexto);
+CREATE INDEX idx_setimo   ON resultados (setimo);
+
+-- Evita duplicidade por horário e data (também cobre horario + data_resultado).
+-- Não deduplica: com linhas repetidas falha com 1062 e a versão fica pendente
+-- até a execução revisada de scripts/deduplicar-resultados.sql.
+ALTER TABLE resultados
+  ADD UNIQUE INDEX uk_horario_data (horario, data_resultado);
@@ -0,0 +1,5 @@
+-- Índice para a sincronização incremental por marca d'água (updated_at, id)
+-- Compatível com MySQL 8+
+-- Mesmo nome do init.sql: em bancos criados por ele o comando é ignorado (1061)
+
+CREATE INDEX idx_updated_at ON resultados (updated_at);
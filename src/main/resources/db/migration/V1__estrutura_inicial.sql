@@ -0,0 +1,39 @@
+-- Estrutura inicial da tabela de resultados (equivalente a docker/mysql/init.sql)
+-- Compatível com MySQL 8+
+-- O índice de updated_at é criado em V1_2
+
+CREATE TABLE IF NOT EXISTS resultados (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    horario VARCHAR(5) NOT NULL COMMENT 'Horário do resultado (HH:mm)',
+    primeiro VARCHAR(2) NOT NULL COMMENT 'Primeiro número sorteado',
+    segundo VARCHAR(2) NOT NULL COMMENT 'Segundo número sorteado',
+    terceiro VARCHAR(2) NOT NULL COMMENT 'Terceiro número sorteado',
+    quarto VARCHAR(2) NOT NULL COMMENT 'Quarto número sorteado',
+    quinto VARCHAR(2) NOT NULL COMMENT 'Quinto número sorteado',
+    sexto VARCHAR(2) NOT NULL COMMENT 'Sexto número sorteado',
+    setimo VARCHAR(2) NOT NULL COMMENT 'Sétimo número sorteado',
+    soma VARCHAR(3) COMMENT 'Soma de todos os números',
+    data_resultado DATE NOT NULL COMMENT 'Data do resultado',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT 'Data de criação do registro',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Data da última modificação',
+
+    INDEX idx_data_resultado (data_resultado DESC),
+    INDEX idx_horario (horario),
+    INDEX idx_data_horario (data_resultado DESC, horario),
+    INDEX idx_soma (soma),
+    INDEX idx_primeiro (primeiro),
+    INDEX idx_segundo (segundo),
+    INDEX idx_terceiro (terceiro),
+    INDEX idx_quarto (quarto),
+    INDEX idx_quinto (quinto),
+    INDEX idx_sexto (sexto),
+    INDEX idx_setimo (setimo),
+    INDEX idx_periodo (data_resultado, horario, id),
+    UNIQUE KEY uk_horario_data (horario, data_resultado)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  ROW_FORMAT=DYNAMIC
+  STATS_PERSISTENT=1
+  STATS_AUTO_RECALC=1
+  COMMENT='Tabela de resultados de loteria - Microserviço Resultados';
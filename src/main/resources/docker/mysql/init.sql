@@ -41,6 +41,7 @@ CREATE TABLE IF NOT EXISTS resultados (
     INDEX idx_horario (horario),
     INDEX idx_data_horario (data_resultado DESC, horario),
     INDEX idx_soma (soma),
+    INDEX idx_updated_at (updated_at),
 
     -- Índices para busca por números específicos
     INDEX idx_primeiro (primeiro),
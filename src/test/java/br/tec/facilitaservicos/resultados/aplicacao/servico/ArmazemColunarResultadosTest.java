@@ -0,0 +1,96 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+class ArmazemColunarResultadosTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 6, 1);
+
+    private final ArmazemColunarResultados armazem = new ArmazemColunarResultados();
+
+    private static ResultadoR2dbc resultado(long id, String horario, LocalDate data, String... n) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc(horario, n[0], n[1], n[2], n[3], n[4], n[5], n[6], data);
+        resultado.setId(id);
+        return resultado;
+    }
+
+    private static List<Long> ids(ArmazemColunarResultados.PaginaBusca pagina) {
+        return pagina.conteudo().stream().map(ResultadoDto::id).toList();
+    }
+
+    @Test
+    void deveMontarHistogramaDeSomasValidas() {
+        armazem.aplicar(List.of(
+            resultado(1, "09:00", DIA, "01", "02", "03", "04", "05", "06", "07"),
+            resultado(2, "11:00", DIA, "07", "06", "05", "04", "03", "02", "01"),
+            resultado(3, "14:00", DIA, "99", "99", "99", "99", "99", "99", "99"),
+            resultado(4, "16:00", DIA, "01", "02", "03", "04", "05", "06", "xx")));
+
+        long[] histograma = armazem.histogramaSomas(null, null);
+
+        assertEquals(ArmazemColunarResultados.SOMA_MAXIMA + 1, histograma.length);
+        assertEquals(2, histograma[28]);
+        assertEquals(1, histograma[ArmazemColunarResultados.SOMA_MAXIMA]);
+        assertEquals(3, Arrays.stream(histograma).sum());
+    }
+
+    @Test
+    void deveBuscarNumeroDoMaisRecenteAoMaisAntigoComPaginacao() {
+        armazem.aplicar(List.of(
+            resultado(1, "14:00", DIA, "42", "01", "02", "03", "04", "05", "06"),
+            resultado(2, "09:00", DIA, "01", "42", "02", "03", "04", "05", "06"),
+            resultado(3, "21:00", DIA.minusDays(1), "01", "02", "03", "04", "05", "06", "42"),
+            resultado(4, "21:00", DIA, "01", "02", "03", "04", "05", "06", "07")));
+
+        ArmazemColunarResultados.PaginaBusca primeira = armazem.buscarPorNumero(42, 0, 2);
+        assertEquals(3, primeira.total());
+        assertEquals(List.of(1L, 2L), ids(primeira));
+        assertEquals(List.of("42", "01", "02", "03", "04", "05", "06"), primeira.conteudo().getFirst().numeros());
+        assertEquals("63", primeira.conteudo().getFirst().soma());
+
+        assertEquals(List.of(3L), ids(armazem.buscarPorNumero(42, 2, 2)));
+        assertThrows(IllegalArgumentException.class, () -> armazem.buscarPorNumero(100, 0, 2));
+    }
+
+    @Test
+    void deveCorrigirEmCopiaEInserirIdForaDeOrdem() {
+        armazem.aplicar(List.of(
+            resultado(1, "09:00", DIA, "10", "11", "12", "13", "14", "15", "16"),
+            resultado(5, "09:00", DIA.plusDays(1), "10", "11", "12", "13", "14", "15", "16")));
+        armazem.aplicar(List.of(
+            resultado(1, "09:00", DIA, "20", "21", "22", "23", "24", "25", "26"),
+            resultado(3, "11:00", DIA, "10", "30", "31", "32", "33", "34", "35")));
+
+        assertEquals(3, armazem.resumir(DIA, 7).totalResultados());
+        assertEquals(List.of(1L), ids(armazem.buscarPorNumero(20, 0, 10)));
+        assertEquals(List.of(5L, 3L), ids(armazem.buscarPorNumero(10, 0, 10)));
+    }
+
+    @Test
+    void deveResumirPeriodoEHorariosAtivos() {
+        armazem.aplicar(List.of(
+            resultado(1, "21:00", DIA.minusDays(30), "01", "02", "03", "04", "05", "06", "07"),
+            resultado(2, "14:00", DIA.minusDays(2), "01", "02", "03", "04", "05", "06", "07"),
+            resultado(3, "09:00", DIA.minusDays(1), "01", "02", "03", "04", "05", "06", "07")));
+
+        ArmazemColunarResultados.Resumo semHoje = armazem.resumir(DIA, 7);
+        assertEquals(DIA.minusDays(30), semHoje.periodoInicio());
+        assertEquals(DIA.minusDays(1), semHoje.periodoFim());
+        assertEquals(List.of("09:00", "14:00"), semHoje.horariosAtivos());
+
+        armazem.aplicar(List.of(resultado(4, "18:00", DIA, "01", "02", "03", "04", "05", "06", "07")));
+        assertEquals(List.of("18:00"), armazem.resumir(DIA, 7).horariosAtivos());
+        assertNull(new ArmazemColunarResultados().resumir(DIA, 7).periodoInicio());
+    }
+}
@@ -0,0 +1,98 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteVeredito;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ConferenciaLoteResultadosTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 6, 1);
+
+    private final ConferenciaResultados conferencia = new ConferenciaResultados(new ArmazemColunarResultados(),
+        KernelsContagem.selecionar("auto"));
+    private final ConferenciaLoteResultados lote = new ConferenciaLoteResultados(conferencia,
+        new ServicoDataHoraAtual(), new ObjectMapper());
+
+    @BeforeEach
+    void preparar() {
+        lote.iniciar();
+        conferencia.aplicar(List.of(
+            resultado(1, DIA.minusDays(2), "01", "02", "03", "04", "05", "06", "07"),
+            resultado(2, DIA.minusDays(1), "01", "02", "03", "40", "50", "60", "70"),
+            resultado(3, DIA, "01", "20", "30", "40", "50", "60", "99")));
+    }
+
+    @AfterEach
+    void encerrar() {
+        lote.encerrar();
+    }
+
+    private static ResultadoR2dbc resultado(long id, LocalDate data, String... n) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc("14:00", n[0], n[1], n[2], n[3], n[4], n[5], n[6], data);
+        resultado.setId(id);
+        return resultado;
+    }
+
+    @Test
+    void deveConferirCadaBilheteNaJanelaNaOrdemDeEntrada() {
+        Flux<String> linhas = Flux.just(
+            "{\"id\":\"a\",\"numeros\":[1,2,3,99]}",
+            "",
+            "{\"id\":\"b\",\"numeros\":[100]}",
+            "{nao e json");
+
+        StepVerifier.create(lote.conferir("job", linhas, DIA.minusDays(1), DIA, 2))
+            .assertNext(veredito -> {
+                assertEquals(1, veredito.linha());
+                assertEquals("a", veredito.id());
+                // Janela sem o sorteio 1: sorteio 2 com 3 acertos, sorteio 3 com 2
+                assertArrayEquals(new int[] {0, 0, 1, 1, 0, 0, 0, 0}, veredito.porAcertos());
+                assertEquals(3, veredito.maiorAcerto());
+                assertEquals(2, veredito.premiados());
+                assertNull(veredito.erro());
+            })
+            .expectNext(ConferenciaLoteVeredito.invalido(3, "b", "Números devem estar entre 0 e 99"))
+            .expectNext(ConferenciaLoteVeredito.invalido(4, null, "JSON inválido"))
+            .verifyComplete();
+
+        StepVerifier.create(lote.status("job"))
+            .assertNext(status -> {
+                assertEquals("CONCLUIDO", status.estado());
+                assertEquals(2, status.sorteios());
+                assertEquals(3, status.processados());
+                assertEquals(2, status.invalidos());
+                assertEquals(1, status.premiados());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void deveDividirBlocosGrandesEntreOsNucleos() {
+        int bilhetes = 5_000;
+        Flux<String> linhas = Flux.range(0, bilhetes)
+            .map(i -> "{\"id\":\"" + i + "\",\"numeros\":[" + (i % 100) + "]}");
+
+        StepVerifier.create(lote.conferir("grande", linhas, null, null, 1).map(ConferenciaLoteVeredito::linha))
+            .expectNextSequence(Flux.range(1, bilhetes).map(Long::valueOf).toIterable())
+            .verifyComplete();
+    }
+
+    @Test
+    void statusDeJobDesconhecidoDeveSerVazio() {
+        StepVerifier.create(lote.status("inexistente")).verifyComplete();
+    }
+}
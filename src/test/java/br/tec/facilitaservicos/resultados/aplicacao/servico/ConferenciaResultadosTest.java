@@ -0,0 +1,122 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+class ConferenciaResultadosTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 6, 1);
+
+    private final ArmazemColunarResultados armazem = new ArmazemColunarResultados();
+    private final ConferenciaResultados conferencia = new ConferenciaResultados(armazem,
+        KernelsContagem.selecionar("auto"));
+
+    /** Mesma ordem da sincronização: armazém primeiro */
+    private void aplicar(ResultadoR2dbc... delta) {
+        armazem.aplicar(List.of(delta));
+        conferencia.aplicar(List.of(delta));
+    }
+
+    private static ResultadoR2dbc resultado(long id, String horario, LocalDate data, String... n) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc(horario, n[0], n[1], n[2], n[3], n[4], n[5], n[6], data);
+        resultado.setId(id);
+        return resultado;
+    }
+
+    private static List<Long> ids(ConferenciaDto dto) {
+        return dto.resultados().stream().map(acerto -> acerto.resultado().id()).toList();
+    }
+
+    @Test
+    void deveOrdenarPorAcertosEDepoisPorMaisRecente() {
+        aplicar(
+            resultado(1, "09:00", DIA.minusDays(1), "01", "02", "03", "10", "11", "12", "13"),
+            resultado(2, "09:00", DIA, "01", "02", "20", "21", "22", "23", "24"),
+            resultado(3, "14:00", DIA, "01", "02", "03", "70", "71", "72", "99"),
+            resultado(4, "21:00", DIA, "30", "31", "32", "33", "34", "35", "36"));
+
+        ConferenciaDto dto = conferencia.conferir(new int[] {3, 2, 1, 99}, 2, 10);
+
+        assertEquals(List.of(1, 2, 3, 99), dto.numeros());
+        assertEquals(4, dto.sorteiosComparados());
+        assertEquals(3, dto.encontrados());
+        assertEquals(List.of(3L, 1L, 2L), ids(dto));
+        assertEquals(List.of(4, 3, 2), dto.resultados().stream().map(ConferenciaDto.Acerto::acertos).toList());
+    }
+
+    @Test
+    void deveRespeitarLimiteMantendoTotalEncontrado() {
+        aplicar(
+            resultado(1, "09:00", DIA, "05", "06", "07", "08", "09", "10", "11"),
+            resultado(2, "11:00", DIA, "05", "06", "07", "08", "09", "10", "11"));
+
+        ConferenciaDto dto = conferencia.conferir(new int[] {5}, 1, 1);
+
+        assertEquals(2, dto.encontrados());
+        assertEquals(List.of(2L), ids(dto));
+    }
+
+    @Test
+    void deveAtualizarPorIdENaoContarRepetidosDuasVezes() {
+        aplicar(resultado(1, "09:00", DIA, "40", "41", "42", "43", "44", "45", "46"));
+        aplicar(resultado(1, "09:00", DIA, "50", "50", "51", "52", "53", "54", "55"));
+
+        ConferenciaDto dto = conferencia.conferir(new int[] {50, 40}, 1, 10);
+
+        assertEquals(1, dto.sorteiosComparados());
+        assertEquals(1, dto.resultados().getFirst().acertos());
+    }
+
+    @Test
+    void deveReposicionarCorrecaoDeDataEIdForaDeOrdem() {
+        aplicar(
+            resultado(1, "09:00", DIA.minusDays(2), "01", "02", "03", "04", "05", "06", "07"),
+            resultado(5, "09:00", DIA, "01", "02", "03", "04", "05", "06", "07"));
+        // Id 1 passa para depois do 5; id 3 chega fora de ordem, entre os dois
+        aplicar(
+            resultado(1, "21:00", DIA, "01", "01", "03", "04", "05", "06", "07"),
+            resultado(3, "09:00", DIA.minusDays(1), "01", "02", "03", "04", "05", "06", "07"));
+
+        ConferenciaDto dto = conferencia.conferir(new int[] {1}, 1, 10);
+
+        assertEquals(3, dto.sorteiosComparados());
+        assertEquals(List.of(1L, 5L, 3L), ids(dto));
+        assertEquals(4, conferencia.frequencias(null, null)[1]);
+        assertEquals(0, conferencia.frequencias(DIA.minusDays(2), DIA.minusDays(2))[1]);
+    }
+
+    @Test
+    void deveContarOcorrenciasComoOBancoFiltrandoPorPeriodo() {
+        aplicar(
+            resultado(1, "09:00", DIA.minusDays(10), "07", "07", "01", "02", "03", "04", "05"),
+            resultado(2, "09:00", DIA, "07", "99", "01", "02", "03", "04", "05"),
+            resultado(3, "14:00", DIA.minusDays(20), "07", "08", "09", "10", "11", "12", "xx"),
+            resultado(4, "21:00", null, "07", "07", "07", "30", "31", "32", "33"));
+
+        long[] todos = conferencia.frequencias(null, null);
+        assertEquals(7, todos[7]);
+        assertEquals(2, todos[1]);
+        assertEquals(1, todos[99]);
+
+        long[] recentes = conferencia.frequencias(DIA.minusDays(1), DIA);
+        assertEquals(1, recentes[7]);
+        assertEquals(0, recentes[8]);
+        assertEquals(1, conferencia.frequencias(null, DIA.minusDays(15))[8]);
+        assertEquals(3, conferencia.frequencias(DIA.minusDays(15), null)[7]);
+    }
+
+    @Test
+    void deveRejeitarApostaInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> conferencia.conferir(new int[0], 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> conferencia.conferir(new int[] {100}, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> conferencia.conferir(new int[21], 1, 10));
+    }
+}
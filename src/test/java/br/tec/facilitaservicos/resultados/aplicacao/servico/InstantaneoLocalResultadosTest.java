@@ -0,0 +1,43 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+class InstantaneoLocalResultadosTest {
+
+    private static ResultadoR2dbc resultado(long id) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc("09:00", "01", "02", "03", "04", "05", "06", "07",
+            LocalDate.of(2024, 6, 1));
+        resultado.setId(id);
+        return resultado;
+    }
+
+    @Test
+    void deveConferirInstantaneoMaisDeltaComOBanco() {
+        List<ResultadoR2dbc> instantaneo = List.of(resultado(1), resultado(2), resultado(3));
+        // Delta com uma correção (id 2) e um novo (id 4)
+        List<ResultadoR2dbc> delta = List.of(resultado(2), resultado(4));
+
+        assertTrue(InstantaneoLocalResultados.confereComBanco(instantaneo, delta, 4, 4));
+        assertTrue(InstantaneoLocalResultados.confereComBanco(List.of(), List.of(), 0, 0));
+    }
+
+    @Test
+    void deveDetectarExclusaoOuLinhaAusente() {
+        List<ResultadoR2dbc> instantaneo = List.of(resultado(1), resultado(2), resultado(3));
+
+        // Id 2 excluído no banco: mesma marca d'água, uma linha a menos
+        assertFalse(InstantaneoLocalResultados.confereComBanco(instantaneo, List.of(), 2, 3));
+        // Maior id excluído e outro inserido: quantidade igual, maior id diferente
+        assertFalse(InstantaneoLocalResultados.confereComBanco(instantaneo, List.of(), 3, 5));
+        // Linha nova no banco que não veio no delta
+        assertFalse(InstantaneoLocalResultados.confereComBanco(instantaneo, List.of(resultado(4)), 5, 5));
+    }
+}
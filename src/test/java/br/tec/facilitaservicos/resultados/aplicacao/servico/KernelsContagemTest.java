@@ -0,0 +1,78 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class KernelsContagemTest {
+
+    private static final int SORTEIOS = 1_003;
+
+    private final long[] baixas = new long[SORTEIOS];
+    private final long[] altas = new long[SORTEIOS];
+    private final SplittableRandom random = new SplittableRandom(7L);
+
+    KernelsContagemTest() {
+        for (int i = 0; i < SORTEIOS; i++) {
+            for (int j = 0; j < 7; j++) {
+                int numero = random.nextInt(100);
+                if (numero < 64) {
+                    baixas[i] |= 1L << numero;
+                } else {
+                    altas[i] |= 1L << (numero - 64);
+                }
+            }
+        }
+    }
+
+    @Test
+    void escalarDeveContarAcertosEFrequencias() {
+        KernelsContagem kernels = KernelsContagem.selecionar("escalar");
+        long[] baixas = {0b1110L, 0b0001L};
+        long[] altas = {1L << 35, 0L};
+
+        int[] acertos = new int[2];
+        kernels.acertosPorSorteio(baixas, altas, 0, 2, 0b0110L, 1L << 35, acertos);
+        assertArrayEquals(new int[] {3, 0}, acertos);
+
+        long[] frequencias = new long[100];
+        kernels.frequencias(baixas, altas, 0, 2, frequencias);
+        assertEquals(1, frequencias[0]);
+        assertEquals(1, frequencias[3]);
+        assertEquals(1, frequencias[99]);
+        assertEquals(0, frequencias[4]);
+    }
+
+    @Test
+    void vetorialDeveCoincidirComEscalarIncluindoRestos() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "requer --add-modules jdk.incubator.vector");
+        KernelsContagem escalar = KernelsContagem.selecionar("escalar");
+        KernelsContagem vetorial = KernelsContagem.selecionar("vetorial");
+        assertInstanceOf(KernelsContagemVetorial.class, vetorial);
+
+        for (int rodada = 0; rodada < 50; rodada++) {
+            long baixo = random.nextLong();
+            long alto = random.nextLong() & ((1L << 36) - 1);
+            int de = random.nextInt(10);
+            int ate = SORTEIOS - random.nextInt(10);
+
+            int[] esperado = new int[ate - de];
+            int[] obtido = new int[ate - de];
+            escalar.acertosPorSorteio(baixas, altas, de, ate, baixo, alto, esperado);
+            vetorial.acertosPorSorteio(baixas, altas, de, ate, baixo, alto, obtido);
+            assertArrayEquals(esperado, obtido);
+
+            int[] histogramaEsperado = new int[8];
+            int[] histogramaObtido = new int[8];
+            escalar.histogramaAcertos(baixas, altas, de, ate, baixo, alto, histogramaEsperado);
+            vetorial.histogramaAcertos(baixas, altas, de, ate, baixo, alto, histogramaObtido);
+            assertArrayEquals(histogramaEsperado, histogramaObtido);
+        }
+    }
+}
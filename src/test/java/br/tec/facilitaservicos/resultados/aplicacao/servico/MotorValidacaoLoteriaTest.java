@@ -0,0 +1,64 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+class MotorValidacaoLoteriaTest {
+
+    private static int verificar(MotorValidacaoLoteria.RegraModalidade regra, int... numeros) {
+        return MotorValidacaoLoteria.verificar(regra, numeros, numeros.length);
+    }
+
+    @Test
+    void deveValidarEOrdenarPelaBitmask() {
+        int[] numeros = {80, 64, 3, 79, 12, 41, 66};
+
+        assertEquals("3-12-41-64-66-79-80",
+            MotorValidacaoLoteria.validar(MotorValidacaoLoteria.QUINA, numeros, numeros.length));
+    }
+
+    @Test
+    void deveManterPrecedenciaFaixaQuantidadeDuplicados() {
+        var megaSena = MotorValidacaoLoteria.MEGA_SENA;
+
+        // Fora da faixa vence quantidade e duplicados
+        assertEquals(MotorValidacaoLoteria.FORA_DA_FAIXA, verificar(megaSena, 1, 1, 61));
+        // Quantidade vence duplicados
+        assertEquals(MotorValidacaoLoteria.QUANTIDADE_INVALIDA, verificar(megaSena, 1, 1, 2));
+        assertEquals(MotorValidacaoLoteria.DUPLICADOS, verificar(megaSena, 1, 2, 3, 4, 5, 5));
+        assertEquals(MotorValidacaoLoteria.VALIDO, verificar(megaSena, 60, 1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void deveDetectarDuplicadosNaParteAltaDaBitmask() {
+        assertEquals(MotorValidacaoLoteria.DUPLICADOS,
+            verificar(MotorValidacaoLoteria.QUINA, 70, 1, 2, 3, 70));
+    }
+
+    @Test
+    void deveResolverRegraSemDiferenciarMaiusculas() {
+        assertEquals(MotorValidacaoLoteria.LOTOFACIL, MotorValidacaoLoteria.regra("lotofacil"));
+        assertNull(MotorValidacaoLoteria.regra("TIMEMANIA"));
+    }
+
+    @Test
+    void fachadaReativaDevePreservarMensagens() {
+        var validador = new ServicoValidacaoMegaSena();
+
+        StepVerifier.create(validador.validarListaNumeros(List.of(42, 7, 13, 58, 1, 33)))
+            .expectNext("1-7-13-33-42-58")
+            .verifyComplete();
+        StepVerifier.create(validador.validarListaNumeros(List.of(1, 2, 3, 4, 5, 5)))
+            .expectErrorMessage("Números duplicados não são permitidos")
+            .verify();
+        assertThrows(IllegalArgumentException.class,
+            () -> validador.validarListaNumeros(List.of(0)).block());
+    }
+}
@@ -0,0 +1,151 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.test.StepVerifier;
+
+class PainelResultadosHojeTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2024, 6, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ServicoDataHoraAtual dataHoraAtual = mock(ServicoDataHoraAtual.class);
+    private final PainelResultadosHoje painel =
+        new PainelResultadosHoje(null, new ResultadoMapper(), dataHoraAtual, objectMapper);
+
+    @BeforeEach
+    void iniciar() {
+        when(dataHoraAtual.dataHoje()).thenReturn(HOJE);
+    }
+
+    private static ResultadoR2dbc resultado(long id, String horario, LocalDate data, String primeiro) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc(horario, primeiro, "02", "03", "04", "05", "06", "07", data);
+        resultado.setId(id);
+        return resultado;
+    }
+
+    private JsonNode ler(byte[] quadro) {
+        try {
+            return objectMapper.readTree(quadro);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void deveEnviarSnapshotEDepoisNovosECorrecoesDeHoje() {
+        painel.aplicar(List.of(resultado(1, "09:00", HOJE, "01"), resultado(2, "11:00", HOJE.minusDays(1), "01")));
+
+        StepVerifier.create(painel.assinar().map(this::ler))
+            .assertNext(snapshot -> {
+                assertEquals("snapshot", snapshot.get("tipo").asText());
+                assertEquals("2024-06-01", snapshot.get("data").asText());
+                assertEquals(1, snapshot.get("resultados").size());
+                assertEquals("09:00", snapshot.get("resultados").get(0).get("horario").asText());
+            })
+            .then(() -> painel.aplicar(List.of(resultado(3, "14:00", HOJE, "01"))))
+            .assertNext(evento -> {
+                assertEquals("novo", evento.get("tipo").asText());
+                assertEquals("14:00", evento.get("resultado").get("horario").asText());
+            })
+            .then(() -> painel.aplicar(List.of(resultado(1, "09:00", HOJE, "99"))))
+            .assertNext(evento -> {
+                assertEquals("correcao", evento.get("tipo").asText());
+                assertEquals("99", evento.get("resultado").get("numeros").get(0).asText());
+            })
+            .thenCancel()
+            .verify();
+
+        assertEquals(0, painel.assinantes());
+    }
+
+    @Test
+    void deveCompartilharOMesmoQuadroEntreSessoes() {
+        List<byte[]> primeira = new ArrayList<>();
+        List<byte[]> segunda = new ArrayList<>();
+        painel.assinar().subscribe(primeira::add);
+        painel.assinar().subscribe(segunda::add);
+
+        painel.aplicar(List.of(resultado(1, "09:00", HOJE, "01")));
+
+        assertSame(primeira.get(0), segunda.get(0));
+        assertSame(primeira.get(1), segunda.get(1));
+    }
+
+    @Test
+    void deveDesconectarSessaoQueNaoAcompanha() {
+        StepVerifier.create(painel.assinar(), 0)
+            .then(() -> {
+                for (int i = 0; i < 100; i++) {
+                    painel.aplicar(List.of(resultado(i + 1, String.format("%02d:00", i % 24), HOJE, "01")));
+                }
+            })
+            .then(() -> assertEquals(0, painel.assinantes()))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(64)
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
+    @Test
+    void deveZerarOPainelNaViradaDoDia() {
+        painel.aplicar(List.of(resultado(1, "21:00", HOJE, "01")));
+
+        StepVerifier.create(painel.assinar().map(this::ler))
+            .assertNext(snapshot -> assertEquals(1, snapshot.get("resultados").size()))
+            .then(() -> {
+                when(dataHoraAtual.dataHoje()).thenReturn(HOJE.plusDays(1));
+                painel.aplicar(List.of(resultado(2, "09:00", HOJE.plusDays(1), "01")));
+            })
+            .assertNext(snapshot -> {
+                assertEquals("snapshot", snapshot.get("tipo").asText());
+                assertEquals(0, snapshot.get("resultados").size());
+            })
+            .assertNext(evento -> assertEquals("novo", evento.get("tipo").asText()))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    void deveZerarOPainelNaMeiaNoiteSemNovoResultado() {
+        painel.aplicar(List.of(resultado(1, "21:00", HOJE, "01")));
+
+        StepVerifier.create(painel.assinar().map(this::ler))
+            .assertNext(snapshot -> assertEquals(1, snapshot.get("resultados").size()))
+            .then(() -> {
+                when(dataHoraAtual.dataHoje()).thenReturn(HOJE.plusDays(1));
+                painel.verificarViradaDoDia();
+            })
+            .assertNext(snapshot -> {
+                assertEquals("snapshot", snapshot.get("tipo").asText());
+                assertEquals("2024-06-02", snapshot.get("data").asText());
+                assertEquals(0, snapshot.get("resultados").size());
+            })
+            .thenCancel()
+            .verify();
+
+        assertEquals(Duration.ofMinutes(30).plusSeconds(1), PainelResultadosHoje.ateProximoDia(
+            HOJE.atTime(23, 30).atZone(ZoneId.of("America/Sao_Paulo"))));
+    }
+}
@@ -0,0 +1,52 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ValidacaoLoteVeredito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ServicoValidacaoLoteTest {
+
+    private final ServicoValidacaoLote servico = new ServicoValidacaoLote(
+        new ValidadorLoteriaFactory(List.of(
+            new ServicoValidacaoMegaSena(), new ServicoValidacaoQuina(), new ServicoValidacaoLotofacil())),
+        new ObjectMapper());
+
+    @Test
+    void deveEmitirUmVereditoPorLinhaNaOrdemDeEntrada() {
+        Flux<String> linhas = Flux.just(
+            "{\"id\":\"a\",\"modalidade\":\"mega_sena\",\"numeros\":[42,7,13,58,1,33],\"resultadoId\":12}",
+            "",
+            "{\"id\":\"b\",\"modalidade\":\"QUINA\",\"numeros\":[1,2,3,4,4]}",
+            "{nao e json",
+            "{\"id\":\"c\",\"modalidade\":\"TIMEMANIA\",\"numeros\":[1]}");
+
+        StepVerifier.create(servico.validar(linhas))
+            .expectNext(ValidacaoLoteVeredito.valido(1, "a", 12L, "1-7-13-33-42-58"))
+            .expectNext(ValidacaoLoteVeredito.invalido(3, "b", null, "Números duplicados não são permitidos"))
+            .expectNext(ValidacaoLoteVeredito.invalido(4, null, null, "JSON inválido"))
+            .expectNext(ValidacaoLoteVeredito.invalido(5, "c", null, "Modalidade não suportada: TIMEMANIA"))
+            .verifyComplete();
+    }
+
+    @Test
+    void deveManterOrdemComVariosBlocosEmParalelo() {
+        Flux<String> linhas = Flux.range(1, 5_000)
+            .map(i -> "{\"id\":\"" + i + "\",\"modalidade\":\"LOTOFACIL\",\"numeros\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,"
+                + (15 + i % 11) + "]}");
+
+        List<ValidacaoLoteVeredito> vereditos = servico.validar(linhas).collectList().block();
+
+        assertEquals(IntStream.rangeClosed(1, 5_000).boxed().toList(),
+            vereditos.stream().map(v -> Integer.parseInt(v.id())).toList());
+        assertEquals(5_000, vereditos.stream().filter(ValidacaoLoteVeredito::valido).count());
+    }
+}
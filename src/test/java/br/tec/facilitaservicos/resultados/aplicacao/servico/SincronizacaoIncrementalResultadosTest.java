@@ -0,0 +1,51 @@
+package br.tec.facilitaservicos.resultados.aplicacao.servico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class SincronizacaoIncrementalResultadosTest {
+
+    private static final Duration ANTES = Duration.ofMinutes(5);
+    private static final Duration DEPOIS = Duration.ofMinutes(30);
+    private static final Duration RAPIDO = Duration.ofSeconds(5);
+    private static final Duration LENTO = Duration.ofSeconds(60);
+
+    @Test
+    void deveUsarIntervaloRapidoDentroDaJanelaDoSorteio() {
+        var horarios = Set.of(LocalTime.of(14, 0));
+
+        assertEquals(RAPIDO, intervalo(LocalTime.of(13, 56), horarios));
+        assertEquals(RAPIDO, intervalo(LocalTime.of(14, 20), horarios));
+    }
+
+    @Test
+    void deveUsarIntervaloLentoForaDaJanela() {
+        assertEquals(LENTO, intervalo(LocalTime.of(10, 0), Set.of(LocalTime.of(14, 0))));
+        assertEquals(LENTO, intervalo(LocalTime.of(10, 0), List.of()));
+    }
+
+    @Test
+    void naoDeveUltrapassarOInicioDaProximaJanela() {
+        // Janela abre às 13:55; faltam 20 segundos
+        assertEquals(Duration.ofSeconds(20),
+            intervalo(LocalTime.of(13, 54, 40), Set.of(LocalTime.of(14, 0))));
+    }
+
+    @Test
+    void deveConsiderarJanelaQueAtravessaAMeiaNoite() {
+        var horarios = Set.of(LocalTime.of(0, 2));
+
+        assertEquals(RAPIDO, intervalo(LocalTime.of(23, 58), horarios));
+    }
+
+    private static Duration intervalo(LocalTime agora, Collection<LocalTime> horarios) {
+        return SincronizacaoIncrementalResultados.calcularIntervalo(agora, horarios, ANTES, DEPOIS, RAPIDO, LENTO);
+    }
+}
@@ -1,19 +1,30 @@
 package br.tec.facilitaservicos.resultados.apresentacao.controlador;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaDto;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ConferenciaLoteVeredito;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.EstatisticasDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.PaginacaoDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.RankingDto;
 import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConferenciaLoteResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConferenciaResultados;
 import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
 import br.tec.facilitaservicos.resultados.config.WebFluxTestConfig;
 import br.tec.facilitaservicos.resultados.config.SegurancaTesteConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import br.tec.facilitaservicos.resultados.configuracao.CodecsBinariosConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -33,7 +44,8 @@ import reactor.core.publisher.Mono;
 @ActiveProfiles("test")
 @WebFluxTest(controllers = ResultadoController.class)
 @AutoConfigureWebTestClient
-@Import({WebFluxTestConfig.class, SegurancaTesteConfig.class, ResultadoControllerContractTest.TestConfig.class})
+@Import({WebFluxTestConfig.class, SegurancaTesteConfig.class, CodecsBinariosConfig.class,
+        ResultadoControllerContractTest.TestConfig.class})
 class ResultadoControllerContractTest {
 
     @Autowired
@@ -42,6 +54,12 @@ class ResultadoControllerContractTest {
     @Autowired
     private ResultadoService resultadoService;
 
+    @Autowired
+    private ConferenciaResultados conferencia;
+
+    @Autowired
+    private ConferenciaLoteResultados conferenciaLote;
+
     @TestConfiguration
     static class TestConfig {
         @Bean
@@ -49,6 +67,16 @@ class ResultadoControllerContractTest {
         public ResultadoService resultadoService() {
             return Mockito.mock(ResultadoService.class);
         }
+
+        @Bean
+        public ConferenciaResultados conferenciaResultados() {
+            return Mockito.mock(ConferenciaResultados.class);
+        }
+
+        @Bean
+        public ConferenciaLoteResultados conferenciaLoteResultados() {
+            return Mockito.mock(ConferenciaLoteResultados.class);
+        }
     }
 
     @Test
@@ -150,4 +178,137 @@ class ResultadoControllerContractTest {
                 .exchange()
                 .expectStatus().isNoContent();
     }
+
+    @Test
+    @DisplayName("GET /rest/v1/resultados/ranking deve responder CBOR quando solicitado")
+    void deveResponderRankingEmCbor() throws Exception {
+        given(resultadoService.buscarRanking(any(), any()))
+                .willReturn(Flux.just(RankingDto.completo("07", 10L, 50.0, 1), RankingDto.completo("13", 8L, 40.0, 2)));
+
+        byte[] corpo = webTestClient.get()
+                .uri("/rest/v1/resultados/ranking")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode ranking = new ObjectMapper(new CBORFactory()).readTree(corpo);
+        assertEquals(2, ranking.size());
+        assertEquals("07", ranking.get(0).get("numero").asText());
+        assertEquals("13", ranking.get(1).get("numero").asText());
+    }
+
+    @Test
+    @DisplayName("GET /rest/v1/resultados/{id} deve responder Smile com datas ISO")
+    void deveResponderResultadoEmSmile() throws Exception {
+        var dto = ResultadoDto.criar("10:00", List.of("01","02","03","04","05","06","07"), LocalDate.of(2024, 1, 15));
+        given(resultadoService.buscarPorId(eq(123L))).willReturn(Mono.just(dto));
+
+        byte[] corpo = webTestClient.get()
+                .uri("/rest/v1/resultados/{id}", 123L)
+                .accept(MediaType.parseMediaType("application/x-jackson-smile"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode resultado = new ObjectMapper(new SmileFactory()).readTree(corpo);
+        assertEquals("10:00", resultado.get("horario").asText());
+        assertEquals("2024-01-15", resultado.get("dataResultado").asText());
+        assertEquals(7, resultado.get("numeros").size());
+    }
+
+    @Test
+    @DisplayName("GET /rest/v1/resultados/conferencia deve retornar 503 enquanto o histórico carrega")
+    void deveRetornar503NaConferenciaSemHistorico() {
+        given(conferencia.isCarregado()).willReturn(false);
+
+        webTestClient.get()
+                .uri("/rest/v1/resultados/conferencia?numeros=1,2,3")
+                .exchange()
+                .expectStatus().isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("GET /rest/v1/resultados/conferencia deve retornar 400 para aposta inválida")
+    void deveRetornar400ParaApostaInvalida() {
+        given(conferencia.isCarregado()).willReturn(true);
+        given(conferencia.conferir(any(int[].class), anyInt(), anyInt()))
+                .willThrow(new IllegalArgumentException("Números devem estar entre 0 e 99"));
+
+        webTestClient.get()
+                .uri("/rest/v1/resultados/conferencia?numeros=1,,3")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get()
+                .uri("/rest/v1/resultados/conferencia?numeros=1,100")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /rest/v1/resultados/conferencia deve retornar 200 com os acertos")
+    void deveConferirAposta() {
+        var resultado = ResultadoDto.criar("14:00", List.of("01","02","03","04","05","06","07"), LocalDate.of(2024, 1, 15));
+        given(conferencia.isCarregado()).willReturn(true);
+        given(conferencia.conferir(any(int[].class), eq(2), eq(50)))
+                .willReturn(new ConferenciaDto(List.of(1, 2, 3), 2, 10, 1, List.of(new ConferenciaDto.Acerto(resultado, 3))));
+
+        webTestClient.get()
+                .uri("/rest/v1/resultados/conferencia?numeros=3,2,1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.sorteiosComparados").isEqualTo(10)
+                .jsonPath("$.encontrados").isEqualTo(1)
+                .jsonPath("$.resultados[0].acertos").isEqualTo(3)
+                .jsonPath("$.resultados[0].resultado.horario").isEqualTo("14:00");
+    }
+
+    @Test
+    @DisplayName("POST /rest/v1/resultados/conferencia/lote deve responder NDJSON com o id do job")
+    void deveConferirLoteEmNdjson() {
+        given(conferencia.isCarregado()).willReturn(true);
+        given(conferenciaLote.conferir(anyString(), any(), any(), any(), eq(4)))
+                .willReturn(Flux.just(
+                        ConferenciaLoteVeredito.conferido(1, "a", 1, 4, new int[] {0, 0, 0, 1, 1}),
+                        ConferenciaLoteVeredito.invalido(2, "b", "Números devem estar entre 0 e 99")));
+
+        String corpo = webTestClient.post()
+                .uri("/rest/v1/resultados/conferencia/lote")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"id\":\"a\",\"numeros\":[1,2,3,4]}\n{\"id\":\"b\",\"numeros\":[100]}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(ResultadoController.CABECALHO_JOB_LOTE)
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        List<String> linhas = corpo.lines().toList();
+        assertEquals(2, linhas.size());
+        assertTrue(linhas.get(0).contains("\"premiados\":1"));
+        assertTrue(linhas.get(1).contains("\"erro\""));
+    }
+
+    @Test
+    @DisplayName("POST /rest/v1/resultados/conferencia/lote deve retornar 400 para período invertido")
+    void deveRetornar400ParaPeriodoInvertidoNoLote() {
+        given(conferencia.isCarregado()).willReturn(true);
+
+        webTestClient.post()
+                .uri("/rest/v1/resultados/conferencia/lote?inicio=2024-02-01&fim=2024-01-01")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"id\":\"a\",\"numeros\":[1]}\n")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
 }
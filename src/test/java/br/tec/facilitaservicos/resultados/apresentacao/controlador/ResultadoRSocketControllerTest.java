@@ -0,0 +1,86 @@
+package br.tec.facilitaservicos.resultados.apresentacao.controlador;
+
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.PublicadorNovosResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ResultadoRSocketControllerTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 6, 1);
+
+    private final PublicadorNovosResultados publicador = new PublicadorNovosResultados(new ResultadoMapper());
+    private final ResultadoRSocketController controller =
+        new ResultadoRSocketController(mock(ResultadoService.class), publicador);
+
+    private static ResultadoR2dbc resultado(long id, String horario) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc(horario, "01", "02", "03", "04", "05", "06", "07", DIA);
+        resultado.setId(id);
+        return resultado;
+    }
+
+    @Test
+    void canalDeveFiltrarPelosHorariosMaisRecentesDoCliente() {
+        Sinks.Many<List<String>> horarios = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(controller.canalNovos(horarios.asFlux()).map(ResultadoDto::id))
+            .then(() -> horarios.tryEmitNext(List.of("14:00")))
+            .then(() -> publicador.aplicar(List.of(resultado(1, "09:00"), resultado(2, "14:00"))))
+            .expectNext(2L)
+            .then(() -> horarios.tryEmitNext(List.of()))
+            .then(() -> publicador.aplicar(List.of(resultado(3, "09:00"), resultado(4, "21:00"))))
+            .expectNext(3L, 4L)
+            .then(horarios::tryEmitComplete)
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    void deveRejeitarHorarioEPeriodoInvalidos() {
+        StepVerifier.create(controller.buscarUltimoPorHorario("14h"))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        StepVerifier.create(controller.historico(new ResultadoRSocketController.Periodo(DIA, DIA.minusDays(1))))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        StepVerifier.create(controller.historico(new ResultadoRSocketController.Periodo(DIA.minusYears(5), DIA)))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+
+    @Test
+    void streamDeveTerminarNaExpiracaoDoToken() {
+        Instant agora = Instant.now();
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("scheduler")
+            .issuedAt(agora)
+            .expiresAt(agora.plus(Duration.ofHours(1)))
+            .build();
+
+        StepVerifier.withVirtualTime(() -> controller.novos()
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(new JwtAuthenticationToken(jwt))))
+            .expectSubscription()
+            .thenAwait(Duration.ofHours(1).plusSeconds(1))
+            .expectError(CredentialsExpiredException.class)
+            .verify();
+    }
+}
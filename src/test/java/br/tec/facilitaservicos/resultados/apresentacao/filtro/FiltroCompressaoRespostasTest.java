@@ -0,0 +1,143 @@
+package br.tec.facilitaservicos.resultados.apresentacao.filtro;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.WebFilterChain;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import reactor.core.publisher.Mono;
+
+class FiltroCompressaoRespostasTest {
+
+    private static final byte[] GRANDE = "{\"numero\":\"07\",\"frequencia\":10},".repeat(100).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PEQUENO = "{\"horario\":\"14:00\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final FiltroCompressaoRespostas filtro = new FiltroCompressaoRespostas(RateLimiterRegistry.of(
+        RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofHours(1))
+            .timeoutDuration(Duration.ZERO)
+            .build()));
+    private final AtomicInteger chamadas = new AtomicInteger();
+
+    @BeforeEach
+    void iniciar() {
+        filtro.iniciar();
+    }
+
+    private WebFilterChain cadeia(byte[] corpo) {
+        return exchange -> {
+            chamadas.incrementAndGet();
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(corpo)));
+        };
+    }
+
+    private MockServerHttpResponse executar(String acceptEncoding, byte[] corpo) {
+        return executar(acceptEncoding, corpo, null);
+    }
+
+    private MockServerHttpResponse executar(String acceptEncoding, byte[] corpo, HandlerMethod handler) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/rest/v1/resultados/ranking?limite=50")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+        if (handler != null) {
+            exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        }
+        filtro.filter(exchange, cadeia(corpo)).block();
+        return exchange.getResponse();
+    }
+
+    private static byte[] corpo(MockServerHttpResponse response) {
+        return DataBufferUtils.join(response.getBody())
+            .map(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                return bytes;
+            })
+            .block();
+    }
+
+    @Test
+    void deveComprimirUmaVezEResponderVariantesDoCache() throws IOException {
+        MockServerHttpResponse gzip = executar("gzip, deflate", GRANDE);
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), gzip.getHeaders().getVary());
+        assertArrayEquals(GRANDE, new GZIPInputStream(new ByteArrayInputStream(corpo(gzip))).readAllBytes());
+
+        MockServerHttpResponse deflate = executar("deflate", GRANDE);
+        assertEquals("deflate", deflate.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(GRANDE, new InflaterInputStream(new ByteArrayInputStream(corpo(deflate))).readAllBytes());
+
+        MockServerHttpResponse identidade = executar("identity", GRANDE);
+        assertNull(identidade.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(MediaType.APPLICATION_JSON, identidade.getHeaders().getContentType());
+        assertArrayEquals(GRANDE, corpo(identidade));
+
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void deveDescartarCacheANovaVersaoDosDados() {
+        executar("gzip", GRANDE);
+        filtro.aposAplicar(List.of());
+        executar("gzip", GRANDE);
+
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test
+    void naoDeveComprimirNemGuardarRespostasPequenas() {
+        MockServerHttpResponse primeira = executar("gzip", PEQUENO);
+        executar("gzip", PEQUENO);
+
+        assertNull(primeira.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(PEQUENO, corpo(primeira));
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test
+    void deveAplicarORateLimiterDoControladorAosAcertosNoCache() throws NoSuchMethodException {
+        HandlerMethod handler = new HandlerMethod(new ControladorLimitado(),
+            ControladorLimitado.class.getMethod("ranking"));
+
+        executar("gzip", GRANDE, handler);
+        MockServerHttpResponse acerto = executar("gzip", GRANDE, handler);
+        assertEquals("gzip", acerto.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(1, chamadas.get());
+
+        // Sem permissão no período, a requisição segue ao controlador
+        executar("gzip", GRANDE, handler);
+        assertEquals(2, chamadas.get());
+    }
+
+    static class ControladorLimitado {
+
+        @RateLimiter(name = "resultados-public")
+        public void ranking() {
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package br.tec.facilitaservicos.resultados.carga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.tec.facilitaservicos.resultados.aplicacao.servico.CacheConsultasResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.SincronizacaoIncrementalResultados;
+import br.tec.facilitaservicos.resultados.config.BaseIntegracao;
+import br.tec.facilitaservicos.resultados.config.SegurancaTesteConfig;
+import br.tec.facilitaservicos.resultados.infraestrutura.ConnectionFactoryRoteada;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ============================================================================
+ * 🏋️ TESTE DE CARGA PONTA A PONTA - MYSQL (TESTCONTAINERS) + WEBFLUX
+ * ============================================================================
+ *
+ * Popula o MySQL com anos de resultados sintéticos e dispara os endpoints
+ * /ultimo, /hoje, /ranking, /estatisticas e a listagem paginada em taxa fixa
+ * e em rampa (modelo aberto: a latência é medida a partir do instante
+ * agendado, sem omissão coordenada quando o servidor atrasa).
+ *
+ * Relatório JSON em target/carga/relatorio-carga.json com p50/p99/p999,
+ * throughput e saturação do pool R2DBC (adquiridas/pendentes amostradas).
+ *
+ * Fora da suíte padrão (tag "carga"). Execução: mvn test -Pcarga
+ * Parâmetros (system properties): carga.anos, carga.duracao, carga.taxa,
+ * carga.taxa-final, carga.concorrencia
+ *
+ * @author Sistema de Migração R2DBC
+ * @version 1.0
+ * @since 2024
+ */
+@Tag("carga")
+@Import(SegurancaTesteConfig.class)
+class CargaResultadosTest extends BaseIntegracao {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaResultadosTest.class);
+
+    private static final String[] HORARIOS = {"09:00", "11:00", "14:00", "16:00", "18:00", "21:00"};
+    private static final int LINHAS_POR_INSERT = 1000;
+    private static final Path RELATORIO = Path.of("target", "carga", "relatorio-carga.json");
+
+    private static final int ANOS = Integer.getInteger("carga.anos", 5);
+    private static final int DURACAO_SEGUNDOS = Integer.getInteger("carga.duracao", 30);
+    private static final int TAXA = Integer.getInteger("carga.taxa", 200);
+    private static final int TAXA_FINAL = Integer.getInteger("carga.taxa-final", 1000);
+    private static final int CONCORRENCIA = Integer.getInteger("carga.concorrencia", 512);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private SincronizacaoIncrementalResultados sincronizacao;
+
+    @Autowired
+    private CacheConsultasResultados cache;
+
+    private WebClient cliente;
+    private long linhasInseridas;
+    private final List<Map<String, Object>> cenarios = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void propriedadesCarga(final DynamicPropertyRegistry r) {
+        // O rate limiter da API limitaria a taxa medida, não o serviço
+        r.add("resilience4j.ratelimiter.instances.resultados-service.limit-for-period", () -> 1_000_000);
+        r.add("resilience4j.ratelimiter.instances.resultados-service.limit-refresh-period", () -> "1s");
+        r.add("resultados.aquecimento.inicializacao.habilitado", () -> false);
+        r.add("logging.level.[br.tec.facilitaservicos.resultados]", () -> "WARN");
+    }
+
+    @BeforeAll
+    void popularBanco() {
+        cliente = WebClient.builder()
+            .baseUrl("http://localhost:" + porta + "/rest/v1/resultados")
+            .build();
+
+        long inicio = System.nanoTime();
+        linhasInseridas = inserirResultadosSinteticos(LocalDate.now(), ANOS).block(Duration.ofMinutes(10));
+        logger.info("🏋️ {} resultados sintéticos inseridos em {} ms",
+            linhasInseridas, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+
+        // Aplica o delta no índice em memória e descarta caches montados com a base vazia
+        // (a segunda chamada cobre um ciclo do agendador já em andamento)
+        sincronizacao.aguardarCargaInicial()
+            .then(sincronizacao.sincronizar())
+            .then(Mono.delay(Duration.ofSeconds(1)))
+            .then(sincronizacao.sincronizar())
+            .block(Duration.ofMinutes(2));
+        cache.invalidarTudo();
+
+        // Aquecimento (JIT, pool, caches) fora da medição
+        executarCenario("aquecimento", Math.min(TAXA, 100), Math.min(TAXA, 100), 5);
+        cenarios.clear();
+    }
+
+    @AfterAll
+    void gravarRelatorio() throws IOException {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("data", Instant.now().toString());
+        relatorio.put("java", System.getProperty("java.version"));
+        relatorio.put("processadores", Runtime.getRuntime().availableProcessors());
+        relatorio.put("resultadosNaBase", linhasInseridas);
+        relatorio.put("concorrenciaMaxima", CONCORRENCIA);
+        relatorio.put("cenarios", cenarios);
+
+        Files.createDirectories(RELATORIO.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(RELATORIO.toFile(), relatorio);
+        logger.info("📄 Relatório de carga: {}", RELATORIO.toAbsolutePath());
+    }
+
+    @Test
+    @DisplayName("Taxa fixa: mistura de endpoints sustentada")
+    void taxaFixa() {
+        Map<String, Object> cenario = executarCenario("taxa-fixa", TAXA, TAXA, DURACAO_SEGUNDOS);
+        assertThat((double) cenario.get("taxaErro")).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("Rampa: taxa crescente até a taxa final")
+    void rampa() {
+        Map<String, Object> cenario = executarCenario("rampa", TAXA, TAXA_FINAL, DURACAO_SEGUNDOS);
+        assertThat((long) cenario.get("requisicoes")).isPositive();
+    }
+
+    // ========================================================================
+    // 🚦 GERADOR DE CARGA (MODELO ABERTO)
+    // ========================================================================
+
+    private Map<String, Object> executarCenario(String nome, int taxaInicial, int taxaFinal, int segundos) {
+        SimpleMeterRegistry registro = new SimpleMeterRegistry();
+        Map<String, Timer> timers = new ConcurrentHashMap<>();
+        Timer total = criarTimer(registro, "todos");
+        AtomicLong erros = new AtomicLong();
+        AmostragemPool pool = new AmostragemPool(connectionFactory);
+
+        IntFunction<Requisicao> mistura = misturaEndpoints();
+        AtomicLong sequencia = new AtomicLong();
+
+        Disposable amostragem = Flux.interval(Duration.ofMillis(100)).subscribe(i -> pool.amostrar());
+        long inicio = System.nanoTime();
+        try {
+            Flux.range(0, segundos)
+                .concatMap(segundo -> {
+                    int taxa = segundos <= 1 ? taxaInicial
+                        : taxaInicial + (int) ((long) (taxaFinal - taxaInicial) * segundo / (segundos - 1));
+                    return Flux.interval(Duration.ofNanos(1_000_000_000L / Math.max(1, taxa))).take(taxa);
+                })
+                // Instante agendado capturado antes de qualquer fila do cliente
+                .map(tick -> new Disparo(mistura.apply((int) sequencia.getAndIncrement()), System.nanoTime()))
+                .onBackpressureBuffer()
+                .flatMap(disparo -> cliente.get().uri(disparo.requisicao().uri())
+                    .exchangeToMono(resposta -> resposta.releaseBody().thenReturn(resposta.statusCode().is2xxSuccessful()))
+                    .onErrorReturn(false)
+                    .doOnNext(sucesso -> {
+                        long nanos = System.nanoTime() - disparo.agendadoEm();
+                        total.record(nanos, TimeUnit.NANOSECONDS);
+                        timers.computeIfAbsent(disparo.requisicao().endpoint(), e -> criarTimer(registro, e))
+                            .record(nanos, TimeUnit.NANOSECONDS);
+                        if (!sucesso) {
+                            erros.incrementAndGet();
+                        }
+                    }), CONCORRENCIA)
+                .blockLast(Duration.ofSeconds(segundos + 120L));
+        } finally {
+            amostragem.dispose();
+        }
+        double duracao = (System.nanoTime() - inicio) / 1e9;
+
+        Map<String, Object> cenario = new LinkedHashMap<>();
+        cenario.put("nome", nome);
+        cenario.put("taxaInicial", taxaInicial);
+        cenario.put("taxaFinal", taxaFinal);
+        cenario.put("duracaoSegundos", arredondar(duracao));
+        cenario.put("requisicoes", total.count());
+        cenario.put("erros", erros.get());
+        cenario.put("taxaErro", total.count() == 0 ? 0.0 : (double) erros.get() / total.count());
+        cenario.put("throughputRps", arredondar(total.count() / duracao));
+        cenario.put("latenciaMs", latencias(total));
+        Map<String, Object> porEndpoint = new LinkedHashMap<>();
+        timers.forEach((endpoint, timer) -> porEndpoint.put(endpoint, latencias(timer)));
+        cenario.put("porEndpoint", porEndpoint);
+        cenario.put("pool", pool.resumo());
+        cenarios.add(cenario);
+
+        logger.info("🏋️ {}: {} req em {} s ({} req/s), p99 {} ms, erros {}", nome, total.count(),
+            arredondar(duracao), cenario.get("throughputRps"),
+            ((Map<?, ?>) cenario.get("latenciaMs")).get("p99"), erros.get());
+        return cenario;
+    }
+
+    /**
+     * Mistura ponderada: /ultimo e /hoje dominam (consulta do apostador),
+     * listagem percorre páginas profundas, ranking/estatísticas são pesados
+     */
+    private static IntFunction<Requisicao> misturaEndpoints() {
+        return i -> switch (i % 10) {
+            case 0, 1, 2 -> new Requisicao("ultimo", "/ultimo/" + HORARIOS[i % HORARIOS.length]);
+            case 3, 4 -> new Requisicao("hoje", "/hoje?pagina=0&tamanho=20");
+            case 5, 6 -> new Requisicao("listagem", "?pagina=" + (i / 10) % 200 + "&tamanho=20");
+            case 7, 8 -> new Requisicao("ranking", "/ranking?limite=50");
+            default -> new Requisicao("estatisticas", "/estatisticas");
+        };
+    }
+
+    private static Timer criarTimer(SimpleMeterRegistry registro, String endpoint) {
+        return Timer.builder("carga.latencia")
+            .tag("endpoint", endpoint)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .percentilePrecision(2)
+            // Janela única cobrindo o cenário inteiro
+            .distributionStatisticExpiry(Duration.ofHours(1))
+            .distributionStatisticBufferLength(1)
+            .register(registro);
+    }
+
+    private static Map<String, Object> latencias(Timer timer) {
+        Map<String, Object> latencias = new LinkedHashMap<>();
+        for (ValueAtPercentile valor : timer.takeSnapshot().percentileValues()) {
+            String chave = switch (String.valueOf(valor.percentile())) {
+                case "0.5" -> "p50";
+                case "0.99" -> "p99";
+                default -> "p999";
+            };
+            latencias.put(chave, arredondar(valor.value(TimeUnit.MILLISECONDS)));
+        }
+        latencias.put("media", arredondar(timer.mean(TimeUnit.MILLISECONDS)));
+        latencias.put("max", arredondar(timer.max(TimeUnit.MILLISECONDS)));
+        return latencias;
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+
+    // ========================================================================
+    // 🌱 MASSA SINTÉTICA
+    // ========================================================================
+
+    /**
+     * Um resultado por horário por dia, de {@code ate} até {@code anos} para trás,
+     * em INSERTs multi-linha (valores gerados aqui, sem entrada externa)
+     */
+    private Mono<Long> inserirResultadosSinteticos(LocalDate ate, int anos) {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        LocalDate inicio = ate.minusYears(anos);
+        List<String> linhas = new ArrayList<>();
+        for (LocalDate data = inicio; !data.isAfter(ate); data = data.plusDays(1)) {
+            for (String horario : HORARIOS) {
+                linhas.add(linhaSintetica(aleatorio, horario, data));
+            }
+        }
+
+        return Flux.range(0, (linhas.size() + LINHAS_POR_INSERT - 1) / LINHAS_POR_INSERT)
+            .concatMap(bloco -> databaseClient.sql(
+                    "INSERT IGNORE INTO resultados (horario, primeiro, segundo, terceiro, quarto, quinto, sexto, setimo, soma, data_resultado) VALUES "
+                        + String.join(",", linhas.subList(bloco * LINHAS_POR_INSERT,
+                            Math.min(linhas.size(), (bloco + 1) * LINHAS_POR_INSERT))))
+                .fetch()
+                .rowsUpdated())
+            .reduce(0L, Long::sum);
+    }
+
+    private static String linhaSintetica(SplittableRandom aleatorio, String horario, LocalDate data) {
+        StringBuilder linha = new StringBuilder(96).append("('").append(horario).append('\'');
+        int soma = 0;
+        for (int i = 0; i < 7; i++) {
+            int numero = aleatorio.nextInt(1, 26);
+            soma += numero;
+            linha.append(",'").append(numero < 10 ? "0" : "").append(numero).append('\'');
+        }
+        return linha.append(",'").append(soma).append("','").append(data).append("')").toString();
+    }
+
+    // ========================================================================
+    // 🏊 SATURAÇÃO DO POOL R2DBC
+    // ========================================================================
+
+    /**
+     * Amostra cada pool da ConnectionFactory roteada (OLTP, analítico e réplicas)
+     * ou o pool único do Spring Boot quando o roteamento está desligado
+     */
+    private static final class AmostragemPool {
+
+        private final Map<String, AmostragemUmPool> pools = new LinkedHashMap<>();
+
+        AmostragemPool(ConnectionFactory connectionFactory) {
+            if (connectionFactory instanceof ConnectionFactoryRoteada roteada) {
+                roteada.pools().forEach((nome, pool) -> adicionar(nome, pool));
+            } else if (connectionFactory instanceof ConnectionPool pool) {
+                adicionar(ConnectionFactoryRoteada.PRIMARIO, pool);
+            }
+        }
+
+        private void adicionar(String nome, ConnectionPool pool) {
+            pool.getMetrics().ifPresent(metricas -> pools.put(nome, new AmostragemUmPool(metricas)));
+        }
+
+        void amostrar() {
+            pools.values().forEach(AmostragemUmPool::amostrar);
+        }
+
+        Map<String, Object> resumo() {
+            Map<String, Object> resumo = new LinkedHashMap<>();
+            if (pools.isEmpty()) {
+                resumo.put("disponivel", false);
+                return resumo;
+            }
+            pools.forEach((nome, pool) -> resumo.put(nome, pool.resumo()));
+            return resumo;
+        }
+    }
+
+    private static final class AmostragemUmPool {
+
+        private final PoolMetrics metricas;
+        private long amostras;
+        private long somaAdquiridas;
+        private long somaPendentes;
+        private int maxAdquiridas;
+        private int maxPendentes;
+        private long amostrasSaturadas;
+
+        AmostragemUmPool(PoolMetrics metricas) {
+            this.metricas = metricas;
+        }
+
+        synchronized void amostrar() {
+            int adquiridas = metricas.acquiredSize();
+            int pendentes = metricas.pendingAcquireSize();
+            amostras++;
+            somaAdquiridas += adquiridas;
+            somaPendentes += pendentes;
+            maxAdquiridas = Math.max(maxAdquiridas, adquiridas);
+            maxPendentes = Math.max(maxPendentes, pendentes);
+            if (adquiridas >= metricas.getMaxAllocatedSize()) {
+                amostrasSaturadas++;
+            }
+        }
+
+        synchronized Map<String, Object> resumo() {
+            Map<String, Object> resumo = new LinkedHashMap<>();
+            resumo.put("tamanhoMaximo", metricas.getMaxAllocatedSize());
+            resumo.put("amostras", amostras);
+            resumo.put("maxAdquiridas", maxAdquiridas);
+            resumo.put("mediaAdquiridas", amostras == 0 ? 0.0 : arredondar((double) somaAdquiridas / amostras));
+            resumo.put("maxPendentes", maxPendentes);
+            resumo.put("mediaPendentes", amostras == 0 ? 0.0 : arredondar((double) somaPendentes / amostras));
+            resumo.put("fracaoSaturada", amostras == 0 ? 0.0 : arredondar((double) amostrasSaturadas / amostras));
+            return resumo;
+        }
+    }
+
+    private record Requisicao(String endpoint, String uri) {
+    }
+
+    private record Disparo(Requisicao requisicao, long agendadoEm) {
+    }
+}
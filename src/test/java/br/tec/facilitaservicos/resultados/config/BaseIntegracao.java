@@ -42,5 +42,11 @@ public abstract class BaseIntegracao {
         
         // Desabilitar repositórios Redis em testes
         r.add("spring.data.redis.repositories.enabled", () -> false);
+
+        // Sem instantâneo local em disco entre execuções
+        r.add("resultados.instantaneo.habilitado", () -> false);
+
+        // Porta RSocket livre, sem conflito entre execuções paralelas
+        r.add("spring.rsocket.server.port", () -> 0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package br.tec.facilitaservicos.resultados.configuracao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GuardaRestauracaoCheckpointTest {
+
+    private static Map<String, String> impressoes(Map<String, String> variaveis, Map<String, String> secrets) {
+        return GuardaRestauracaoCheckpoint.calcularImpressoes(
+            GuardaRestauracaoCheckpoint.capturarConfiguracao(variaveis::get, secrets::get));
+    }
+
+    @Test
+    @DisplayName("Aponta só os itens alterados, com URL JDBC e R2DBC equivalentes")
+    void apontaItensAlterados() {
+        Map<String, String> checkpoint = impressoes(
+            Map.of("SPRING_R2DBC_URL", "jdbc:mysql://build:3306/conexao_de_sorte", "AZURE_CLIENT_ID", "a"),
+            Map.of("conexao-de-sorte-database-password", "senha-build\n"));
+
+        Map<String, String> mesmoAmbiente = impressoes(
+            Map.of("SPRING_R2DBC_URL", "r2dbc:mysql://build:3306/conexao_de_sorte", "AZURE_CLIENT_ID", "a"),
+            Map.of("conexao-de-sorte-database-password", "senha-build"));
+        assertTrue(GuardaRestauracaoCheckpoint.alterados(checkpoint, mesmoAmbiente).isEmpty());
+
+        Map<String, String> pod = impressoes(
+            Map.of("SPRING_R2DBC_URL", "r2dbc:mysql://prod:3306/conexao_de_sorte", "AZURE_CLIENT_ID", "b"),
+            Map.of("conexao-de-sorte-database-password", "senha-prod"));
+        assertEquals(Set.of("r2dbc.url", "r2dbc.password", "AZURE_CLIENT_ID"),
+            GuardaRestauracaoCheckpoint.alterados(checkpoint, pod));
+    }
+
+    @Test
+    @DisplayName("Sem checkpoint registrado nada é considerado alterado")
+    void semCheckpoint() {
+        assertTrue(GuardaRestauracaoCheckpoint.alterados(null, impressoes(Map.of(), Map.of())).isEmpty());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
 import reactor.core.publisher.Flux;
@@ -60,10 +61,14 @@ public class TestConfigtreeSecretsAutoConfiguration {
 
         // Configurações padrão para os métodos mais comuns
         Mockito.when(mockRepo.findAll()).thenReturn(Flux.empty());
+        Mockito.when(mockRepo.findAll(Mockito.any(Sort.class))).thenReturn(Flux.empty());
         Mockito.when(mockRepo.findAllPaginado(Mockito.any(Pageable.class))).thenReturn(Flux.empty());
         Mockito.when(mockRepo.findByDataResultadoAfter(
             Mockito.any(LocalDate.class), Mockito.any(Pageable.class)))
             .thenReturn(Flux.empty());
+        Mockito.when(mockRepo.findByDataResultadoOrderByHorario(
+            Mockito.any(LocalDate.class), Mockito.any(Pageable.class)))
+            .thenReturn(Flux.empty());
 
         return mockRepo;
     }
@@ -0,0 +1,53 @@
+package br.tec.facilitaservicos.resultados.dominio.entidade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NumerosSorteadosTest {
+
+    @Test
+    @DisplayName("Lista completa equivale a List.of e é imutável")
+    void listaCompleta() {
+        var numeros = NumerosSorteados.de("01", "02", "03", "04", "05", "06", "07");
+
+        assertEquals(List.of("01", "02", "03", "04", "05", "06", "07"), numeros);
+        assertEquals(List.of("01", "02", "03", "04", "05", "06", "07").hashCode(), numeros.hashCode());
+        assertEquals(28, numeros.somar());
+        assertThrows(UnsupportedOperationException.class, () -> numeros.add("08"));
+        assertThrows(IndexOutOfBoundsException.class, () -> numeros.get(7));
+    }
+
+    @Test
+    @DisplayName("Nulos são descartados e a soma fica indisponível")
+    void descartaNulos() {
+        var numeros = NumerosSorteados.de(null, "02", null, "04", "05", null, "07");
+
+        assertEquals(List.of("02", "04", "05", "07"), numeros);
+        assertThrows(IndexOutOfBoundsException.class, () -> numeros.get(4));
+        assertEquals(-1, numeros.somar());
+    }
+
+    @Test
+    @DisplayName("Conversão tolera espaços e rejeita não numéricos")
+    void converter() {
+        assertEquals(7, NumerosSorteados.converter(" 07 "));
+        assertEquals(-1, NumerosSorteados.converter("7a"));
+        assertEquals(-1, NumerosSorteados.converter(""));
+        assertEquals(-1, NumerosSorteados.de("01", "02", "03", "04", "05", "06", "xx").somar());
+    }
+
+    @Test
+    @DisplayName("Entidade calcula a soma pelo caminho sem streams")
+    void somaNaEntidade() {
+        var entidade = new ResultadoR2dbc("14:00", "10", "20", "30", "40", "50", "60", "70", LocalDate.now());
+
+        assertEquals("280", entidade.getSoma());
+        assertEquals("10-20-30-40-50-60-70", entidade.obterNumerosTexto());
+    }
+}
@@ -0,0 +1,107 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Mono;
+
+/**
+ * Roteamento entre dois MySQL locais: o banco de cada container identifica
+ * quem atendeu a consulta ({@code SELECT DATABASE()}).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ConnectionFactoryRoteadaTest {
+
+    @Container
+    static final MySQLContainer<?> primario = new MySQLContainer<>("mysql:8.4").withDatabaseName("primario");
+
+    @Container
+    static final MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.4").withDatabaseName("replica");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ConnectionFactoryRoteada roteada;
+    private MonitorReplicas monitor;
+
+    private static ConnectionPool pool(MySQLContainer<?> container) {
+        ConnectionFactoryOptions opcoes = ConnectionFactoryOptions.parse(
+                "r2dbc:mysql://" + container.getHost() + ":" + container.getFirstMappedPort() + "/"
+                    + container.getDatabaseName())
+            .mutate()
+            // SHOW REPLICA STATUS exige o privilégio REPLICATION CLIENT
+            .option(ConnectionFactoryOptions.USER, "root")
+            .option(ConnectionFactoryOptions.PASSWORD, container.getPassword())
+            .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes)).maxSize(2).build());
+    }
+
+    private void criar(boolean aceitarSemReplicacao) {
+        monitor = new MonitorReplicas(Map.of("replica-1", pool(replica)), Duration.ofSeconds(5),
+            Duration.ofSeconds(5), aceitarSemReplicacao, registry);
+        roteada = new ConnectionFactoryRoteada(pool(primario), null, monitor, registry);
+    }
+
+    private Mono<String> banco() {
+        return DatabaseClient.create(roteada).sql("SELECT DATABASE()").map(linha -> linha.get(0, String.class)).one();
+    }
+
+    @AfterEach
+    void encerrar() {
+        if (monitor != null) {
+            monitor.parar();
+        }
+        roteada.destroy();
+    }
+
+    @Test
+    @DisplayName("Leitura marcada vai à réplica saudável; sem marca ou com noPrimario, ao primário")
+    void roteiaLeiturasMarcadas() {
+        criar(true);
+        assertEquals("primario", RoteamentoLeitura.naReplica(banco()).block(), "antes da primeira verificação");
+
+        monitor.verificarTodas().block();
+
+        assertEquals("replica", RoteamentoLeitura.naReplica(banco()).block());
+        assertEquals("primario", banco().block());
+        assertEquals("primario", RoteamentoLeitura.noPrimario(RoteamentoLeitura.naReplica(banco())).block());
+    }
+
+    @Test
+    @DisplayName("Réplica sem replicação ativa sai das leituras e o primário assume")
+    void voltaAoPrimarioSemReplicaSaudavel() {
+        criar(false);
+        monitor.verificarTodas().block();
+
+        assertEquals("primario", RoteamentoLeitura.naReplica(banco()).block());
+        assertEquals(1.0, registry.get("resultados.replicas.leituras.primario").counter().count());
+        assertEquals(0.0, registry.get("resultados.replicas.saudavel").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Consulta analítica vai ao pool analítico, com aquisição medida por pool")
+    void isolaConsultasAnaliticas() {
+        // O segundo container faz o papel do banco do pool analítico só para identificar o pool
+        roteada = new ConnectionFactoryRoteada(pool(primario), pool(replica), null, registry);
+
+        assertEquals("replica", RoteamentoLeitura.analitica(banco()).block());
+        assertEquals("primario", RoteamentoLeitura.naReplica(banco()).block());
+        assertEquals("replica", RoteamentoLeitura.noPrimario(RoteamentoLeitura.analitica(banco())).block());
+
+        assertEquals(2, registry.get("resultados.r2dbc.aquisicao").tag("pool", "analitico").timer().count());
+        assertEquals(1, registry.get("resultados.r2dbc.aquisicao").tag("pool", "primario").timer().count());
+    }
+}
@@ -0,0 +1,54 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.r2dbc.spi.Readable;
+
+class ConsultaProjecaoResultadosTest {
+
+    @Test
+    @DisplayName("ORDER BY aceita apenas campos da lista branca")
+    void ordenacaoListaBranca() {
+        assertEquals(ConsultaProjecaoResultados.ORDENACAO_PADRAO, ConsultaProjecaoResultados.clausulaOrdenacao(null));
+        assertEquals("horario ASC, id ASC", ConsultaProjecaoResultados.clausulaOrdenacao("horario,asc"));
+        assertEquals("data_resultado DESC, id DESC", ConsultaProjecaoResultados.clausulaOrdenacao("dataResultado"));
+        assertEquals("id DESC", ConsultaProjecaoResultados.clausulaOrdenacao("id,desc"));
+        assertEquals(ConsultaProjecaoResultados.ORDENACAO_PADRAO,
+            ConsultaProjecaoResultados.clausulaOrdenacao("horario; DROP TABLE resultados,asc"));
+    }
+
+    @Test
+    @DisplayName("Linha é convertida por posição direto em ResultadoDto")
+    void mapeiaLinha() {
+        LocalDateTime auditoria = LocalDateTime.of(2024, 6, 1, 14, 5);
+        Object[] valores = {7L, "14:00", "01", "02", "03", "04", "05", "06", "07", "28",
+            LocalDate.of(2024, 6, 1), auditoria, auditoria};
+        Readable linha = new Readable() {
+            @Override
+            public <T> T get(int indice, Class<T> tipo) {
+                return tipo.cast(valores[indice]);
+            }
+
+            @Override
+            public <T> T get(String nome, Class<T> tipo) {
+                throw new UnsupportedOperationException(nome);
+            }
+        };
+
+        var dto = ConsultaProjecaoResultados.paraDto(linha);
+
+        assertEquals(7L, dto.id());
+        assertEquals("14:00", dto.horario());
+        assertEquals(List.of("01", "02", "03", "04", "05", "06", "07"), dto.numeros());
+        assertEquals("28", dto.soma());
+        assertEquals(LocalDate.of(2024, 6, 1), dto.dataResultado());
+        assertEquals(auditoria, dto.dataModificacao());
+    }
+}
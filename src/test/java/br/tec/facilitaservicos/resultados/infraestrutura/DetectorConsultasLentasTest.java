@@ -0,0 +1,82 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.MutableQueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+
+class DetectorConsultasLentasTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DetectorConsultasLentas detector;
+
+    @SuppressWarnings("unchecked")
+    DetectorConsultasLentasTest() {
+        detector = new DetectorConsultasLentas(mock(ObjectProvider.class), new ObjectMapper(), registry);
+        ReflectionTestUtils.setField(detector, "capturasPorMinuto", 2);
+        ReflectionTestUtils.setField(detector, "explain", false);
+    }
+
+    private static MutableQueryExecutionInfo execucao(String sql, long duracaoMs) {
+        QueryInfo consulta = new QueryInfo(sql);
+        Bindings valores = new Bindings();
+        valores.addIndexBinding(new Bindings.IndexBinding(0, BoundValue.value("segredo")));
+        valores.addIndexBinding(new Bindings.IndexBinding(1, BoundValue.nullValue(Integer.class)));
+        consulta.getBindingsList().add(valores);
+
+        MutableQueryExecutionInfo execucao = new MutableQueryExecutionInfo();
+        execucao.setQueries(List.of(consulta));
+        execucao.setExecuteDuration(Duration.ofMillis(duracaoMs));
+        execucao.setSuccess(true);
+        return execucao;
+    }
+
+    @Test
+    @DisplayName("Só captura acima do limiar, sem valores de parâmetros")
+    void capturaSemValores() {
+        detector.afterQuery(execucao("SELECT * FROM resultados WHERE horario = ?", 20));
+        detector.afterQuery(execucao("SELECT * FROM resultados WHERE primeiro = ? OR segundo = ?", 900));
+
+        List<DetectorConsultasLentas.ConsultaLenta> recentes = detector.recentes();
+        assertEquals(1, recentes.size());
+        assertEquals(900, recentes.get(0).duracaoMs());
+        assertEquals(List.of("0: String", "1: null"), recentes.get(0).parametros());
+        assertFalse(recentes.get(0).toString().contains("segredo"));
+        assertEquals("nao-aplicavel", recentes.get(0).situacaoPlano());
+    }
+
+    @Test
+    @DisplayName("Capturas acima do limite por minuto são descartadas e contadas")
+    void limitaCapturasPorMinuto() {
+        for (int i = 0; i < 5; i++) {
+            detector.afterQuery(execucao("SELECT COUNT(*) FROM resultados", 1_000));
+        }
+
+        assertEquals(2, detector.recentes().size());
+        assertEquals(3.0, registry.get("resultados.consultas.lentas").tag("desfecho", "limite").counter().count());
+    }
+
+    @Test
+    @DisplayName("Apenas SELECT recebe EXPLAIN")
+    void reconheceSelect() {
+        assertTrue(DetectorConsultasLentas.ehSelect("  select numero FROM resultados"));
+        assertTrue(DetectorConsultasLentas.ehSelect("WITH x AS (SELECT 1) SELECT * FROM x"));
+        assertFalse(DetectorConsultasLentas.ehSelect("UPDATE resultados SET soma = ?"));
+    }
+}
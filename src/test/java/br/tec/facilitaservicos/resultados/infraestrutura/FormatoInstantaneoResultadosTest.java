@@ -0,0 +1,102 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+
+class FormatoInstantaneoResultadosTest {
+
+    private static final int REGISTRO = FormatoInstantaneoResultados.TAMANHO_REGISTRO;
+    private static final LocalDateTime MARCA = LocalDateTime.of(2024, 6, 1, 14, 5, 30, 123_000_000);
+    private static final long ORIGEM = FormatoInstantaneoResultados.identificarOrigem("r2dbc:mysql://db:3306/resultados");
+
+    @TempDir
+    Path diretorio;
+
+    private static ResultadoR2dbc resultado(long id, String horario, String... n) {
+        ResultadoR2dbc resultado = new ResultadoR2dbc(horario, n[0], n[1], n[2], n[3], n[4], n[5], n[6],
+            LocalDate.of(2024, 6, 1));
+        resultado.setId(id);
+        resultado.setCriadoEm(LocalDateTime.of(2024, 6, 1, 14, 0, 5));
+        resultado.setAtualizadoEm(LocalDateTime.of(2024, 6, 1, 14, 5, 30));
+        return resultado;
+    }
+
+    private Path gravar(List<ResultadoR2dbc> resultados) throws IOException {
+        byte[] registros = new byte[resultados.size() * REGISTRO];
+        ByteBuffer buffer = ByteBuffer.wrap(registros);
+        for (int i = 0; i < resultados.size(); i++) {
+            FormatoInstantaneoResultados.codificar(resultados.get(i), buffer, i * REGISTRO);
+        }
+        Path arquivo = diretorio.resolve("resultados.snap");
+        FormatoInstantaneoResultados.gravar(arquivo, registros, resultados.size(), MARCA, 2L, ORIGEM);
+        return arquivo;
+    }
+
+    @Test
+    void deveLerOQueFoiGravadoComAMarcaDagua() throws IOException {
+        ResultadoR2dbc semSoma = resultado(2, "21:00", "99", "98", "97", "96", "95", "94", "93");
+        semSoma.setSoma(null);
+        Path arquivo = gravar(List.of(resultado(1, "09:00", "01", "02", "03", "04", "05", "06", "07"), semSoma));
+
+        FormatoInstantaneoResultados.Conteudo conteudo = FormatoInstantaneoResultados.ler(arquivo);
+
+        assertEquals(MARCA, conteudo.marcaAtualizadoEm());
+        assertEquals(2L, conteudo.marcaId());
+        assertEquals(ORIGEM, conteudo.origem());
+        assertEquals(2, conteudo.resultados().size());
+        ResultadoR2dbc primeiro = conteudo.resultados().get(0);
+        assertEquals(1L, primeiro.getId());
+        assertEquals("09:00", primeiro.getHorario());
+        assertEquals(List.of("01", "02", "03", "04", "05", "06", "07"), primeiro.obterNumeros());
+        assertEquals("28", primeiro.getSoma());
+        assertEquals(LocalDate.of(2024, 6, 1), primeiro.getDataResultado());
+        assertEquals(LocalDateTime.of(2024, 6, 1, 14, 0, 5), primeiro.getCriadoEm());
+        assertEquals(LocalDateTime.of(2024, 6, 1, 14, 5, 30), primeiro.getAtualizadoEm());
+        assertNull(conteudo.resultados().get(1).getSoma());
+    }
+
+    @Test
+    void deveRejeitarArquivoCorrompidoOuTruncado() throws IOException {
+        Path arquivo = gravar(List.of(resultado(1, "09:00", "01", "02", "03", "04", "05", "06", "07")));
+        byte[] bytes = Files.readAllBytes(arquivo);
+
+        bytes[FormatoInstantaneoResultados.TAMANHO_CABECALHO + 30] ^= 1;
+        Files.write(arquivo, bytes);
+        assertThrows(IOException.class, () -> FormatoInstantaneoResultados.ler(arquivo));
+
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> FormatoInstantaneoResultados.ler(arquivo));
+    }
+
+    @Test
+    void deveIdentificarOrigemSemEsquemaCredenciaisNemParametros() {
+        assertEquals(ORIGEM, FormatoInstantaneoResultados.identificarOrigem("jdbc:mysql://DB:3306/resultados?useSSL=true"));
+        assertEquals(ORIGEM, FormatoInstantaneoResultados.identificarOrigem("r2dbc:mysql://app:s3nh@@db:3306/resultados"));
+        assertNotEquals(ORIGEM, FormatoInstantaneoResultados.identificarOrigem("r2dbc:mysql://db:3306/resultados_homolog"));
+        assertNotEquals(ORIGEM, FormatoInstantaneoResultados.identificarOrigem("r2dbc:mysql://outro-db:3306/resultados"));
+    }
+
+    @Test
+    void deveRecusarTextoMaiorQueAColuna() {
+        ResultadoR2dbc resultado = resultado(1, "09:00:00", "01", "02", "03", "04", "05", "06", "07");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> FormatoInstantaneoResultados.codificar(resultado, ByteBuffer.allocate(REGISTRO), 0));
+    }
+}
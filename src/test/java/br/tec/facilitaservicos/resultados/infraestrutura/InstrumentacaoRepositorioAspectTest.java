@@ -0,0 +1,51 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Pageable;
+
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class InstrumentacaoRepositorioAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RepositorioResultadoR2dbc alvo = mock(RepositorioResultadoR2dbc.class);
+    private final RepositorioResultadoR2dbc repositorio;
+
+    InstrumentacaoRepositorioAspectTest() {
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.addAspect(new InstrumentacaoRepositorioAspect(registry));
+        repositorio = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Tempo e linhas registrados por método, com o desfecho da consulta")
+    void registraTempoELinhasPorMetodo() {
+        when(alvo.findHorariosRecentes()).thenReturn(Flux.just("09:00", "14:00", "21:00"));
+        when(alvo.countTotal()).thenReturn(Mono.error(new IllegalStateException("falha")));
+        when(alvo.findAllPaginado(any(Pageable.class))).thenReturn(Flux.never());
+
+        StepVerifier.create(repositorio.findHorariosRecentes()).expectNextCount(3).verifyComplete();
+        StepVerifier.create(repositorio.countTotal()).verifyError(IllegalStateException.class);
+        StepVerifier.create(repositorio.findAllPaginado(Pageable.ofSize(10))).thenCancel().verify();
+
+        assertEquals(1, registry.get("resultados.repositorio.consulta")
+            .tags("metodo", "findHorariosRecentes", "resultado", "sucesso").timer().count());
+        assertEquals(3.0, registry.get("resultados.repositorio.linhas")
+            .tag("metodo", "findHorariosRecentes").summary().totalAmount());
+        assertEquals(1, registry.get("resultados.repositorio.consulta")
+            .tags("metodo", "countTotal", "resultado", "erro").timer().count());
+        assertEquals(1, registry.get("resultados.repositorio.consulta")
+            .tags("metodo", "findAllPaginado", "resultado", "cancelado").timer().count());
+    }
+}
@@ -0,0 +1,94 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.tec.facilitaservicos.resultados.aplicacao.mapper.ResultadoMapper;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ArmazemColunarResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.CacheConsultasResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ConferenciaResultados;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.IndiceUltimoResultadoPorHorario;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.KernelsContagem;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ResultadoService;
+import br.tec.facilitaservicos.resultados.aplicacao.servico.ServicoDataHoraAtual;
+import br.tec.facilitaservicos.resultados.apresentacao.dto.ResultadoDto;
+import br.tec.facilitaservicos.resultados.dominio.entidade.ResultadoR2dbc;
+import br.tec.facilitaservicos.resultados.dominio.repositorio.RepositorioResultadoR2dbc;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class InstrumentacaoServicoAspectTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 6, 1);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConsultaProjecaoResultados projecao = mock(ConsultaProjecaoResultados.class);
+    private final ResultadoService servico;
+
+    @SuppressWarnings("unchecked")
+    InstrumentacaoServicoAspectTest() {
+        Cache<String, Object> cacheResultados = Caffeine.newBuilder().build();
+        ObjectProvider<Cache<String, Object>> comCache = mock(ObjectProvider.class);
+        when(comCache.getIfAvailable()).thenReturn(cacheResultados);
+        ObjectProvider<Cache<String, Object>> semCache = mock(ObjectProvider.class);
+
+        IndiceUltimoResultadoPorHorario indice = mock(IndiceUltimoResultadoPorHorario.class);
+        when(indice.obter(any())).thenReturn(Optional.empty());
+        RepositorioResultadoR2dbc repositorio = mock(RepositorioResultadoR2dbc.class);
+
+        ArmazemColunarResultados armazem = new ArmazemColunarResultados();
+        ResultadoService alvo = new ResultadoService(repositorio, new ResultadoMapper(), indice, projecao,
+            new CacheConsultasResultados(comCache, semCache, semCache), armazem,
+            new ConferenciaResultados(armazem, KernelsContagem.selecionar("escalar")),
+            new ServicoDataHoraAtual(), WebClient.builder());
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new InstrumentacaoServicoAspect(registry));
+        servico = fabrica.getProxy();
+    }
+
+    private static ResultadoDto resultado(String horario) {
+        ResultadoR2dbc entidade = new ResultadoR2dbc(horario, "01", "02", "03", "04", "05", "06", "07", DIA);
+        entidade.setId(1L);
+        return new ResultadoMapper().paraDto(entidade);
+    }
+
+    private long contagem(String cache) {
+        return registry.get("resultados.consultas")
+            .tags("operacao", "buscarUltimoPorHorario", "cache", cache, "resultado", "sucesso")
+            .timer().count();
+    }
+
+    @Test
+    @DisplayName("Timer por operação com o desfecho do cache e o tamanho devolvido")
+    void registraDesfechoDoCacheETamanho() {
+        when(projecao.buscarUltimoPorHorario("14:00")).thenReturn(Mono.just(resultado("14:00")));
+        when(projecao.listarPorPeriodo(DIA, DIA)).thenReturn(Flux.just(resultado("09:00"), resultado("14:00")));
+
+        servico.buscarUltimoPorHorario("14:00").block();
+        servico.buscarUltimoPorHorario("14:00").block();
+        servico.buscarPorPeriodo(DIA, DIA).collectList().block();
+
+        assertEquals(1, contagem("ausencia"));
+        assertEquals(1, contagem("acerto"));
+        assertEquals(1, registry.get("resultados.consultas")
+            .tags("operacao", "buscarPorPeriodo", "cache", "nenhum").timer().count());
+        assertEquals(2.0, registry.get("resultados.consultas.tamanho")
+            .tag("operacao", "buscarPorPeriodo").summary().totalAmount());
+    }
+}
@@ -0,0 +1,55 @@
+package br.tec.facilitaservicos.resultados.infraestrutura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MigradorEsquemaTest {
+
+    @Test
+    void deveDividirComandosIgnorandoComentariosELiterais() {
+        String sql = """
+            -- comentário; com ponto e vírgula
+            CREATE TABLE t (c VARCHAR(5) COMMENT 'HH:mm; texto');
+            /* bloco; */ INSERT INTO t VALUES ('a\\';b');
+            # outro comentário
+            SELECT 1
+            """;
+
+        List<String> comandos = MigradorEsquema.dividirComandos(sql);
+
+        assertEquals(3, comandos.size());
+        assertTrue(comandos.get(0).startsWith("CREATE TABLE t"));
+        assertTrue(comandos.get(0).endsWith("'HH:mm; texto')"));
+        assertEquals("INSERT INTO t VALUES ('a\\';b')", comandos.get(1));
+        assertEquals("SELECT 1", comandos.get(2));
+    }
+
+    @Test
+    void deveAgruparCreateIndexConsecutivos() {
+        List<String> comandos = List.of(
+            "ALTER TABLE resultados ADD UNIQUE INDEX uk (horario)",
+            "CREATE INDEX a ON resultados (soma)",
+            "CREATE UNIQUE INDEX b ON outra (x)",
+            "ANALYZE TABLE resultados",
+            "CREATE INDEX c ON resultados (horario)");
+
+        List<List<String>> blocos = MigradorEsquema.agruparBlocos(comandos);
+
+        assertEquals(4, blocos.size());
+        assertEquals(2, blocos.get(1).size());
+        assertEquals("outra", MigradorEsquema.tabelaDoIndice(blocos.get(1).get(1)));
+        assertNull(MigradorEsquema.tabelaDoIndice("ANALYZE TABLE resultados"));
+    }
+
+    @Test
+    void deveOrdenarVersoesNumericamente() {
+        assertTrue(MigradorEsquema.compararVersoes("1.2", "1.10") < 0);
+        assertTrue(MigradorEsquema.compararVersoes("2", "1.9") > 0);
+        assertEquals(0, MigradorEsquema.compararVersoes("1", "1.0"));
+    }
+}